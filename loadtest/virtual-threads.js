@@ -0,0 +1,62 @@
+// 플랫폼 스레드 / 가상 스레드 모드 처리량 비교용 k6 스크립트
+//
+// 동시 연결 5,000개 = 채널 SSE 구독(장시간 연결) STREAM_VUS + 파일 다운로드 반복 DOWNLOAD_VUS.
+// 같은 DB/스토리지 설정으로 두 번 실행하고 download 시나리오의 http_reqs(초당 요청 수)와 http_req_duration p95/p99를 비교한다.
+//
+//   1) 기본 모드:     ./gradlew bootJar && SPRING_PROFILES_ACTIVE=prod java -jar build/libs/*.jar
+//   2) 가상 스레드:   ./gradlew bootJar -PjavaVersion=21 && SPRING_PROFILES_ACTIVE=prod,virtual-threads java -jar build/libs/*.jar
+//
+//   k6 run -e BASE_URL=http://localhost -e CHANNEL_ID=<채널 ID> -e BINARY_CONTENT_ID=<파일 ID> loadtest/virtual-threads.js
+//
+// 서버 측에서는 /actuator/metrics/discodeit.sse.subscribers, hikaricp.connections.pending, jvm.threads.live 를 함께 기록한다.
+// 클라이언트(k6) 장비의 파일 디스크립터 한도는 ulimit -n 10000 이상으로 올려 둔다.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost';
+const CHANNEL_ID = __ENV.CHANNEL_ID;
+const BINARY_CONTENT_ID = __ENV.BINARY_CONTENT_ID;
+const STREAM_VUS = parseInt(__ENV.STREAM_VUS || '2500', 10);
+const DOWNLOAD_VUS = parseInt(__ENV.DOWNLOAD_VUS || '2500', 10);
+const DURATION = __ENV.DURATION || '3m';
+
+export const options = {
+  discardResponseBodies: true,
+  scenarios: {
+    stream: {
+      executor: 'constant-vus',
+      exec: 'stream',
+      vus: STREAM_VUS,
+      duration: DURATION,
+    },
+    download: {
+      executor: 'constant-vus',
+      exec: 'download',
+      vus: DOWNLOAD_VUS,
+      duration: DURATION,
+      startTime: '30s', // 구독 연결이 모두 열린 뒤 측정 시작
+    },
+  },
+  thresholds: {
+    'http_req_duration{scenario:download}': ['p(95)<2000'],
+    'http_req_failed{scenario:download}': ['rate<0.01'],
+  },
+};
+
+// 연결을 유지하다가 클라이언트 timeout 으로 끊고 다시 연결한다 (timeout 은 실패로 집계되므로 stream 시나리오 실패율은 보지 않는다).
+export function stream() {
+  http.get(`${BASE_URL}/api/channels/${CHANNEL_ID}/events`, {
+    headers: { Accept: 'text/event-stream' },
+    timeout: '60s',
+    tags: { name: 'channel-events' },
+  });
+}
+
+export function download() {
+  const res = http.get(`${BASE_URL}/api/binaryContents/${BINARY_CONTENT_ID}/download`, {
+    redirects: 0, // S3 스토리지는 presigned URL 302 응답까지만 측정
+    tags: { name: 'binary-download' },
+  });
+  check(res, { 'download 200/302': (r) => r.status === 200 || r.status === 302 });
+}
@@ -0,0 +1,53 @@
+package com.sprint.mission.discodeit.benchmark;
+
+import com.sprint.mission.discodeit.DiscodeitApplication;
+import com.sprint.mission.discodeit.benchmark.BenchmarkSeeder.Seeded;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 벤치마크 fork마다 애플리케이션 컨텍스트를 내장 H2로 띄우고 데이터를 적재
+ * <p>
+ * 적재량은 jmh.users/jmh.channels/jmh.messages 시스템 프로퍼티로 바꿀 수 있다. Gradle 에서는 포크된 JVM에 전달되도록
+ * 프로젝트 프로퍼티로 지정한다. 예) {@code ./gradlew jmh -PjmhMessages=100000}
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDataSet {
+
+    private static final int USERS = Integer.getInteger("jmh.users", 10_000);
+    private static final int CHANNELS = Integer.getInteger("jmh.channels", 1_000);
+    private static final int MESSAGES = Integer.getInteger("jmh.messages", 1_000_000);
+
+    private ConfigurableApplicationContext context;
+
+    UUID memberUserId;
+    UUID hotChannelId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DiscodeitApplication.class)
+                .profiles("jmh")
+                .run();
+
+        Seeded seeded = new BenchmarkSeeder(context.getBean(JdbcTemplate.class))
+                .seed(USERS, CHANNELS, MESSAGES);
+        memberUserId = seeded.memberUserId();
+        hotChannelId = seeded.hotChannelId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
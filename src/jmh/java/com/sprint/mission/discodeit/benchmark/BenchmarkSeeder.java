@@ -0,0 +1,183 @@
+package com.sprint.mission.discodeit.benchmark;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 벤치마크용 데이터를 JDBC batch로 적재
+ * <p>
+ * 유저의 10%는 프로필, 메시지의 5%는 첨부파일을 가진다. 채널의 10%는 Private이며 멤버 5명씩을 가진다. 기준 유저는 Private 채널
+ * 20개에 참여하고, 기준 채널에는 전체 메시지의 1%가 몰려 있다. 난수 시드가 고정이라 실행마다 같은 분포가 만들어진다.
+ */
+public class BenchmarkSeeder {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int PRIVATE_MEMBERS = 5;
+    private static final int MEMBER_PRIVATE_CHANNELS = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+    private final Instant base = Instant.now().minus(Duration.ofDays(30));
+
+    public BenchmarkSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 적재 결과 중 벤치마크가 사용하는 ID
+     *
+     * @param memberUserId Private 채널에 참여한 기준 유저
+     * @param hotChannelId 메시지가 가장 많은 기준 채널
+     */
+    public record Seeded(UUID memberUserId, UUID hotChannelId) {
+
+    }
+
+    public Seeded seed(int userCount, int channelCount, int messageCount) {
+        List<UUID> userIds = seedUsers(userCount);
+        List<UUID> channelIds = seedChannels(channelCount);
+        UUID hotChannelId = channelIds.get(channelCount - 1);
+
+        seedPrivateMembers(channelIds, userIds);
+        seedMessages(messageCount, channelIds, userIds, hotChannelId);
+
+        jdbcTemplate.update("UPDATE channels c SET last_message_at ="
+                + " (SELECT MAX(m.created_at) FROM messages m WHERE m.channel_id = c.id)");
+        jdbcTemplate.execute("ANALYZE");
+
+        return new Seeded(userIds.get(0), hotChannelId);
+    }
+
+    List<UUID> seedUsers(int userCount) {
+        List<UUID> userIds = new ArrayList<>(userCount);
+        List<Object[]> profiles = new ArrayList<>();
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> statuses = new ArrayList<>();
+
+        Timestamp now = Timestamp.from(Instant.now());
+        for (int i = 0; i < userCount; i++) {
+            UUID userId = UUID.randomUUID();
+            userIds.add(userId);
+
+            UUID profileId = null;
+            if (i % 10 == 0) {
+                profileId = UUID.randomUUID();
+                profiles.add(new Object[]{profileId, now, "profile-" + i + ".png",
+                        1024L + random.nextInt(100_000), "image/png", "READY"});
+            }
+
+            users.add(new Object[]{userId, now, String.format("user%05d", i),
+                    "user" + i + "@codeit.com", "benchmark1234", profileId});
+            statuses.add(new Object[]{UUID.randomUUID(), now, userId,
+                    Timestamp.from(Instant.now().minusSeconds(random.nextInt(600)))});
+        }
+
+        batch("INSERT INTO binary_contents (id, created_at, file_name, size, content_type, status)"
+                + " VALUES (?, ?, ?, ?, ?, ?)", profiles);
+        batch("INSERT INTO users (id, created_at, username, email, password, profile_id)"
+                + " VALUES (?, ?, ?, ?, ?, ?)", users);
+        batch("INSERT INTO user_statuses (id, created_at, user_id, last_active_at)"
+                + " VALUES (?, ?, ?, ?)", statuses);
+        return userIds;
+    }
+
+    private List<UUID> seedChannels(int channelCount) {
+        List<UUID> channelIds = new ArrayList<>(channelCount);
+        List<Object[]> channels = new ArrayList<>();
+
+        Timestamp now = Timestamp.from(Instant.now());
+        for (int i = 0; i < channelCount; i++) {
+            UUID channelId = UUID.randomUUID();
+            channelIds.add(channelId);
+
+            boolean isPrivate = i % 10 == 0;
+            channels.add(new Object[]{channelId, now, isPrivate ? "PRIVATE" : "PUBLIC",
+                    isPrivate ? null : "channel-" + i, isPrivate ? null : "벤치마크 채널 " + i});
+        }
+
+        batch("INSERT INTO channels (id, created_at, type, name, description)"
+                + " VALUES (?, ?, ?, ?, ?)", channels);
+        return channelIds;
+    }
+
+    private void seedPrivateMembers(List<UUID> channelIds, List<UUID> userIds) {
+        List<Object[]> readStatuses = new ArrayList<>();
+        Timestamp now = Timestamp.from(Instant.now());
+
+        int joined = 0;
+        for (int i = 0; i < channelIds.size(); i += 10) {
+            UUID channelId = channelIds.get(i);
+            List<UUID> members = new ArrayList<>();
+            if (joined++ < MEMBER_PRIVATE_CHANNELS) {
+                members.add(userIds.get(0));
+            }
+            while (members.size() < PRIVATE_MEMBERS) {
+                UUID candidate = userIds.get(1 + random.nextInt(userIds.size() - 1));
+                if (!members.contains(candidate)) {
+                    members.add(candidate);
+                }
+            }
+
+            for (UUID userId : members) {
+                readStatuses.add(new Object[]{UUID.randomUUID(), now, userId, channelId, now});
+            }
+        }
+
+        batch("INSERT INTO read_statuses (id, created_at, user_id, channel_id, last_read_at)"
+                + " VALUES (?, ?, ?, ?, ?)", readStatuses);
+    }
+
+    private void seedMessages(int messageCount, List<UUID> channelIds, List<UUID> userIds,
+            UUID hotChannelId) {
+        List<Object[]> messages = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> attachments = new ArrayList<>();
+        List<Object[]> links = new ArrayList<>();
+
+        for (int i = 0; i < messageCount; i++) {
+            UUID messageId = UUID.randomUUID();
+            UUID channelId = i % 100 == 0
+                    ? hotChannelId
+                    : channelIds.get(random.nextInt(channelIds.size()));
+            Timestamp createdAt = Timestamp.from(base.plusMillis(i * 2_000L));
+
+            messages.add(new Object[]{messageId, createdAt, "벤치마크 메시지 " + i, channelId,
+                    userIds.get(random.nextInt(userIds.size()))});
+
+            if (i % 20 == 0) {
+                UUID attachmentId = UUID.randomUUID();
+                attachments.add(new Object[]{attachmentId, createdAt, "file-" + i + ".png",
+                        1024L + random.nextInt(1_000_000), "image/png", "READY"});
+                links.add(new Object[]{messageId, attachmentId});
+            }
+
+            if (messages.size() == BATCH_SIZE) {
+                flushMessages(messages, attachments, links);
+            }
+        }
+        flushMessages(messages, attachments, links);
+    }
+
+    private void flushMessages(List<Object[]> messages, List<Object[]> attachments,
+            List<Object[]> links) {
+        batch("INSERT INTO messages (id, created_at, content, channel_id, author_id)"
+                + " VALUES (?, ?, ?, ?, ?)", messages);
+        batch("INSERT INTO binary_contents (id, created_at, file_name, size, content_type, status)"
+                + " VALUES (?, ?, ?, ?, ?, ?)", attachments);
+        batch("INSERT INTO message_attachments (message_id, attachment_id) VALUES (?, ?)", links);
+        messages.clear();
+        attachments.clear();
+        links.clear();
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+}
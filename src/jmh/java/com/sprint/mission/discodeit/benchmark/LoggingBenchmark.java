@@ -0,0 +1,73 @@
+package com.sprint.mission.discodeit.benchmark;
+
+import ch.qos.logback.classic.Logger;
+import com.sprint.mission.discodeit.dto.Message.MessageDto;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
+import com.sprint.mission.discodeit.service.MessageService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 로그 레벨에 따른 요청 처리 시간 비교
+ * <p>
+ * MDCLoggingInterceptor와 같은 MDC 값을 넣고 메시지 첫 페이지를 조회한다. 로그는 비동기 파일 appender로만 보내고, 콘솔 appender는
+ * JMH 출력과 섞이지 않도록 분리한다. OFF와 INFO/DEBUG의 차이가 로깅 비용이다.
+ */
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    private static final String APP_LOGGER = "com.sprint.mission.discodeit";
+    private static final String SQL_LOGGER = "org.hibernate.SQL";
+
+    private static final Pageable PAGE = PageRequest.of(0, 50,
+            Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Param({"OFF", "INFO", "DEBUG"})
+    public LogLevel level;
+
+    private LoggingSystem loggingSystem;
+    private MessageService messageService;
+    private Logger rootLogger;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDataSet dataSet) {
+        loggingSystem = dataSet.getBean(LoggingSystem.class);
+        messageService = dataSet.getBean(MessageService.class);
+
+        rootLogger = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLogger.detachAppender("ASYNC_CONSOLE");
+
+        loggingSystem.setLogLevel(APP_LOGGER, level);
+        loggingSystem.setLogLevel(SQL_LOGGER, level);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        loggingSystem.setLogLevel(APP_LOGGER, LogLevel.WARN);
+        loggingSystem.setLogLevel(SQL_LOGGER, LogLevel.WARN);
+    }
+
+    @Benchmark
+    public PageResponse<MessageDto> messagePageRequest(BenchmarkDataSet dataSet) {
+        MDC.put("requestId", "bench001");
+        MDC.put("requestMethod", "GET");
+        MDC.put("requestURI", "/api/messages");
+        try {
+            return messageService.findAllByChannelId(dataSet.hotChannelId, null, PAGE);
+        } finally {
+            MDC.clear();
+        }
+    }
+}
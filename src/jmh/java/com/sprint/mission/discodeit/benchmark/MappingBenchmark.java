@@ -0,0 +1,88 @@
+package com.sprint.mission.discodeit.benchmark;
+
+import com.sprint.mission.discodeit.dto.Channel.ChannelDto;
+import com.sprint.mission.discodeit.dto.Message.MessageCursor;
+import com.sprint.mission.discodeit.dto.Message.MessageDto;
+import com.sprint.mission.discodeit.dto.User.UserDto;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.mapper.ChannelMapper;
+import com.sprint.mission.discodeit.mapper.MessageMapper;
+import com.sprint.mission.discodeit.mapper.UserMapper;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.repository.projection.MessageRow;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 매퍼 단독 비용
+ * <p>
+ * 엔티티와 projection 행은 준비 단계에서 한 번 읽어 두고, 측정은 DTO 변환만 한다. ChannelMapper는 Private 채널 참여자를 조회하므로
+ * DB 비용이 포함된다.
+ */
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private UserMapper userMapper;
+    private MessageMapper messageMapper;
+    private ChannelMapper channelMapper;
+
+    private List<User> users;
+    private List<MessageRow> messageRows;
+    private List<Channel> channels;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDataSet dataSet) {
+        userMapper = dataSet.getBean(UserMapper.class);
+        messageMapper = dataSet.getBean(MessageMapper.class);
+        channelMapper = dataSet.getBean(ChannelMapper.class);
+
+        EntityManager entityManager = dataSet.getBean(EntityManager.class);
+        TransactionTemplate transactionTemplate = dataSet.getBean(TransactionTemplate.class);
+
+        users = transactionTemplate.execute(status -> entityManager.createQuery(
+                        "SELECT u FROM User u LEFT JOIN FETCH u.profile LEFT JOIN FETCH u.status",
+                        User.class)
+                .setMaxResults(1_000)
+                .getResultList());
+
+        MessageCursor first = MessageCursor.first();
+        messageRows = dataSet.getBean(MessageRepository.class).findPageByChannelId(
+                dataSet.hotChannelId, first.createdAt(), first.id(), PageRequest.of(0, 50))
+                .getContent();
+
+        channels = dataSet.getBean(ChannelRepository.class).findAll();
+    }
+
+    @Benchmark
+    public List<UserDto> userMapping() {
+        List<UserDto> result = new ArrayList<>(users.size());
+        for (User user : users) {
+            result.add(userMapper.toDto(user));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<MessageDto> messageRowMapping() {
+        List<MessageDto> result = new ArrayList<>(messageRows.size());
+        for (MessageRow row : messageRows) {
+            result.add(messageMapper.toDto(row, List.of()));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ChannelDto> channelMapping() {
+        return channelMapper.toDtoList(channels);
+    }
+}
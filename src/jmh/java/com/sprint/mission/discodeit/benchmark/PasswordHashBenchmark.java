@@ -0,0 +1,52 @@
+package com.sprint.mission.discodeit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * BCrypt cost 별 해시/검증 시간 분포
+ * <p>
+ * 로그인 한 번은 matches 한 번이므로, 배포 장비에서 로그인 p99 목표 안에 드는 가장 큰 strength를
+ * discodeit.security.password.strength 로 정한다. concurrentMatches 는 해시 executor 스레드 수만큼 동시에 검증할 때의
+ * 분포로, 코어 경합까지 포함한 값이다. 백분위가 필요하므로 sample 모드로 실행한다:
+ * ./gradlew jmh -PjmhIncludes=PasswordHash -PjmhMode=sample
+ */
+@State(Scope.Benchmark)
+public class PasswordHashBenchmark {
+
+    private static final String RAW_PASSWORD = "benchmark-password-1234";
+
+    @Param({"8", "10", "12"})
+    public int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        encoded = encoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(RAW_PASSWORD, encoded);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean concurrentMatches() {
+        return encoder.matches(RAW_PASSWORD, encoded);
+    }
+}
@@ -0,0 +1,66 @@
+package com.sprint.mission.discodeit.benchmark;
+
+import com.sprint.mission.discodeit.search.PostgresUserSearchIndex;
+import java.util.List;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * PostgreSQL 인덱스 기반 유저 검색 (접두어 B-tree 범위 조회 + 트라이그램 GiST KNN)
+ * <p>
+ * UserSearchBenchmark 는 내장 H2 와 메모리 인덱스를 쓰므로, 운영 기본값인 PostgresUserSearchIndex 는 Testcontainers 로 띄운
+ * PostgreSQL(docker-compose 와 같은 버전)에 schema.sql 을 적용하고 유저만 적재하여 따로 잰다. 시드 유저명은 user00000
+ * 형식이므로 "user" 는 접두어 조회만으로 limit 을 채우고, "user0001" 은 10명과 일치하여 부족한 만큼 트라이그램 조회가 이어지며,
+ * "usre0001" 은 접두어 일치 없이 트라이그램 조회만 실행된다. Docker 가 필요하므로 기본 실행에서는 제외되며 다음과 같이 실행한다:
+ * ./gradlew jmh -PjmhPostgres -PjmhIncludes=PostgresUserSearch -PjmhUsers=1000000
+ */
+@State(Scope.Benchmark)
+public class PostgresUserSearchBenchmark {
+
+    private static final int USERS = Integer.getInteger("jmh.users", 10_000);
+    private static final int LIMIT = 10;
+
+    @Param({"user", "user0001", "usre0001", "nomatch"})
+    public String query;
+
+    private PostgreSQLContainer<?> postgres;
+    private PostgresUserSearchIndex userSearchIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:17"));
+        postgres.start();
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(),
+                postgres.getUsername(), postgres.getPassword());
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        new BenchmarkSeeder(jdbcTemplate).seedUsers(USERS);
+        jdbcTemplate.execute("ANALYZE");
+
+        userSearchIndex = new PostgresUserSearchIndex(jdbcTemplate);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        postgres.stop();
+    }
+
+    @Benchmark
+    public List<UUID> search() {
+        return userSearchIndex.search(query, LIMIT);
+    }
+}
@@ -0,0 +1,45 @@
+package com.sprint.mission.discodeit.benchmark;
+
+import com.sprint.mission.discodeit.dto.Channel.ChannelDto;
+import com.sprint.mission.discodeit.dto.Channel.PrivateChannelCreateRequest;
+import com.sprint.mission.discodeit.service.ChannelService;
+import java.util.List;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 참여 인원별 Private 채널 생성 (참여자 ID 조회 + 채널/ReadStatus batch INSERT + DTO 변환)
+ * <p>
+ * 메시지 적재는 필요 없으므로 줄여서 실행한다:
+ * ./gradlew jmh -PjmhIncludes=PrivateChannelCreate -PjmhMessages=1000
+ */
+@State(Scope.Benchmark)
+public class PrivateChannelCreateBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int participants;
+
+    private ChannelService channelService;
+    private PrivateChannelCreateRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDataSet dataSet) {
+        channelService = dataSet.getBean(ChannelService.class);
+
+        List<UUID> participantIds = dataSet.getBean(JdbcTemplate.class).queryForList(
+                "SELECT id FROM users ORDER BY id FETCH FIRST ? ROWS ONLY", UUID.class,
+                participants);
+        request = new PrivateChannelCreateRequest(participantIds);
+    }
+
+    @Benchmark
+    public ChannelDto create() {
+        return channelService.create(request);
+    }
+}
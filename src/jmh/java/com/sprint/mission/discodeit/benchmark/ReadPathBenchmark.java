@@ -0,0 +1,68 @@
+package com.sprint.mission.discodeit.benchmark;
+
+import com.sprint.mission.discodeit.dto.Channel.ChannelDto;
+import com.sprint.mission.discodeit.dto.Message.MessageCursor;
+import com.sprint.mission.discodeit.dto.Message.MessageDto;
+import com.sprint.mission.discodeit.dto.User.UserDto;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
+import com.sprint.mission.discodeit.service.ChannelService;
+import com.sprint.mission.discodeit.service.MessageService;
+import com.sprint.mission.discodeit.service.UserService;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 서비스 계층 조회 경로 (DB 조회 + DTO 변환)
+ */
+@State(Scope.Benchmark)
+public class ReadPathBenchmark {
+
+    private static final Pageable PAGE = PageRequest.of(0, 50,
+            Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    private ChannelService channelService;
+    private MessageService messageService;
+    private UserService userService;
+
+    private String deepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDataSet dataSet) {
+        channelService = dataSet.getBean(ChannelService.class);
+        messageService = dataSet.getBean(MessageService.class);
+        userService = dataSet.getBean(UserService.class);
+
+        // 기준 채널 히스토리 중간 지점의 커서
+        PageResponse<MessageDto> page = messageService.findAllByChannelId(dataSet.hotChannelId,
+                null, PageRequest.of(0, 5_000, Sort.by(Sort.Direction.DESC, "createdAt")));
+        List<MessageDto> content = page.content();
+        deepCursor = MessageCursor.from(content.get(content.size() - 1)).encode();
+    }
+
+    @Benchmark
+    public List<ChannelDto> channelListing(BenchmarkDataSet dataSet) {
+        return channelService.findAllByUserId(dataSet.memberUserId);
+    }
+
+    @Benchmark
+    public PageResponse<MessageDto> messageFirstPage(BenchmarkDataSet dataSet) {
+        return messageService.findAllByChannelId(dataSet.hotChannelId, null, PAGE);
+    }
+
+    @Benchmark
+    public PageResponse<MessageDto> messageDeepPage(BenchmarkDataSet dataSet) {
+        return messageService.findAllByChannelId(dataSet.hotChannelId, deepCursor, PAGE);
+    }
+
+    @Benchmark
+    public PageResponse<UserDto> userListing() {
+        return userService.findAll(null, null, PAGE);
+    }
+}
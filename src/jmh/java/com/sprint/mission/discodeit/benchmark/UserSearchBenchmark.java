@@ -0,0 +1,42 @@
+package com.sprint.mission.discodeit.benchmark;
+
+import com.sprint.mission.discodeit.dto.User.UserDto;
+import com.sprint.mission.discodeit.search.InMemoryUserSearchIndex;
+import com.sprint.mission.discodeit.service.UserService;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 멘션/자동완성 유저 검색 (메모리 접두어 인덱스 조회 + 상위 N건 projection 조회 + DTO 변환)
+ * <p>
+ * 시드 유저명은 user00000 형식이므로 "user" 는 전체 유저와, "user0001" 은 10명과 일치한다. 유저 수를 늘려 실행:
+ * ./gradlew jmh -PjmhIncludes=UserSearch -PjmhUsers=1000000 -PjmhMessages=1000
+ */
+@State(Scope.Benchmark)
+public class UserSearchBenchmark {
+
+    private static final int LIMIT = 10;
+
+    @Param({"user", "user0001", "nomatch"})
+    public String query;
+
+    private UserService userService;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDataSet dataSet) {
+        userService = dataSet.getBean(UserService.class);
+
+        // 시드 데이터는 애플리케이션 시작 이후 JDBC 로 적재되므로 인덱스를 다시 적재
+        dataSet.getBean(InMemoryUserSearchIndex.class).load();
+    }
+
+    @Benchmark
+    public List<UserDto> search() {
+        return userService.search(query, LIMIT);
+    }
+}
@@ -1,41 +1,80 @@
 package com.sprint.mission.discodeit.aop;
 
-import java.util.Arrays;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * {@code @Logging}이 붙은 클래스의 public 메서드 실행 시간을 Micrometer Timer로 기록
+ * <p>
+ * 메트릭 이름은 {@code discodeit.service}이며 class, method, exception 태그로 구분한다. 인자는 기록하지 않고, 임계값을 넘은
+ * 호출만 WARN으로 남긴다.
+ */
 @Aspect
 @Component
 public class LoggingAspect {
 
     private static final Logger log = LoggerFactory.getLogger(LoggingAspect.class);
 
-    @Around("@annotation(com.sprint.mission.discodeit.annotation.Logging)")
-    public Object logExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
-        long start = System.currentTimeMillis();
+    static final String METRIC_NAME = "discodeit.service";
+    private static final String NO_EXCEPTION = "none";
 
-        String methodName = joinPoint.getSignature().toShortString();
-        Object[] args = joinPoint.getArgs();
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
 
-        log.info("[호출] : {} with args = {}", methodName, Arrays.toString(args));
+    public LoggingAspect(MeterRegistry meterRegistry,
+            @Value("${discodeit.metrics.slow-threshold:1s}") Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
 
-        Object result = null;
+    @Around("@within(com.sprint.mission.discodeit.annotation.Logging) && execution(public * *(..))")
+    public Object logExecutionTime(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        String exception = NO_EXCEPTION;
         try {
-            result = joinPoint.proceed();
-            return result;
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
         } finally {
-            long end = System.currentTimeMillis();
-            long time = end - start;
+            long elapsed = System.nanoTime() - start;
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
 
-            if (time > 1000) {
-                log.warn("[느린 실행] : {} = {}ms ", methodName, time);
-            } else {
-                log.info("[실행 완료] : {} = {}ms ", methodName, time);
+            timers.computeIfAbsent(new TimerKey(method, exception), this::register)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+
+            if (elapsed > slowThresholdNanos) {
+                log.warn("[느린 실행] : {} = {}ms", joinPoint.getSignature().toShortString(),
+                        TimeUnit.NANOSECONDS.toMillis(elapsed));
             }
         }
     }
+
+    private Timer register(TimerKey key) {
+        return Timer.builder(METRIC_NAME)
+                .description("@Logging 서비스 메서드 실행 시간")
+                .tag("class", key.method().getDeclaringClass().getSimpleName())
+                .tag("method", key.method().getName())
+                .tag("exception", key.exception())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(Method method, String exception) {
+
+    }
 }
@@ -0,0 +1,64 @@
+package com.sprint.mission.discodeit.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sprint.mission.discodeit.dto.Channel.ChannelDto;
+import com.sprint.mission.discodeit.dto.User.UserDto;
+import com.sprint.mission.discodeit.mapper.ChannelMapper;
+import com.sprint.mission.discodeit.mapper.UserMapper;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String USERS = "users";
+    public static final String CHANNELS = "channels";
+    public static final String BINARY_CONTENTS = "binaryContents";
+
+    private static final String DEFAULT_SPEC = "maximumSize=10000,expireAfterWrite=30s";
+
+    /**
+     * 캐시 이름별 크기/TTL을 적용한 Caffeine 캐시 매니저
+     * <p>
+     * 히트/미스 메트릭을 위해 통계를 기록하고, 수정/삭제에 따른 eviction은 트랜잭션 커밋 이후에 반영한다. 커밋 전에 비우면 동시에 조회한
+     * 요청이 이전 값을 다시 캐시할 수 있기 때문이다.
+     * <p>
+     * UserDto/ChannelDto 의 online 은 TTL 동안 고정되지 않도록 캐시에서 꺼낼 때마다 다시 계산한다.
+     */
+    @Bean
+    public CacheManager cacheManager(CacheSpecProperties cacheSpecProperties,
+            UserMapper userMapper, ChannelMapper channelMapper) {
+        Map<String, UnaryOperator<Object>> refreshers = Map.of(
+                USERS, value -> userMapper.withPresence((UserDto) value),
+                CHANNELS, value -> channelMapper.withPresence((ChannelDto) value)
+        );
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name,
+                    com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                UnaryOperator<Object> refresher = refreshers.get(name);
+                if (refresher == null) {
+                    return super.adaptCaffeineCache(name, cache);
+                }
+                return new PresenceRefreshingCache(name, cache, isAllowNullValues(), refresher);
+            }
+        };
+        cacheManager.setAllowNullValues(false);
+
+        for (String name : new String[]{USERS, CHANNELS, BINARY_CONTENTS}) {
+            String spec = cacheSpecProperties.getSpecs().getOrDefault(name, DEFAULT_SPEC);
+            cacheManager.registerCustomCache(name, Caffeine.from(spec).recordStats().build());
+        }
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
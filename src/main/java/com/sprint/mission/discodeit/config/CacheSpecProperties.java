@@ -0,0 +1,18 @@
+package com.sprint.mission.discodeit.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "discodeit.cache")
+@Getter
+@Setter
+public class CacheSpecProperties {
+
+    /**
+     * 캐시 이름별 Caffeine 설정 (예: {@code maximumSize=10000,expireAfterWrite=30s})
+     */
+    private Map<String, String> specs = new LinkedHashMap<>();
+}
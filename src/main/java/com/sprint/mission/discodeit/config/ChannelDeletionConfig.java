@@ -0,0 +1,28 @@
+package com.sprint.mission.discodeit.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ChannelDeletionConfig {
+
+    /**
+     * 채널 메시지 삭제 전용 executor
+     * <p>
+     * 스레드 수가 곧 동시에 삭제 중인 채널 수이므로 가상 스레드 모드에서도 고정 크기 풀을 쓴다. 큐가 가득 차 거절된 채널은 deleted_at
+     * 이 남아 있으므로 다음 sweep 에서 다시 제출된다. 종료 시 진행 중인 작업을 기다리지 않으며, 재시작 후 남은 메시지부터 이어서 삭제한다.
+     */
+    @Bean(name = "channelDeletionExecutor")
+    public TaskExecutor channelDeletionExecutor(ChannelDeletionProperties channelDeletionProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(channelDeletionProperties.getConcurrency());
+        executor.setMaxPoolSize(channelDeletionProperties.getConcurrency());
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("channel-deletion-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
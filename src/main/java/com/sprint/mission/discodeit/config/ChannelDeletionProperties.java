@@ -0,0 +1,37 @@
+package com.sprint.mission.discodeit.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "discodeit.channel.deletion")
+@Getter
+@Setter
+public class ChannelDeletionProperties {
+
+    /**
+     * 한 트랜잭션에서 삭제할 최대 메시지 수
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * 청크 사이 대기 시간. 삭제가 다른 요청의 DB 사용을 밀어내지 않게 한다.
+     */
+    private Duration chunkPause = Duration.ofMillis(50);
+
+    /**
+     * 동시에 삭제를 진행할 채널 수
+     */
+    private int concurrency = 1;
+
+    /**
+     * 재시작이나 실패로 남은 삭제 대상 채널을 다시 찾는 간격
+     */
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    /**
+     * 삭제가 끝난 채널의 진행 상황을 조회할 수 있도록 메모리에 남겨 두는 시간
+     */
+    private Duration progressRetention = Duration.ofHours(1);
+}
@@ -0,0 +1,40 @@
+package com.sprint.mission.discodeit.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ChannelEventConfig {
+
+    /**
+     * SSE 전송 전용 executor
+     * <p>
+     * 구독자마다 동시에 최대 하나의 전송 작업만 올라가므로 대기 작업 수는 구독자 수를 넘지 않는다. 느린 클라이언트에 쓰는 동안 블로킹되는 것은 이
+     * 스레드뿐이며, 발행 측(커밋 이후 요청 스레드)은 큐에 넣기만 한다. sendTimeout 을 넘겨 멈춘 구독자는 해제되어 다시 예약되지 않으므로, 막힌
+     * 연결 하나가 스레드를 붙잡는 시간은 컨테이너의 소켓 쓰기 timeout 으로 끝난다.
+     * <p>
+     * 가상 스레드 모드에서는 전송 작업마다 가상 스레드를 쓰므로 느린 구독자가 다른 구독자의 전송을 막지 않는다.
+     */
+    @Bean(name = "channelEventExecutor")
+    public TaskExecutor channelEventExecutor(ChannelEventProperties channelEventProperties,
+            Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("channel-event-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(channelEventProperties.getSenderPoolSize());
+        executor.setMaxPoolSize(channelEventProperties.getSenderPoolSize());
+        executor.setThreadNamePrefix("channel-event-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
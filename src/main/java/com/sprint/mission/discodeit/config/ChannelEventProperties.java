@@ -0,0 +1,37 @@
+package com.sprint.mission.discodeit.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "discodeit.sse")
+@Getter
+@Setter
+public class ChannelEventProperties {
+
+    /**
+     * 구독자 하나가 밀려 있을 수 있는 최대 이벤트 수. 넘치면 해당 구독자의 연결을 끊는다.
+     */
+    private int queueCapacity = 256;
+
+    /**
+     * SSE 연결 최대 유지 시간. 만료되면 클라이언트(EventSource)가 다시 연결한다.
+     */
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+
+    /**
+     * 이벤트 하나를 쓰는 데 이보다 오래 걸리는 구독자는 연결을 끊는다. heartbeat 주기마다 검사한다.
+     */
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 끊어진 연결을 찾아내기 위한 주석(ping) 전송 간격
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /**
+     * 구독자 큐를 비우며 실제로 전송하는 스레드 수
+     */
+    private int senderPoolSize = 4;
+}
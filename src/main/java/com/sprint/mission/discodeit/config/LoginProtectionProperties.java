@@ -0,0 +1,42 @@
+package com.sprint.mission.discodeit.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "discodeit.security.login")
+@Getter
+@Setter
+public class LoginProtectionProperties {
+
+    /**
+     * 유저명 하나당 연속으로 허용하는 로그인 실패 수 (버킷 크기)
+     */
+    private int usernameCapacity = 10;
+
+    /**
+     * 유저명 버킷이 비었다가 가득 찰 때까지 걸리는 시간
+     */
+    private Duration usernameRefillPeriod = Duration.ofMinutes(1);
+
+    /**
+     * 클라이언트 IP 하나당 연속으로 허용하는 로그인 시도 수 (버킷 크기)
+     */
+    private int ipCapacity = 50;
+
+    /**
+     * IP 버킷이 비었다가 가득 찰 때까지 걸리는 시간
+     */
+    private Duration ipRefillPeriod = Duration.ofMinutes(1);
+
+    /**
+     * 존재하지 않는 유저명을 DB 조회 없이 거절하는 시간
+     */
+    private Duration unknownUsernameTtl = Duration.ofSeconds(30);
+
+    /**
+     * 메모리에 유지하는 유저명/IP 버킷 최대 개수 (초과 시 오래된 것부터 제거)
+     */
+    private long maximumKeys = 100_000;
+}
@@ -0,0 +1,30 @@
+package com.sprint.mission.discodeit.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class PasswordHashConfig {
+
+    /**
+     * 패스워드 해시 전용 executor
+     * <p>
+     * 로그인이 몰려도 해시 계산은 poolSize 개의 스레드에서만 돌아 다른 요청이 쓸 CPU를 남긴다. 큐가 가득 차면 호출 스레드에서 대신
+     * 실행하지 않고 거절한다 (executor 메트릭은 Actuator가 bean 이름으로 자동 등록).
+     * <p>
+     * CPU 작업이므로 가상 스레드 모드에서도 플랫폼 스레드 풀을 그대로 사용한다.
+     */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            PasswordHashProperties passwordHashProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(passwordHashProperties.getPoolSize());
+        executor.setMaxPoolSize(passwordHashProperties.getPoolSize());
+        executor.setQueueCapacity(passwordHashProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
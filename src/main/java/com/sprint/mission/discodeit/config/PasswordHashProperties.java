@@ -0,0 +1,37 @@
+package com.sprint.mission.discodeit.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "discodeit.security.password")
+@Getter
+@Setter
+public class PasswordHashProperties {
+
+    /**
+     * BCrypt cost factor (4~31). 1 증가할 때마다 해시 시간이 약 2배가 된다. PasswordHashBenchmark 결과로 정한다.
+     */
+    private int strength = 10;
+
+    /**
+     * 해시 전용 스레드 수. 해시는 CPU 작업이므로 코어 수를 넘기지 않는다.
+     */
+    private int poolSize = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * 대량 등록이 동시에 쓸 수 있는 해시 스레드 수. poolSize 보다 작게 두어 나머지를 로그인/가입에 남긴다.
+     */
+    private int bulkConcurrency = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * 대기 가능한 해시 작업 수. 초과하면 즉시 503으로 거절한다.
+     */
+    private int queueCapacity = 200;
+
+    /**
+     * 큐 대기를 포함해 해시 결과를 기다리는 최대 시간
+     */
+    private Duration timeout = Duration.ofSeconds(3);
+}
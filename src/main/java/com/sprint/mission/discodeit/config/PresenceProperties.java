@@ -0,0 +1,22 @@
+package com.sprint.mission.discodeit.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "discodeit.presence")
+@Getter
+@Setter
+public class PresenceProperties {
+
+    /**
+     * 메모리에 모인 마지막 활동 시각을 DB에 반영하는 간격
+     */
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    /**
+     * 한 번의 JDBC batch에 담을 최대 UPDATE 수
+     */
+    private int batchSize = 1000;
+}
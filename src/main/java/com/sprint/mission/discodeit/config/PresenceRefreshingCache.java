@@ -0,0 +1,27 @@
+package com.sprint.mission.discodeit.config;
+
+import java.util.function.UnaryOperator;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * 캐시에서 꺼낸 값의 접속 상태를 다시 계산하는 Caffeine 캐시
+ * <p>
+ * 엔티티에서 온 필드는 그대로 쓰고, 캐시 시점에 고정되는 online 만 조회할 때마다 갱신한다.
+ */
+class PresenceRefreshingCache extends CaffeineCache {
+
+    private final UnaryOperator<Object> refresher;
+
+    PresenceRefreshingCache(String name,
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+            boolean allowNullValues, UnaryOperator<Object> refresher) {
+        super(name, cache, allowNullValues);
+        this.refresher = refresher;
+    }
+
+    @Override
+    protected Object fromStoreValue(Object storeValue) {
+        Object value = super.fromStoreValue(storeValue);
+        return value == null ? null : refresher.apply(value);
+    }
+}
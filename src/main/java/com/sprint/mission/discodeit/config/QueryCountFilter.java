@@ -0,0 +1,56 @@
+package com.sprint.mission.discodeit.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청 하나에서 실행된 Hibernate SQL 수를 {@code discodeit.http.queries} 분포로 기록
+ * <p>
+ * uri 태그는 매핑된 경로 패턴을 사용하므로 경로 변수 값마다 메트릭이 늘어나지 않는다. N+1 회귀는 특정 uri의 분포가 커지는 것으로 드러난다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "discodeit.http.queries";
+
+    // MeterRegistry가 없는 웹 슬라이스 테스트에서는 기록하지 않는다.
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+        if (meterRegistry == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        QueryCountInspector.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int queries = QueryCountInspector.stop();
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("요청당 실행된 SQL 수")
+                    .baseUnit("queries")
+                    .tag("method", request.getMethod())
+                    .tag("uri", pattern == null ? "UNKNOWN" : pattern.toString())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(queries);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.sprint.mission.discodeit.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 현재 스레드에서 Hibernate가 실행하는 SQL 수를 센다.
+ * <p>
+ * {@link #start()}와 {@link #stop()} 사이에서만 세며, 요청 단위 측정은 {@link QueryCountFilter}가 담당한다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+
+    public static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    /**
+     * 측정을 끝내고 센 SQL 수를 반환
+     */
+    public static int stop() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter == null ? 0 : counter[0];
+    }
+}
@@ -0,0 +1,16 @@
+package com.sprint.mission.discodeit.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Scheduled} 작업 활성화
+ * <p>
+ * 스케줄러 스레드 수는 spring.task.scheduling.pool.size 로 정한다. 스케줄러 스레드는 짧게 끝나는 작업만 실행하고, 오래 걸리는 작업은
+ * 전용 executor 에 제출한다 (스토리지 GC, 채널 삭제).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
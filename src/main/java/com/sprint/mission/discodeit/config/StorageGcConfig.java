@@ -0,0 +1,32 @@
+package com.sprint.mission.discodeit.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class StorageGcConfig {
+
+    /**
+     * 스토리지 GC 전용 executor
+     * <p>
+     * GC 는 스토리지 전체를 훑고 삭제 속도 제한으로 대기하므로 몇 시간씩 걸릴 수 있다. 스케줄러 스레드에서 실행하면 presence/unread flush,
+     * SSE heartbeat 가 그동안 멈추므로 스케줄러는 제출만 한다. 큐 없이 스레드 하나만 두어 이전 실행이 끝나지 않았으면 제출이 거절되고 그 회차를
+     * 건너뛴다.
+     */
+    @Bean(name = "storageGcExecutor")
+    @ConditionalOnProperty(name = "discodeit.storage.gc.enabled", havingValue = "true",
+            matchIfMissing = true)
+    public TaskExecutor storageGcExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("storage-gc-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
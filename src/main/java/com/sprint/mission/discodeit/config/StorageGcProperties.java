@@ -0,0 +1,34 @@
+package com.sprint.mission.discodeit.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "discodeit.storage.gc")
+@Getter
+@Setter
+public class StorageGcProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * 이전 실행이 끝난 뒤 다음 실행까지의 간격
+     */
+    private Duration interval = Duration.ofHours(1);
+
+    /**
+     * 마지막 수정 이후 이 시간이 지나지 않은 파일은 참조가 없어도 삭제하지 않음
+     */
+    private Duration gracePeriod = Duration.ofHours(24);
+
+    /**
+     * binary_contents 와 한 번에 비교할 키 개수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 초당 최대 삭제 요청 수
+     */
+    private int deletesPerSecond = 50;
+}
@@ -0,0 +1,87 @@
+package com.sprint.mission.discodeit.config;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class StorageUploadConfig {
+
+    /**
+     * 스토리지 업로드 전용 executor
+     * <p>
+     * 큐가 가득 차면 제출을 거절한다. 제출은 AFTER_COMMIT 리스너에서 일어나고 그 스레드는 아직 DB 커넥션을 쥐고 있으므로, 호출 스레드에서
+     * 업로드를 실행하지 않는다. 거절된 업로드는 임시 파일과 PENDING 상태로 남아 BinaryContentUploader 의 복구 주기에 다시 제출된다.
+     * <p>
+     * 가상 스레드 모드(spring.threads.virtual.enabled, Java 21+)에서는 업로드마다 가상 스레드를 쓰고, 동시 업로드 수를
+     * maxPoolSize 로 제한한다. 제한에 걸려도 호출 스레드를 기다리게 하지 않고 같은 방식으로 거절한다.
+     */
+    @Bean(name = "binaryContentUploadExecutor")
+    public TaskExecutor binaryContentUploadExecutor(UploadProperties uploadProperties,
+            Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("binary-upload-");
+            executor.setVirtualThreads(true);
+            executor.setTaskTerminationTimeout(30_000);
+            return new BoundedTaskExecutor(executor, uploadProperties.getMaxPoolSize());
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(uploadProperties.getCorePoolSize());
+        executor.setMaxPoolSize(uploadProperties.getMaxPoolSize());
+        executor.setQueueCapacity(uploadProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("binary-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 동시 실행 수를 permit 으로 제한하는 executor
+     * <p>
+     * SimpleAsyncTaskExecutor 의 concurrencyLimit 은 제한에 걸리면 제출 스레드를 멈춰 세우므로, permit 을 얻지 못하면 바로
+     * TaskRejectedException 을 던진다.
+     */
+    static class BoundedTaskExecutor implements TaskExecutor, AutoCloseable {
+
+        private final SimpleAsyncTaskExecutor delegate;
+        private final Semaphore permits;
+
+        BoundedTaskExecutor(SimpleAsyncTaskExecutor delegate, int limit) {
+            this.delegate = delegate;
+            this.permits = new Semaphore(limit);
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            if (!permits.tryAcquire()) {
+                throw new TaskRejectedException("동시 실행 한도 초과: " + task);
+            }
+            try {
+                delegate.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.sprint.mission.discodeit.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "discodeit.unread")
+@Getter
+@Setter
+public class UnreadCountProperties {
+
+    /**
+     * 메모리에 모인 메시지 생성 건을 안 읽은 메시지 수에 반영하는 간격
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * 안 읽은 메시지 수를 messages 테이블과 대조하여 보정하는 간격
+     */
+    private Duration reconcileInterval = Duration.ofMinutes(10);
+
+    /**
+     * 한 번의 JDBC batch에 담을 최대 UPDATE 수, 보정 시 한 번에 처리할 read_statuses 행 수
+     */
+    private int batchSize = 1000;
+}
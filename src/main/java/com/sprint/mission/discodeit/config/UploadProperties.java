@@ -0,0 +1,31 @@
+package com.sprint.mission.discodeit.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "discodeit.storage.upload")
+@Getter
+@Setter
+public class UploadProperties {
+
+    /**
+     * 커밋 이후 업로드 전까지 파일을 보관하는 임시 경로
+     */
+    private String stagingPath = ".discodeit/staging";
+
+    private int corePoolSize = 4;
+    private int maxPoolSize = 8;
+    private int queueCapacity = 100;
+
+    /**
+     * 이 시간이 지나도록 PENDING이고 임시 파일도 없는 BinaryContent는 복구 주기에 FAILED로 처리
+     */
+    private Duration pendingTimeout = Duration.ofMinutes(10);
+
+    /**
+     * executor 가 거절한 업로드를 다시 제출하고 오래된 PENDING을 정리하는 주기
+     */
+    private Duration sweepInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,31 @@
+package com.sprint.mission.discodeit.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "discodeit.search.user")
+@Getter
+@Setter
+public class UserSearchProperties {
+
+    /**
+     * 유저 검색 인덱스 구현 (postgres: pg_trgm 인덱스 조회, memory: 애플리케이션 메모리의 접두어 인덱스)
+     */
+    private String type = "postgres";
+
+    /**
+     * limit 을 지정하지 않은 검색 요청의 결과 수
+     */
+    private int defaultLimit = 10;
+
+    /**
+     * 한 번의 검색 요청에서 반환할 수 있는 최대 결과 수
+     */
+    private int maxLimit = 50;
+
+    /**
+     * memory 인덱스를 시작 시 적재할 때 한 번에 읽을 유저 수
+     */
+    private int loadBatchSize = 10000;
+}
@@ -4,6 +4,7 @@ import com.sprint.mission.discodeit.controller.api.AuthApi;
 import com.sprint.mission.discodeit.dto.User.LoginRequest;
 import com.sprint.mission.discodeit.dto.User.UserDto;
 import com.sprint.mission.discodeit.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -24,14 +25,16 @@ public class AuthController implements AuthApi {
      * 사용자 로그인 인증
      *
      * @param loginRequest 유저 로그인 요청 DTO
+     * @param request      시도 제한에 사용할 클라이언트 IP를 얻기 위한 요청
      * @return 로그인된 User(HTTP 200 OK)
      */
     @PostMapping(path = "/login")
     @Override
     public ResponseEntity<UserDto> login(
-            @Valid @RequestBody LoginRequest loginRequest
+            @Valid @RequestBody LoginRequest loginRequest,
+            HttpServletRequest request
     ) {
-        UserDto authUser = authService.login(loginRequest);
+        UserDto authUser = authService.login(loginRequest, request.getRemoteAddr());
 
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -2,6 +2,8 @@ package com.sprint.mission.discodeit.controller;
 
 import com.sprint.mission.discodeit.controller.api.BinaryContentApi;
 import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentDto;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.exception.BinaryContent.BinaryContentNotReadyException;
 import com.sprint.mission.discodeit.service.BinaryContentService;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
 import java.util.List;
@@ -73,6 +75,10 @@ public class BinaryContentController implements BinaryContentApi {
 
         BinaryContentDto binaryContentDto = binaryContentService.find(binaryContentId);
 
+        if (binaryContentDto.status() != BinaryContentStatus.READY) {
+            throw new BinaryContentNotReadyException(binaryContentId, binaryContentDto.status());
+        }
+
         return binaryContentStorage.download(binaryContentDto);
     }
 }
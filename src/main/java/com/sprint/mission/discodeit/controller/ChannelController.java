@@ -1,16 +1,20 @@
 package com.sprint.mission.discodeit.controller;
 
 import com.sprint.mission.discodeit.controller.api.ChannelApi;
+import com.sprint.mission.discodeit.dto.Channel.ChannelDeletionDto;
 import com.sprint.mission.discodeit.dto.Channel.ChannelDto;
 import com.sprint.mission.discodeit.dto.Channel.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.Channel.PublicChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.Channel.PublicChannelUpdateRequest;
 import com.sprint.mission.discodeit.service.ChannelService;
+import com.sprint.mission.discodeit.sse.ChannelEventHub;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RequiredArgsConstructor
 @RequestMapping("/api/channels")
@@ -28,6 +33,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ChannelController implements ChannelApi {
 
     private final ChannelService channelService;
+    private final ChannelEventHub channelEventHub;
 
     /**
      * 새로운 공개 채널 생성
@@ -86,21 +92,42 @@ public class ChannelController implements ChannelApi {
     }
 
     /**
-     * 채널 삭제
+     * 채널 삭제 요청
+     * <p>
+     * 채널은 즉시 조회에서 제외되고 메시지와 채널 행은 백그라운드에서 삭제된다.
      *
      * @param channelId 삭제할 채널의 ID
-     * @return 삭제 완료 메시지 (HTTP 200 OK)
+     * @return 삭제 진행 상황 (HTTP 202 ACCEPTED, Location: 진행 상황 조회 경로)
      */
     @DeleteMapping(path = "/{channelId}")
     @Override
-    public ResponseEntity<Void> delete(
+    public ResponseEntity<ChannelDeletionDto> delete(
             @PathVariable UUID channelId
     ) {
-        channelService.delete(channelId);
+        ChannelDeletionDto deletion = channelService.delete(channelId);
 
         return ResponseEntity
-                .status(HttpStatus.NO_CONTENT)
-                .build();
+                .status(HttpStatus.ACCEPTED)
+                .header(HttpHeaders.LOCATION, "/api/channels/" + channelId + "/deletion")
+                .body(deletion);
+    }
+
+    /**
+     * 채널 삭제 진행 상황 조회
+     *
+     * @param channelId 삭제 요청한 채널의 ID
+     * @return 삭제 진행 상황 (HTTP 200 OK)
+     */
+    @GetMapping(path = "/{channelId}/deletion")
+    @Override
+    public ResponseEntity<ChannelDeletionDto> findDeletion(
+            @PathVariable UUID channelId
+    ) {
+        ChannelDeletionDto deletion = channelService.findDeletion(channelId);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(deletion);
     }
 
     /**
@@ -120,4 +147,27 @@ public class ChannelController implements ChannelApi {
                 .status(HttpStatus.OK)
                 .body(channels);
     }
+
+    /**
+     * 채널의 메시지 생성/수정/삭제 이벤트 구독 (Server-Sent Events)
+     * <p>
+     * 이벤트 이름은 message.created, message.updated, message.deleted 이다. 연결이 끊겼다가 다시 연결되면 그 사이 이벤트는
+     * 전달되지 않으므로 메시지 목록 API로 다시 조회해야 한다.
+     *
+     * @param channelId 구독할 채널 ID
+     * @return 이벤트 스트림 (HTTP 200 OK, text/event-stream)
+     */
+    @GetMapping(path = "/{channelId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Override
+    public ResponseEntity<SseEmitter> subscribe(
+            @PathVariable UUID channelId
+    ) {
+        channelService.find(channelId);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .header("X-Accel-Buffering", "no") // 리버스 프록시 버퍼링 비활성화
+                .body(channelEventHub.subscribe(channelId));
+    }
 }
@@ -9,7 +9,6 @@ import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.service.MessageService;
 import com.sprint.mission.discodeit.util.BinaryContentUtil;
 import jakarta.validation.Valid;
-import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -108,13 +107,15 @@ public class MessageController implements MessageApi {
      * 특정 채널의 메시지 목록 조회
      *
      * @param channelId 채널 ID
+     * @param cursor    이전 응답의 nextCursor
+     * @param pageable  페이지 크기 정보
      * @return 조회된 메시지 목록 (HTTP 200 OK)
      */
     @GetMapping
     @Override
     public ResponseEntity<PageResponse<MessageDto>> findAllByChannelId(
             @RequestParam("channelId") UUID channelId,
-            @RequestParam(required = false) Instant cursor,
+            @RequestParam(required = false) String cursor,
             Pageable pageable
     ) {
         PageResponse<MessageDto> messages = messageService.findAllByChannelId(channelId,
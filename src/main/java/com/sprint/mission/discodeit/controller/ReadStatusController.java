@@ -1,9 +1,11 @@
 package com.sprint.mission.discodeit.controller;
 
 import com.sprint.mission.discodeit.controller.api.ReadStatusApi;
+import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusBulkUpdateRequest;
 import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusCreateRequest;
 import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusDto;
 import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusUpdateRequest;
+import com.sprint.mission.discodeit.dto.ReadStatus.UnreadCountDto;
 import com.sprint.mission.discodeit.service.ReadStatusService;
 import jakarta.validation.Valid;
 import java.util.List;
@@ -15,6 +17,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -67,6 +70,25 @@ public class ReadStatusController implements ReadStatusApi {
                 .body(updatedReadStatus);
     }
 
+    /**
+     * 특정 사용자의 여러 채널 메시지 수신 정보 일괄 반영 (없으면 생성, 더 늦은 시각만 반영)
+     *
+     * @param readStatusBulkUpdateRequest 사용자 ID와 채널별 마지막으로 읽은 시각
+     * @return 반영된 메시지 수신 정보 목록 (HTTP 200 OK)
+     */
+    @PutMapping(path = "/bulk")
+    @Override
+    public ResponseEntity<List<ReadStatusDto>> updateAll(
+            @Valid @RequestBody ReadStatusBulkUpdateRequest readStatusBulkUpdateRequest
+    ) {
+        List<ReadStatusDto> readStatusList = readStatusService.updateAll(
+                readStatusBulkUpdateRequest);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(readStatusList);
+    }
+
     /**
      * 특정 사용자의 메시지 수신 정보 조회
      *
@@ -84,4 +106,22 @@ public class ReadStatusController implements ReadStatusApi {
                 .status(HttpStatus.OK)
                 .body(readStatusList);
     }
+
+    /**
+     * 특정 사용자가 참여한 모든 채널의 안 읽은 메시지 수 조회
+     *
+     * @param userId 사용자 ID
+     * @return 채널별 안 읽은 메시지 수 목록 (HTTP 200 OK)
+     */
+    @GetMapping(path = "/unread-counts")
+    @Override
+    public ResponseEntity<List<UnreadCountDto>> findUnreadCounts(
+            @RequestParam("userId") UUID userId
+    ) {
+        List<UnreadCountDto> unreadCounts = readStatusService.findUnreadCounts(userId);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(unreadCounts);
+    }
 }
@@ -1,19 +1,28 @@
 package com.sprint.mission.discodeit.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.mission.discodeit.controller.api.UserApi;
 import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.User.UserBulkCreateRequest;
 import com.sprint.mission.discodeit.dto.User.UserCreateRequest;
 import com.sprint.mission.discodeit.dto.User.UserDto;
 import com.sprint.mission.discodeit.dto.User.UserUpdateRequest;
 import com.sprint.mission.discodeit.dto.UserStatus.UserStatusDto;
 import com.sprint.mission.discodeit.dto.UserStatus.UserStatusUpdateRequest;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.service.UserService;
 import com.sprint.mission.discodeit.service.UserStatusService;
 import com.sprint.mission.discodeit.util.BinaryContentUtil;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -24,6 +33,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -46,8 +56,12 @@ import org.springframework.web.multipart.MultipartFile;
 @RestController
 public class UserController implements UserApi {
 
+    // 전체 목록 스트리밍 시 한 번에 조회할 유저 수
+    private static final int STREAM_PAGE_SIZE = 1000;
+
     private final UserService userService;
     private final UserStatusService userStatusService;
+    private final ObjectMapper objectMapper;
 
     /**
      * 신규 사용자 등록
@@ -75,6 +89,24 @@ public class UserController implements UserApi {
                 .body(createdUser);
     }
 
+    /**
+     * 사용자 대량 등록 (조직 단위 온보딩)
+     *
+     * @param userBulkCreateRequest 대량 유저 생성 요청 DTO
+     * @return 생성된 User 목록 (HTTP 201 CREATED)
+     */
+    @PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Override
+    public ResponseEntity<List<UserDto>> createAll(
+            @Valid @RequestBody UserBulkCreateRequest userBulkCreateRequest
+    ) {
+        List<UserDto> createdUsers = userService.createAll(userBulkCreateRequest);
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(createdUsers);
+    }
+
     /**
      * 사용자 정보 수정
      *
@@ -125,19 +157,80 @@ public class UserController implements UserApi {
     }
 
     /**
-     * 모든 사용자 조회
+     * 모든 사용자 조회 (JSON 배열)
+     * <p>
+     * 기존 클라이언트 호환용. 유저 목록 페이지를 차례로 조회하며 응답에 바로 기록하므로 전체 목록을 메모리에 올리지 않고, 페이지마다 트랜잭션이
+     * 끝나므로 응답을 쓰는 동안 DB 커넥션을 점유하지 않는다.
      *
-     * @return 조회된 전체 User 목록 (HTTP 200 OK)
+     * @param response 전체 User 목록을 기록할 응답 (HTTP 200 OK)
      */
     @GetMapping
     @Override
-    public ResponseEntity<List<UserDto>> findAll() {
+    public void findAll(HttpServletResponse response) throws IOException {
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        try (JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(response.getOutputStream())) {
+            generator.writeStartArray();
+
+            String cursor = null;
+            do {
+                PageResponse<UserDto> page = userService.findAll(cursor, null,
+                        PageRequest.of(0, STREAM_PAGE_SIZE));
+                for (UserDto user : page.content()) {
+                    generator.writeObject(user);
+                }
+                generator.flush();
+                cursor = (String) page.nextCursor();
+            } while (cursor != null);
+
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * 사용자 목록 페이지 조회 (유저명 순)
+     *
+     * @param cursor   이전 응답의 nextCursor
+     * @param prefix   유저명 접두어 필터
+     * @param pageable 페이지 크기 정보
+     * @return 조회된 User 페이지 (HTTP 200 OK)
+     */
+    @GetMapping(path = "/page")
+    @Override
+    public ResponseEntity<PageResponse<UserDto>> findPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String prefix,
+            Pageable pageable
+    ) {
+        PageResponse<UserDto> users = userService.findAll(cursor, prefix, pageable);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(users);
+    }
 
-        List<UserDto> userDtoList = userService.findAll();
+    /**
+     * 멘션/자동완성용 사용자 검색
+     *
+     * @param q     유저명 검색어
+     * @param limit 최대 결과 수
+     * @return 유저명이 검색어로 시작하는 User를 먼저 정렬한 목록 (HTTP 200 OK)
+     */
+    @GetMapping(path = "/search")
+    @Override
+    public ResponseEntity<List<UserDto>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit
+    ) {
+        List<UserDto> users = userService.search(q, limit);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(userDtoList);
+                .body(users);
     }
 
     /**
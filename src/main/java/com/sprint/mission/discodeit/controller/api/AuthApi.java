@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 
 @Tag(name = "Auth", description = "인증 API")
@@ -28,9 +29,14 @@ public interface AuthApi {
             @ApiResponse(
                     responseCode = "400", description = "비밀번호가 일치하지 않음",
                     content = @Content(examples = @ExampleObject(value = "Wrong password"))
+            ),
+            @ApiResponse(
+                    responseCode = "429", description = "유저명 또는 IP의 로그인 시도 횟수 초과 (Retry-After 헤더 참고)",
+                    content = @Content(examples = @ExampleObject(value = "Too many login attempts"))
             )
     })
     ResponseEntity<UserDto> login(
-            @Parameter(description = "로그인 정보") LoginRequest loginRequest
+            @Parameter(description = "로그인 정보") LoginRequest loginRequest,
+            @Parameter(hidden = true) HttpServletRequest request
     );
 }
\ No newline at end of file
@@ -48,6 +48,10 @@ public interface BinaryContentApi {
             @ApiResponse(
                     responseCode = "200", description = "파일 다운로드 성공",
                     content = @Content(schema = @Schema(type = "string", format = "binary"))
+            ),
+            @ApiResponse(
+                    responseCode = "409", description = "파일 업로드가 아직 완료되지 않음",
+                    content = @Content(examples = @ExampleObject(value = "BinaryContent with id {binaryContentId} is not ready"))
             )
     })
     ResponseEntity<?> download(@Parameter(description = "다운로드할 파일 ID") UUID binaryContentId);
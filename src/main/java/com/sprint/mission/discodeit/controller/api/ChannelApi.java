@@ -1,5 +1,6 @@
 package com.sprint.mission.discodeit.controller.api;
 
+import com.sprint.mission.discodeit.dto.Channel.ChannelDeletionDto;
 import com.sprint.mission.discodeit.dto.Channel.ChannelDto;
 import com.sprint.mission.discodeit.dto.Channel.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.Channel.PublicChannelCreateRequest;
@@ -15,7 +16,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Channel", description = "Channel API")
 public interface ChannelApi {
@@ -62,20 +65,37 @@ public interface ChannelApi {
             @Parameter(description = "수정할 Channel 정보") PublicChannelUpdateRequest request
     );
 
-    @Operation(summary = "Channel 삭제")
+    @Operation(summary = "Channel 삭제",
+            description = "Channel은 즉시 조회에서 제외되고 메시지는 백그라운드에서 삭제된다. 진행 상황은 Location 헤더의 경로로 조회")
     @ApiResponses(value = {
             @ApiResponse(
-                    responseCode = "204", description = "Channel이 성공적으로 삭제됨"
+                    responseCode = "202", description = "Channel 삭제 요청이 접수됨",
+                    content = @Content(schema = @Schema(implementation = ChannelDeletionDto.class))
             ),
             @ApiResponse(
                     responseCode = "404", description = "Channel을 찾을 수 없음",
                     content = @Content(examples = @ExampleObject(value = "Channel with id {channelId} not found"))
             )
     })
-    ResponseEntity<Void> delete(
+    ResponseEntity<ChannelDeletionDto> delete(
             @Parameter(description = "삭제할 Channel ID") UUID channelId
     );
 
+    @Operation(summary = "Channel 삭제 진행 상황 조회")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200", description = "삭제 진행 상황 조회 성공",
+                    content = @Content(schema = @Schema(implementation = ChannelDeletionDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404", description = "삭제 요청이 없거나 완료 후 보관 시간이 지난 Channel",
+                    content = @Content(examples = @ExampleObject(value = "Channel with id {channelId} not found"))
+            )
+    })
+    ResponseEntity<ChannelDeletionDto> findDeletion(
+            @Parameter(description = "조회할 Channel ID") UUID channelId
+    );
+
     @Operation(summary = "User가 참여 중인 Channel 목록 조회")
     @ApiResponses(value = {
             @ApiResponse(
@@ -86,4 +106,20 @@ public interface ChannelApi {
     ResponseEntity<List<ChannelDto>> findAll(
             @Parameter(description = "조회할 User ID") UUID userId
     );
-}
\ No newline at end of file
+
+    @Operation(summary = "Channel 메시지 이벤트 구독 (SSE)",
+            description = "message.created / message.updated 는 MessageDto, message.deleted 는 {id, channelId} 를 전달")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200", description = "이벤트 스트림 연결됨",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "404", description = "Channel을 찾을 수 없음",
+                    content = @Content(examples = @ExampleObject(value = "Channel with id {channelId} not found"))
+            )
+    })
+    ResponseEntity<SseEmitter> subscribe(
+            @Parameter(description = "구독할 Channel ID") UUID channelId
+    );
+}
@@ -13,7 +13,6 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
@@ -81,11 +80,19 @@ public interface MessageApi {
             @ApiResponse(
                     responseCode = "200", description = "Message 목록 조회 성공",
                     content = @Content(schema = @Schema(implementation = PageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400", description = "커서 형식이 올바르지 않음",
+                    content = @Content(examples = @ExampleObject(value = "Invalid message cursor"))
+            ),
+            @ApiResponse(
+                    responseCode = "404", description = "Channel을 찾을 수 없음",
+                    content = @Content(examples = @ExampleObject(value = "Channel with id {channelId} not found"))
             )
     })
     ResponseEntity<PageResponse<MessageDto>> findAllByChannelId(
             @Parameter(description = "조회할 Channel ID") UUID channelId,
-            @Parameter(description = "페이징 커서 정보") Instant cursor,
+            @Parameter(description = "페이징 커서 정보 (이전 응답의 nextCursor)") String cursor,
             @Parameter(description = "페이징 정보") Pageable pageable
     );
 
@@ -1,8 +1,10 @@
 package com.sprint.mission.discodeit.controller.api;
 
+import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusBulkUpdateRequest;
 import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusCreateRequest;
 import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusDto;
 import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusUpdateRequest;
+import com.sprint.mission.discodeit.dto.ReadStatus.UnreadCountDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -54,6 +56,22 @@ public interface ReadStatusApi {
             @Parameter(description = "수정할 읽음 상태 정보") ReadStatusUpdateRequest request
     );
 
+    @Operation(summary = "여러 Channel의 Message 읽음 상태 일괄 반영",
+            description = "없는 읽음 상태는 생성하고, 이미 더 늦은 시각이 저장된 Channel은 변경하지 않음")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200", description = "Message 읽음 상태가 성공적으로 반영됨",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ReadStatusDto.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "404", description = "Channel 또는 User를 찾을 수 없음",
+                    content = @Content(examples = @ExampleObject(value = "Channel | User with id {channelId | userId} not found"))
+            )
+    })
+    ResponseEntity<List<ReadStatusDto>> updateAll(
+            @Parameter(description = "User ID와 Channel별 마지막으로 읽은 시각") ReadStatusBulkUpdateRequest request
+    );
+
     @Operation(summary = "User의 Message 읽음 상태 목록 조회")
     @ApiResponses(value = {
             @ApiResponse(
@@ -64,4 +82,18 @@ public interface ReadStatusApi {
     ResponseEntity<List<ReadStatusDto>> findAllByUserId(
             @Parameter(description = "조회할 User ID") UUID userId
     );
-}
\ No newline at end of file
+
+    @Operation(summary = "User가 참여한 Channel별 안 읽은 Message 수 조회",
+            description = "저장된 값을 그대로 반환하는 근사치. 새 Message는 flush 주기(기본 1초)만큼 늦게 반영되고, "
+                    + "Message 생성과 그 반영 사이에 읽음 상태를 갱신하면 해당 Message가 한 번 더 세어질 수 있다. "
+                    + "이런 오차는 reconcile 주기(기본 10분) 안에 messages 기준으로 보정된다.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200", description = "안 읽은 Message 수 조회 성공",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = UnreadCountDto.class)))
+            )
+    })
+    ResponseEntity<List<UnreadCountDto>> findUnreadCounts(
+            @Parameter(description = "조회할 User ID") UUID userId
+    );
+}
@@ -1,10 +1,12 @@
 package com.sprint.mission.discodeit.controller.api;
 
+import com.sprint.mission.discodeit.dto.User.UserBulkCreateRequest;
 import com.sprint.mission.discodeit.dto.User.UserCreateRequest;
 import com.sprint.mission.discodeit.dto.User.UserDto;
 import com.sprint.mission.discodeit.dto.User.UserUpdateRequest;
 import com.sprint.mission.discodeit.dto.UserStatus.UserStatusDto;
 import com.sprint.mission.discodeit.dto.UserStatus.UserStatusUpdateRequest;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -14,8 +16,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
@@ -45,6 +50,21 @@ public interface UserApi {
             ) MultipartFile profile
     );
 
+    @Operation(summary = "User 대량 등록")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201", description = "User 목록이 성공적으로 생성됨",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = UserDto.class)))
+            ),
+            @ApiResponse(
+                    responseCode = "409", description = "요청 내부 또는 기존 User와 email/username이 중복됨 (전체 미등록)",
+                    content = @Content(examples = @ExampleObject(value = "User with username {username} already exists"))
+            )
+    })
+    ResponseEntity<List<UserDto>> createAll(
+            @Parameter(description = "등록할 User 목록") UserBulkCreateRequest userBulkCreateRequest
+    );
+
     @Operation(summary = "User 정보 수정")
     @ApiResponses(value = {
             @ApiResponse(
@@ -82,14 +102,45 @@ public interface UserApi {
             @Parameter(description = "삭제할 User ID") UUID userId
     );
 
-    @Operation(summary = "전체 User 목록 조회")
+    @Operation(summary = "전체 User 목록 조회",
+            description = "유저명 순으로 응답을 스트리밍한다. 새 클라이언트는 /api/users/page 를 사용")
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200", description = "User 목록 조회 성공",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = UserDto.class)))
             )
     })
-    ResponseEntity<List<UserDto>> findAll();
+    void findAll(@Parameter(hidden = true) HttpServletResponse response) throws IOException;
+
+    @Operation(summary = "User 목록 페이지 조회 (유저명 순)")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200", description = "User 목록 조회 성공",
+                    content = @Content(schema = @Schema(implementation = PageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400", description = "커서 형식이 올바르지 않음",
+                    content = @Content(examples = @ExampleObject(value = "Invalid user cursor"))
+            )
+    })
+    ResponseEntity<PageResponse<UserDto>> findPage(
+            @Parameter(description = "페이징 커서 정보 (이전 응답의 nextCursor)") String cursor,
+            @Parameter(description = "유저명 접두어 필터") String prefix,
+            @Parameter(description = "페이징 정보") Pageable pageable
+    );
+
+    @Operation(summary = "User 검색 (멘션/자동완성)",
+            description = "유저명이 검색어로 시작하는 User를 먼저, 비슷한 유저명의 User를 다음 순서로 반환 (대소문자 무시)")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200", description = "User 검색 성공",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = UserDto.class)))
+            )
+    })
+    ResponseEntity<List<UserDto>> search(
+            @Parameter(description = "유저명 검색어") String q,
+            @Parameter(description = "최대 결과 수 (기본 10, 최대 50)") Integer limit
+    );
 
     @Operation(summary = "User 온라인 상태 업데이트")
     @ApiResponses(value = {
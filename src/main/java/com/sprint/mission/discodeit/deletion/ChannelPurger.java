@@ -0,0 +1,275 @@
+package com.sprint.mission.discodeit.deletion;
+
+import com.sprint.mission.discodeit.config.CacheConfig;
+import com.sprint.mission.discodeit.config.ChannelDeletionProperties;
+import com.sprint.mission.discodeit.dto.Channel.ChannelDeletionDto;
+import com.sprint.mission.discodeit.dto.Channel.ChannelDeletionDto.Status;
+import com.sprint.mission.discodeit.event.ChannelDeletedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 삭제 대상으로 표시된 채널(channels.deleted_at)의 메시지와 채널 행을 백그라운드에서 삭제
+ * <p>
+ * 메시지 엔티티를 읽지 않고 청크 단위 JDBC DELETE 로 지우며, 청크마다 트랜잭션을 나눠 잠금과 WAL 이 한 번에 몰리지 않게 한다. 첨부파일
+ * BinaryContent 행도 함께 지우고(캐시는 청크 커밋 후 비움) 파일은 스토리지 GC 가 정리한다. 마지막으로 채널 행을 지우면 남은 read_statuses 와 그 사이 생성된
+ * 메시지는 ON DELETE CASCADE 로 함께 삭제된다.
+ * <p>
+ * 진행 상황은 메모리에만 두므로 재시작하면 sweep 이 deleted_at 이 남은 채널을 찾아 남은 메시지부터 다시 시작한다. 단일 인스턴스 기준이다.
+ */
+@Slf4j
+@Component
+public class ChannelPurger {
+
+    private static final String PENDING_SQL = "SELECT id, deleted_at FROM channels"
+            + " WHERE deleted_at IS NOT NULL";
+
+    private static final String REQUESTED_AT_SQL = "SELECT deleted_at FROM channels"
+            + " WHERE id = ? AND deleted_at IS NOT NULL";
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM messages WHERE channel_id = ?";
+
+    private static final String CHUNK_SQL = "SELECT id FROM messages"
+            + " WHERE channel_id = ? FETCH FIRST ? ROWS ONLY";
+
+    private static final String ATTACHMENTS_SQL = "SELECT attachment_id FROM message_attachments"
+            + " WHERE message_id IN (:messageIds)";
+
+    private static final String DELETE_ATTACHMENT_LINKS_SQL = "DELETE FROM message_attachments"
+            + " WHERE message_id IN (:messageIds)";
+
+    private static final String DELETE_ATTACHMENTS_SQL = "DELETE FROM binary_contents"
+            + " WHERE id IN (:attachmentIds)";
+
+    private static final String DELETE_MESSAGES_SQL = "DELETE FROM messages"
+            + " WHERE id IN (:messageIds)";
+
+    private static final String DELETE_READ_STATUSES_SQL = "DELETE FROM read_statuses"
+            + " WHERE channel_id = ?";
+
+    private static final String DELETE_CHANNEL_SQL = "DELETE FROM channels"
+            + " WHERE id = ? AND deleted_at IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor executor;
+    private final Cache binaryContentCache;
+    private final int chunkSize;
+    private final Duration chunkPause;
+    private final Duration progressRetention;
+
+    private final Map<UUID, ChannelDeletionDto> progress = new ConcurrentHashMap<>();
+
+    private final Counter deletedMessagesCounter;
+
+    public ChannelPurger(
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("channelDeletionExecutor") TaskExecutor executor,
+            CacheManager cacheManager,
+            ChannelDeletionProperties channelDeletionProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.binaryContentCache = cacheManager.getCache(CacheConfig.BINARY_CONTENTS);
+        this.chunkSize = channelDeletionProperties.getChunkSize();
+        this.chunkPause = channelDeletionProperties.getChunkPause();
+        this.progressRetention = channelDeletionProperties.getProgressRetention();
+        this.deletedMessagesCounter = Counter.builder("discodeit.channel.deletion.messages")
+                .description("채널 삭제 작업이 지운 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(ChannelDeletedEvent event) {
+        submit(event.channelId(), event.requestedAt());
+    }
+
+    /**
+     * 완료 후 보관 시간이 지난 진행 상황을 지우고, 삭제 대상이지만 진행 중이 아닌 채널을 다시 제출
+     */
+    @Scheduled(fixedDelayString = "${discodeit.channel.deletion.sweep-interval:1m}")
+    public void sweep() {
+        Instant expiredBefore = Instant.now().minus(progressRetention);
+        progress.values().removeIf(current -> current.status() == Status.COMPLETED
+                && current.completedAt().isBefore(expiredBefore));
+
+        List<ChannelDeletedEvent> marked = jdbcTemplate.query(PENDING_SQL,
+                (rs, rowNum) -> new ChannelDeletedEvent(rs.getObject("id", UUID.class),
+                        rs.getTimestamp("deleted_at").toInstant()));
+        marked.forEach(this::on);
+    }
+
+    /**
+     * 채널 삭제 작업을 executor 에 제출. 이미 대기 중이거나 진행 중인 채널은 무시한다.
+     *
+     * @param channelId   삭제 대상 채널 ID
+     * @param requestedAt 삭제 요청 시각
+     */
+    public void submit(UUID channelId, Instant requestedAt) {
+        ChannelDeletionDto queued = new ChannelDeletionDto(channelId, Status.PENDING, 0, 0,
+                requestedAt, null);
+        if (!claim(channelId, queued)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> run(channelId));
+        } catch (TaskRejectedException e) {
+            progress.remove(channelId, queued);
+            log.warn("채널 삭제 작업 제출 실패, 다음 sweep 에서 재시도: ID = {}", channelId);
+        }
+    }
+
+    private boolean claim(UUID channelId, ChannelDeletionDto queued) {
+        ChannelDeletionDto current = progress.get(channelId);
+        if (current == null) {
+            return progress.putIfAbsent(channelId, queued) == null;
+        }
+        if (current.status() == Status.PENDING || current.status() == Status.RUNNING) {
+            return false;
+        }
+        return progress.replace(channelId, current, queued);
+    }
+
+    private void run(UUID channelId) {
+        try {
+            purge(channelId);
+        } catch (RuntimeException e) {
+            progress.computeIfPresent(channelId, (id, current) -> withStatus(current, Status.FAILED));
+            log.error("채널 삭제 실패, 다음 sweep 에서 재시도: ID = {}", channelId, e);
+        }
+    }
+
+    /**
+     * 채널의 메시지를 청크 단위로 모두 삭제한 뒤 채널 행 삭제
+     *
+     * @param channelId 삭제 대상 채널 ID
+     * @return 완료된 진행 상황, 삭제 대상이 아니거나 이미 삭제된 채널이면 {@code null}
+     */
+    public ChannelDeletionDto purge(UUID channelId) {
+        Instant requestedAt = findRequestedAt(channelId);
+        if (requestedAt == null) {
+            progress.remove(channelId);
+            return null;
+        }
+
+        long total = jdbcTemplate.queryForObject(COUNT_SQL, Long.class, channelId);
+        long deleted = 0;
+        progress.put(channelId, new ChannelDeletionDto(channelId, Status.RUNNING, total, deleted,
+                requestedAt, null));
+        log.info("채널 삭제 시작: ID = {}, 메시지 = {}", channelId, total);
+
+        int chunk;
+        while ((chunk = transactionTemplate.execute(status -> deleteChunk(channelId))) > 0) {
+            deleted += chunk;
+            total = Math.max(total, deleted);
+            deletedMessagesCounter.increment(chunk);
+            progress.put(channelId, new ChannelDeletionDto(channelId, Status.RUNNING, total,
+                    deleted, requestedAt, null));
+            pause();
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_READ_STATUSES_SQL, channelId);
+            jdbcTemplate.update(DELETE_CHANNEL_SQL, channelId);
+        });
+
+        ChannelDeletionDto completed = new ChannelDeletionDto(channelId, Status.COMPLETED, total,
+                deleted, requestedAt, Instant.now());
+        progress.put(channelId, completed);
+        log.info("채널 삭제 완료: ID = {}, 메시지 = {}", channelId, deleted);
+        return completed;
+    }
+
+    private int deleteChunk(UUID channelId) {
+        List<UUID> messageIds = jdbcTemplate.queryForList(CHUNK_SQL, UUID.class, channelId,
+                chunkSize);
+        if (messageIds.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource messageParams = new MapSqlParameterSource("messageIds", messageIds);
+        List<UUID> attachmentIds = namedParameterJdbcTemplate.queryForList(ATTACHMENTS_SQL,
+                messageParams, UUID.class);
+
+        namedParameterJdbcTemplate.update(DELETE_ATTACHMENT_LINKS_SQL, messageParams);
+        if (!attachmentIds.isEmpty()) {
+            namedParameterJdbcTemplate.update(DELETE_ATTACHMENTS_SQL,
+                    new MapSqlParameterSource("attachmentIds", attachmentIds));
+            attachmentIds.forEach(binaryContentCache::evict);
+        }
+        return namedParameterJdbcTemplate.update(DELETE_MESSAGES_SQL, messageParams);
+    }
+
+    private void pause() {
+        if (chunkPause.isZero() || chunkPause.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("채널 삭제가 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 채널 삭제 진행 상황 조회
+     * <p>
+     * 메모리에 진행 상황이 없으면 deleted_at 이 남아 있는 채널만 대기 상태로 반환한다.
+     *
+     * @param channelId 채널 ID
+     * @return 진행 상황, 삭제 요청이 없거나 완료 후 보관 시간이 지난 채널이면 빈 값
+     */
+    public Optional<ChannelDeletionDto> findProgress(UUID channelId) {
+        ChannelDeletionDto current = progress.get(channelId);
+        if (current != null) {
+            return Optional.of(current);
+        }
+
+        return Optional.ofNullable(findRequestedAt(channelId))
+                .map(requestedAt -> new ChannelDeletionDto(channelId, Status.PENDING, 0, 0,
+                        requestedAt, null));
+    }
+
+    private Instant findRequestedAt(UUID channelId) {
+        return jdbcTemplate.query(REQUESTED_AT_SQL,
+                        (rs, rowNum) -> rs.getTimestamp("deleted_at").toInstant(), channelId)
+                .stream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static ChannelDeletionDto withStatus(ChannelDeletionDto current, Status status) {
+        return new ChannelDeletionDto(current.channelId(), status, current.totalMessages(),
+                current.deletedMessages(), current.requestedAt(), current.completedAt());
+    }
+}
@@ -2,8 +2,15 @@ package com.sprint.mission.discodeit.dto.BinaryContent;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
+import org.springframework.core.io.InputStreamSource;
 
+/**
+ * 파일 생성 요청
+ * <p>
+ * 파일 내용을 byte[]로 들고 있지 않고, 저장 시점에 스트림으로 읽을 수 있는 source를 전달한다.
+ */
 public record BinaryContentCreateRequest(
 
         @NotBlank(message = "파일 이름은 빈 값일 수 없습니다.")
@@ -14,8 +21,11 @@ public record BinaryContentCreateRequest(
         @Size(max = 100, message = "파일 타입은 최대 100자입니다.")
         String contentType,
 
+        @PositiveOrZero(message = "파일 크기는 0 이상이어야 합니다.")
+        long size,
+
         @NotNull(message = "파일 내용은 비어 있을 수 없습니다.")
-        byte[] bytes
+        InputStreamSource source
 ) {
 
-}
\ No newline at end of file
+}
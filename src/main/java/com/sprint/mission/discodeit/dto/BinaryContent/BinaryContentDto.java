@@ -1,12 +1,14 @@
 package com.sprint.mission.discodeit.dto.BinaryContent;
 
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
 import java.util.UUID;
 
 public record BinaryContentDto(
         UUID id,
         String fileName,
         Long size,
-        String contentType
+        String contentType,
+        BinaryContentStatus status
 ) {
 
 }
@@ -0,0 +1,18 @@
+package com.sprint.mission.discodeit.dto.Channel;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ChannelDeletionDto(
+        UUID channelId,
+        Status status,
+        long totalMessages,
+        long deletedMessages,
+        Instant requestedAt,
+        Instant completedAt
+) {
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+}
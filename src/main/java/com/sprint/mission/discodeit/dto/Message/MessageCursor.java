@@ -0,0 +1,79 @@
+package com.sprint.mission.discodeit.dto.Message;
+
+import com.sprint.mission.discodeit.exception.Message.InvalidMessageCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 메시지 목록 키셋 페이징 커서
+ * <p>
+ * (createdAt, id) 쌍으로 정렬 위치를 표현하므로 생성 시각이 같은 메시지도 페이지 사이에서 중복되거나 누락되지 않는다. 클라이언트에는 불투명한 문자열로
+ * 전달한다.
+ *
+ * @param createdAt 마지막으로 조회된 메시지의 생성 시각
+ * @param id        마지막으로 조회된 메시지 ID
+ */
+public record MessageCursor(
+        Instant createdAt,
+        UUID id
+) {
+
+    /**
+     * 시각만 담긴 이전 형식 커서에 사용하는 ID로, 같은 시각의 메시지를 모두 제외한다.
+     */
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private static final String DELIMITER = "|";
+
+    public static MessageCursor from(MessageDto message) {
+        return new MessageCursor(message.createdAt(), message.id());
+    }
+
+    /**
+     * 첫 페이지 조회용 커서
+     *
+     * @return 현재 시각 이전의 모든 메시지를 조회하는 커서
+     */
+    public static MessageCursor first() {
+        return new MessageCursor(Instant.now(), MIN_ID);
+    }
+
+    /**
+     * 커서 문자열을 해석한다. ISO-8601 시각만 담긴 이전 형식도 허용한다.
+     *
+     * @param value 커서 문자열
+     * @return 해석된 커서
+     * @throws InvalidMessageCursorException 커서 형식이 올바르지 않은 경우
+     */
+    public static MessageCursor decode(String value) {
+        try {
+            return new MessageCursor(Instant.parse(value), MIN_ID);
+        } catch (DateTimeParseException ignored) {
+            // 키셋 커서 형식으로 해석
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(value),
+                    StandardCharsets.UTF_8);
+            int index = decoded.indexOf(DELIMITER);
+            if (index < 0) {
+                throw new InvalidMessageCursorException(value);
+            }
+            return new MessageCursor(
+                    Instant.parse(decoded.substring(0, index)),
+                    UUID.fromString(decoded.substring(index + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidMessageCursorException(value);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
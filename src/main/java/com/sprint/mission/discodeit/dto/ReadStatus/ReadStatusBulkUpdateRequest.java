@@ -0,0 +1,24 @@
+package com.sprint.mission.discodeit.dto.ReadStatus;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+public record ReadStatusBulkUpdateRequest(
+
+        @NotNull(message = "사용자 ID는 필수입니다.")
+        UUID userId,
+
+        @NotEmpty(message = "읽음 처리할 채널 목록은 비어 있을 수 없습니다.")
+        @Size(max = 1000, message = "한 번에 최대 1000개 채널까지 읽음 처리할 수 있습니다.")
+        Map<@NotNull UUID,
+                @NotNull(message = "마지막으로 읽은 시간은 빈 값일 수 없습니다.")
+                @PastOrPresent(message = "마지막으로 읽은 시간은 현재 시각 이전이어야 합니다.")
+                        Instant> lastReadAts
+) {
+
+}
@@ -0,0 +1,10 @@
+package com.sprint.mission.discodeit.dto.ReadStatus;
+
+import java.util.UUID;
+
+public record UnreadCountDto(
+        UUID channelId,
+        int unreadCount
+) {
+
+}
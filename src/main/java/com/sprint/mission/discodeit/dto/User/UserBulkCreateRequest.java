@@ -0,0 +1,15 @@
+package com.sprint.mission.discodeit.dto.User;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record UserBulkCreateRequest(
+
+        @NotEmpty(message = "등록할 사용자 목록은 비어 있을 수 없습니다.")
+        @Size(max = 1000, message = "한 번에 최대 1000명까지 등록할 수 있습니다.")
+        List<@Valid UserCreateRequest> users
+) {
+
+}
@@ -0,0 +1,51 @@
+package com.sprint.mission.discodeit.dto.User;
+
+import com.sprint.mission.discodeit.exception.User.InvalidUserCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 유저 목록 키셋 페이징 커서
+ * <p>
+ * 유저명은 유일하므로 마지막으로 조회된 유저명만으로 정렬 위치를 표현한다. 클라이언트에는 불투명한 문자열로 전달한다.
+ *
+ * @param username 마지막으로 조회된 유저명
+ */
+public record UserCursor(
+        String username
+) {
+
+    public static UserCursor from(UserDto user) {
+        return new UserCursor(user.username());
+    }
+
+    /**
+     * 첫 페이지 조회용 커서
+     *
+     * @return 모든 유저명보다 앞선 위치의 커서
+     */
+    public static UserCursor first() {
+        return new UserCursor("");
+    }
+
+    /**
+     * 커서 문자열을 해석한다.
+     *
+     * @param value 커서 문자열
+     * @return 해석된 커서
+     * @throws InvalidUserCursorException 커서 형식이 올바르지 않은 경우
+     */
+    public static UserCursor decode(String value) {
+        try {
+            return new UserCursor(new String(Base64.getUrlDecoder().decode(value),
+                    StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidUserCursorException(value);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(username.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
+import java.time.Instant;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -28,6 +29,15 @@ public class Channel extends BaseUpdatableEntity {
     @Column(name = "type", nullable = false)
     private ChannelType type;
 
+    @Column(name = "last_message_at", columnDefinition = "timestamp with time zone")
+    private Instant lastMessageAt;
+
+    /**
+     * 삭제 요청 시각. 값이 있으면 조회에서 제외되고 메시지는 백그라운드에서 나눠 삭제된다.
+     */
+    @Column(name = "deleted_at", columnDefinition = "timestamp with time zone")
+    private Instant deletedAt;
+
     @Builder
     public Channel(ChannelType type, String name, String description) {
         this.type = type;
@@ -43,4 +53,14 @@ public class Channel extends BaseUpdatableEntity {
             this.description = newDescription;
         }
     }
+
+    public void markDeleted(Instant deletedAt) {
+        if (this.deletedAt == null) {
+            this.deletedAt = deletedAt;
+        }
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
 }
@@ -5,6 +5,7 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToOne;
@@ -22,7 +23,14 @@ import org.hibernate.annotations.BatchSize;
 @Getter
 @Entity
 @ToString
-@Table(name = "messages")
+@Table(
+        name = "messages",
+        indexes = {
+                @Index(name = "idx_messages_channel_id_created_at_id",
+                        columnList = "channel_id, created_at DESC, id DESC"),
+                @Index(name = "idx_messages_author_id", columnList = "author_id")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Message extends BaseUpdatableEntity {
 
@@ -42,7 +50,9 @@ public class Message extends BaseUpdatableEntity {
     @JoinTable(
             name = "message_attachments",
             joinColumns = @JoinColumn(name = "message_id"),
-            inverseJoinColumns = @JoinColumn(name = "attachment_id")
+            inverseJoinColumns = @JoinColumn(name = "attachment_id"),
+            indexes = @Index(name = "idx_message_attachments_attachment_id",
+                    columnList = "attachment_id")
     )
     private List<BinaryContent> attachments = new ArrayList<>();
 
@@ -4,6 +4,7 @@ import com.sprint.mission.discodeit.entity.base.BaseUpdatableEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -20,12 +21,18 @@ import lombok.ToString;
 @Table(
         name = "read_statuses",
         uniqueConstraints = {
-                @UniqueConstraint(columnNames = {"user_id", "channel_id"})
+                @UniqueConstraint(name = ReadStatus.USER_CHANNEL_UNIQUE,
+                        columnNames = {"user_id", "channel_id"})
+        },
+        indexes = {
+                @Index(name = "idx_read_statuses_channel_id", columnList = "channel_id")
         }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ReadStatus extends BaseUpdatableEntity {
 
+    public static final String USER_CHANNEL_UNIQUE = "uk_read_statuses_user_id_channel_id";
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "user_id", columnDefinition = "uuid", nullable = false)
     private User user;
@@ -37,6 +44,12 @@ public class ReadStatus extends BaseUpdatableEntity {
     @Column(name = "last_read_at", columnDefinition = "timestamp with time zone", nullable = false)
     private Instant lastReadAt;
 
+    /**
+     * lastReadAt 이후 다른 유저가 작성한 메시지 수. 메시지 생성 시 UnreadCounter 가 JDBC로 증가시킨다.
+     */
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount;
+
     @Builder
     public ReadStatus(User user, Channel channel, Instant lastReadAt) {
         this.user = user;
@@ -49,4 +62,8 @@ public class ReadStatus extends BaseUpdatableEntity {
             this.lastReadAt = newLastReadAt;
         }
     }
+
+    public void updateUnreadCount(int unreadCount) {
+        this.unreadCount = unreadCount;
+    }
 }
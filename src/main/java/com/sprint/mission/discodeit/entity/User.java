@@ -9,6 +9,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,14 +19,23 @@ import lombok.Setter;
 
 @Getter
 @Entity
-@Table(name = "users")
+@Table(
+        name = "users",
+        uniqueConstraints = {
+                @UniqueConstraint(name = User.USERNAME_UNIQUE, columnNames = "username"),
+                @UniqueConstraint(name = User.EMAIL_UNIQUE, columnNames = "email")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseUpdatableEntity {
 
-    @Column(name = "username", length = 50, unique = true, nullable = false)
+    public static final String USERNAME_UNIQUE = "uk_users_username";
+    public static final String EMAIL_UNIQUE = "uk_users_email";
+
+    @Column(name = "username", length = 50, nullable = false)
     private String username;
 
-    @Column(name = "email", length = 100, unique = true, nullable = false)
+    @Column(name = "email", length = 100, nullable = false)
     private String email;
 
     @Column(name = "password", length = 60, nullable = false)
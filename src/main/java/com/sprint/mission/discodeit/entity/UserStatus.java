@@ -39,16 +39,17 @@ public class UserStatus extends BaseUpdatableEntity {
         this.lastActiveAt = lastActiveAt;
     }
 
-    public void update(Instant lastActiveAt) {
-        if (lastActiveAt != null && !lastActiveAt.equals(this.lastActiveAt)) {
-            this.lastActiveAt = lastActiveAt;
-        }
+    public boolean isOnline() {
+        return isOnline(this.lastActiveAt);
     }
 
-    public boolean isOnline() {
+    public static boolean isOnline(Instant lastActiveAt) {
+        if (lastActiveAt == null) {
+            return false;
+        }
 
         Instant instantFiveMinuteAgo = Instant.now().minus(Duration.ofMinutes(TIMEOUT_MINUTES));
 
-        return this.lastActiveAt.isAfter(instantFiveMinuteAgo);
+        return lastActiveAt.isAfter(instantFiveMinuteAgo);
     }
 }
@@ -0,0 +1,19 @@
+package com.sprint.mission.discodeit.event;
+
+import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentCreateRequest;
+import java.util.UUID;
+
+/**
+ * BinaryContent 메타데이터가 PENDING 상태로 저장되었음을 알리는 이벤트
+ * <p>
+ * 트랜잭션이 커밋된 뒤에만 파일 저장이 시작되도록 {@link BinaryContentCreateRequest}를 함께 전달한다.
+ *
+ * @param binaryContentId 저장된 BinaryContent ID
+ * @param request         파일 내용을 읽을 생성 요청
+ */
+public record BinaryContentCreatedEvent(
+        UUID binaryContentId,
+        BinaryContentCreateRequest request
+) {
+
+}
@@ -0,0 +1,19 @@
+package com.sprint.mission.discodeit.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 채널이 삭제 대상으로 표시되었음을 알리는 이벤트
+ * <p>
+ * 트랜잭션이 커밋된 뒤에 메시지와 채널 행의 실제 삭제 작업을 시작한다.
+ *
+ * @param channelId   삭제 대상 채널 ID
+ * @param requestedAt 삭제 요청 시각 (channels.deleted_at)
+ */
+public record ChannelDeletedEvent(
+        UUID channelId,
+        Instant requestedAt
+) {
+
+}
@@ -0,0 +1,50 @@
+package com.sprint.mission.discodeit.event;
+
+import com.sprint.mission.discodeit.dto.Message.MessageDto;
+import java.util.UUID;
+
+/**
+ * 채널의 메시지가 생성/수정/삭제되었음을 알리는 이벤트
+ * <p>
+ * 트랜잭션 커밋 이후 채널 구독자에게 전달된다.
+ *
+ * @param channelId 메시지가 속한 채널 ID
+ * @param type      변경 종류
+ * @param messageId 변경된 메시지 ID
+ * @param message   생성/수정된 메시지 (삭제 시 null)
+ */
+public record MessageChangedEvent(
+        UUID channelId,
+        Type type,
+        UUID messageId,
+        MessageDto message
+) {
+
+    public enum Type {
+        CREATED("message.created"),
+        UPDATED("message.updated"),
+        DELETED("message.deleted");
+
+        private final String eventName;
+
+        Type(String eventName) {
+            this.eventName = eventName;
+        }
+
+        public String getEventName() {
+            return eventName;
+        }
+    }
+
+    public static MessageChangedEvent created(MessageDto message) {
+        return new MessageChangedEvent(message.channelId(), Type.CREATED, message.id(), message);
+    }
+
+    public static MessageChangedEvent updated(MessageDto message) {
+        return new MessageChangedEvent(message.channelId(), Type.UPDATED, message.id(), message);
+    }
+
+    public static MessageChangedEvent deleted(UUID channelId, UUID messageId) {
+        return new MessageChangedEvent(channelId, Type.DELETED, messageId, null);
+    }
+}
@@ -0,0 +1,37 @@
+package com.sprint.mission.discodeit.event;
+
+import java.util.UUID;
+
+/**
+ * 유저가 생성/유저명 변경/삭제되었음을 알리는 이벤트
+ * <p>
+ * 트랜잭션 커밋 이후 유저 검색 인덱스에 반영된다.
+ *
+ * @param userId   변경된 유저 ID
+ * @param type     변경 종류
+ * @param username 생성/변경된 유저명 (삭제 시 null)
+ */
+public record UserChangedEvent(
+        UUID userId,
+        Type type,
+        String username
+) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static UserChangedEvent created(UUID userId, String username) {
+        return new UserChangedEvent(userId, Type.CREATED, username);
+    }
+
+    public static UserChangedEvent updated(UUID userId, String username) {
+        return new UserChangedEvent(userId, Type.UPDATED, username);
+    }
+
+    public static UserChangedEvent deleted(UUID userId) {
+        return new UserChangedEvent(userId, Type.DELETED, null);
+    }
+}
@@ -0,0 +1,23 @@
+package com.sprint.mission.discodeit.exception.BinaryContent;
+
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import java.util.Map;
+import java.util.UUID;
+import lombok.Getter;
+
+@Getter
+public class BinaryContentNotReadyException extends BinaryContentException {
+
+    private final UUID binaryContentId;
+    private final BinaryContentStatus status;
+
+    public BinaryContentNotReadyException(UUID binaryContentId, BinaryContentStatus status) {
+        super(
+                ErrorCode.BINARY_CONTENT_NOT_READY,
+                Map.of("binaryContentId", binaryContentId, "status", status)
+        );
+        this.binaryContentId = binaryContentId;
+        this.status = status;
+    }
+}
@@ -9,6 +9,9 @@ public enum ErrorCode {
     USER_NOT_FOUND("존재하지 않는 사용자입니다."),
     DUPLICATE_USER("이미 존재하는 사용자입니다."),
     PASSWORD_MISMATCH("패스워드가 일치하지 않습니다."),
+    TOO_MANY_LOGIN_ATTEMPTS("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    PASSWORD_HASHING_BUSY("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    INVALID_USER_CURSOR("올바르지 않은 유저 커서입니다."),
 
     // Channel
     CHANNEL_NOT_FOUND("존재하지 않는 채널입니다."),
@@ -16,9 +19,11 @@ public enum ErrorCode {
 
     // Message
     MESSAGE_NOT_FOUND("존재하지 않는 메시지입니다."),
+    INVALID_MESSAGE_CURSOR("올바르지 않은 메시지 커서입니다."),
 
     // BinaryContent
     BINARY_CONTENT_NOT_FOUND("존재하지 않는 컨텐츠입니다."),
+    BINARY_CONTENT_NOT_READY("아직 업로드가 완료되지 않은 컨텐츠입니다."),
 
     // ReadStatus
     READ_STATUS_NOT_FOUND("존재하지 않는 ReadStatus입니다."),
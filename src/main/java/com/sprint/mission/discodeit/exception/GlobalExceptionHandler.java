@@ -1,11 +1,16 @@
 package com.sprint.mission.discodeit.exception;
 
 import com.sprint.mission.discodeit.exception.BinaryContent.BinaryContentNotFoundException;
+import com.sprint.mission.discodeit.exception.BinaryContent.BinaryContentNotReadyException;
 import com.sprint.mission.discodeit.exception.Channel.ChannelNotFoundException;
 import com.sprint.mission.discodeit.exception.Channel.PrivateChannelUpdateException;
+import com.sprint.mission.discodeit.exception.Message.InvalidMessageCursorException;
 import com.sprint.mission.discodeit.exception.Message.MessageNotFoundException;
 import com.sprint.mission.discodeit.exception.ReadStatus.ReadStatusAlreadyExistsException;
 import com.sprint.mission.discodeit.exception.ReadStatus.ReadStatusNotFoundException;
+import com.sprint.mission.discodeit.exception.User.InvalidUserCursorException;
+import com.sprint.mission.discodeit.exception.User.LoginRateLimitExceededException;
+import com.sprint.mission.discodeit.exception.User.PasswordHashingBusyException;
 import com.sprint.mission.discodeit.exception.User.UserAlreadyExistsException;
 import com.sprint.mission.discodeit.exception.User.UserNotFoundException;
 import com.sprint.mission.discodeit.exception.User.UserPasswordMismatchException;
@@ -14,6 +19,8 @@ import com.sprint.mission.discodeit.exception.UserStatus.UserStatusNotFoundExcep
 import java.time.Instant;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -70,6 +77,30 @@ public class GlobalExceptionHandler {
         return toErrorResponse(HttpStatus.UNAUTHORIZED, e);
     }
 
+    @ExceptionHandler(LoginRateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleLoginRateLimitExceededException(
+            LoginRateLimitExceededException e) {
+        log.warn("Login rate limit exceeded: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(
+                        LoginRateLimitExceededException.retryAfterSeconds(e.getRetryAfter())))
+                .body(ErrorResponse.of(HttpStatus.TOO_MANY_REQUESTS, e));
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingBusyException(
+            PasswordHashingBusyException e) {
+        log.warn("Password hashing busy: {}", e.getMessage());
+        return toErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, e);
+    }
+
+    @ExceptionHandler(InvalidUserCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidUserCursorException(
+            InvalidUserCursorException e) {
+        log.warn("Invalid user cursor: {}", e.getMessage());
+        return toErrorResponse(HttpStatus.BAD_REQUEST, e);
+    }
+
     // Channel
     @ExceptionHandler(ChannelNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleChannelNotFoundException(
@@ -93,6 +124,13 @@ public class GlobalExceptionHandler {
         return toErrorResponse(HttpStatus.NOT_FOUND, e);
     }
 
+    @ExceptionHandler(InvalidMessageCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidMessageCursorException(
+            InvalidMessageCursorException e) {
+        log.warn("Invalid message cursor: {}", e.getMessage());
+        return toErrorResponse(HttpStatus.BAD_REQUEST, e);
+    }
+
     // BinaryContent
     @ExceptionHandler(BinaryContentNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleBinaryContentNotFoundException(
@@ -101,6 +139,13 @@ public class GlobalExceptionHandler {
         return toErrorResponse(HttpStatus.NOT_FOUND, e);
     }
 
+    @ExceptionHandler(BinaryContentNotReadyException.class)
+    public ResponseEntity<ErrorResponse> handleBinaryContentNotReadyException(
+            BinaryContentNotReadyException e) {
+        log.warn("Binary content not ready: {}", e.getMessage());
+        return toErrorResponse(HttpStatus.CONFLICT, e);
+    }
+
     // ReadStatus
     @ExceptionHandler(ReadStatusNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleReadStatusNotFoundException(
@@ -139,6 +184,22 @@ public class GlobalExceptionHandler {
         return toErrorResponse(HttpStatus.BAD_REQUEST, e);
     }
 
+    // DB 제약 조건 위반 (사전 검사 이후 동시 요청이 같은 값을 선점한 경우 등)
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(
+            DataIntegrityViolationException e) {
+        log.warn("DataIntegrityViolationException: {}", e.getMostSpecificCause().getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse(
+                        Instant.now(),
+                        HttpStatus.CONFLICT.getReasonPhrase(),
+                        "데이터 제약 조건을 위반했습니다.",
+                        Map.of(),
+                        e.getClass().getSimpleName(),
+                        HttpStatus.CONFLICT.value())
+                );
+    }
+
     // Default 에러 처리
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> exceptionHandler(Exception e) {
@@ -0,0 +1,19 @@
+package com.sprint.mission.discodeit.exception.Message;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import java.util.Map;
+import lombok.Getter;
+
+@Getter
+public class InvalidMessageCursorException extends MessageException {
+
+    private final String cursor;
+
+    public InvalidMessageCursorException(String cursor) {
+        super(
+                ErrorCode.INVALID_MESSAGE_CURSOR,
+                Map.of("cursor", cursor)
+        );
+        this.cursor = cursor;
+    }
+}
@@ -0,0 +1,19 @@
+package com.sprint.mission.discodeit.exception.User;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import java.util.Map;
+import lombok.Getter;
+
+@Getter
+public class InvalidUserCursorException extends UserException {
+
+    private final String cursor;
+
+    public InvalidUserCursorException(String cursor) {
+        super(
+                ErrorCode.INVALID_USER_CURSOR,
+                Map.of("cursor", cursor)
+        );
+        this.cursor = cursor;
+    }
+}
@@ -0,0 +1,27 @@
+package com.sprint.mission.discodeit.exception.User;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import java.time.Duration;
+import java.util.Map;
+import lombok.Getter;
+
+@Getter
+public class LoginRateLimitExceededException extends UserException {
+
+    private final Duration retryAfter;
+
+    public LoginRateLimitExceededException(Duration retryAfter) {
+        super(
+                ErrorCode.TOO_MANY_LOGIN_ATTEMPTS,
+                Map.of("retryAfterSeconds", retryAfterSeconds(retryAfter))
+        );
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Retry-After 헤더 값 (1초 미만은 1초로 올림)
+     */
+    public static long retryAfterSeconds(Duration retryAfter) {
+        return Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+    }
+}
@@ -0,0 +1,11 @@
+package com.sprint.mission.discodeit.exception.User;
+
+import com.sprint.mission.discodeit.exception.ErrorCode;
+import java.util.Map;
+
+public class PasswordHashingBusyException extends UserException {
+
+    public PasswordHashingBusyException() {
+        super(ErrorCode.PASSWORD_HASHING_BUSY, Map.of());
+    }
+}
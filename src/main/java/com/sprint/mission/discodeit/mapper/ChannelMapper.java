@@ -1,54 +1,99 @@
 package com.sprint.mission.discodeit.mapper;
 
 import com.sprint.mission.discodeit.dto.Channel.ChannelDto;
-import com.sprint.mission.discodeit.dto.User.UserDto;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
-import com.sprint.mission.discodeit.entity.Message;
-import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
-import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 @Component
 public class ChannelMapper {
 
-    private final MessageRepository messageRepository;
     private final ReadStatusRepository readStatusRepository;
     private final UserMapper userMapper;
 
-    public ChannelMapper(MessageRepository messageRepository,
-            ReadStatusRepository readStatusRepository,
+    public ChannelMapper(ReadStatusRepository readStatusRepository,
             UserMapper userMapper) {
-        this.messageRepository = messageRepository;
         this.readStatusRepository = readStatusRepository;
         this.userMapper = userMapper;
     }
 
     public ChannelDto toDto(Channel channel) {
+        return toDtoList(List.of(channel)).get(0);
+    }
 
-        Message lastMessage = messageRepository.findTopByChannel_IdOrderByCreatedAtDesc(
-                channel.getId()).orElse(null);
-
-        Instant lastMessageAt = lastMessage != null ? lastMessage.getCreatedAt() : null;
-
-        List<UserDto> users = null;
-
-        if (ChannelType.PRIVATE.equals(channel.getType())) {
-            users = readStatusRepository.findAllByChannel_Id(channel.getId())
-                    .stream()
-                    .map(rs -> userMapper.toDto(rs.getUser()))
-                    .toList();
-        }
-
+    /**
+     * 이미 조회한 참여자로 채널 DTO 변환. Private 채널 참여자를 다시 조회하지 않는다.
+     *
+     * @param channel      변환할 채널
+     * @param participants Private 채널 참여자 (Public 채널이면 무시)
+     * @return 변환된 채널DTO
+     */
+    public ChannelDto toDto(Channel channel, List<User> participants) {
         return new ChannelDto(
                 channel.getId(),
                 channel.getName(),
                 channel.getDescription(),
                 channel.getType(),
-                lastMessageAt,
-                users
+                channel.getLastMessageAt(),
+                ChannelType.PRIVATE.equals(channel.getType())
+                        ? participants.stream().map(userMapper::toDto).toList()
+                        : null
         );
     }
+
+    /**
+     * 캐시에서 꺼낸 채널 DTO의 참여자 online을 현재 활동 상태로 다시 계산
+     *
+     * @param dto 캐시된 채널 DTO
+     * @return 참여자 online만 갱신된 채널 DTO
+     */
+    public ChannelDto withPresence(ChannelDto dto) {
+        if (dto.participants() == null) {
+            return dto;
+        }
+
+        return new ChannelDto(dto.id(), dto.name(), dto.description(), dto.type(),
+                dto.lastMessageAt(),
+                dto.participants().stream().map(userMapper::withPresence).toList());
+    }
+
+    /**
+     * 채널 목록을 DTO 목록으로 일괄 변환
+     * <p>
+     * 마지막 메시지 시각은 채널 컬럼에서 읽고, Private 채널 참여자는 채널 수와 관계없이 1회 조회로 처리
+     *
+     * @param channels 변환할 채널 목록
+     * @return 변환된 채널DTO 리스트 (입력 순서 유지)
+     */
+    public List<ChannelDto> toDtoList(List<Channel> channels) {
+        if (channels.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> privateChannelIds = channels.stream()
+                .filter(channel -> ChannelType.PRIVATE.equals(channel.getType()))
+                .map(Channel::getId)
+                .toList();
+
+        Map<UUID, List<User>> participants = privateChannelIds.isEmpty()
+                ? Map.of()
+                : readStatusRepository.findAllByChannelIdInWithUser(privateChannelIds)
+                        .stream()
+                        .collect(Collectors.groupingBy(
+                                rs -> rs.getChannel().getId(),
+                                Collectors.mapping(ReadStatus::getUser, Collectors.toList())
+                        ));
+
+        return channels.stream()
+                .map(channel -> toDto(channel,
+                        participants.getOrDefault(channel.getId(), List.of())))
+                .toList();
+    }
 }
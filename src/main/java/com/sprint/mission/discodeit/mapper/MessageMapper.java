@@ -1,13 +1,50 @@
 package com.sprint.mission.discodeit.mapper;
 
+import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentDto;
 import com.sprint.mission.discodeit.dto.Message.MessageDto;
+import com.sprint.mission.discodeit.dto.User.UserDto;
 import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.presence.PresenceRegistry;
+import com.sprint.mission.discodeit.repository.projection.MessageAttachmentRow;
+import com.sprint.mission.discodeit.repository.projection.MessageRow;
+import java.util.List;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.springframework.beans.factory.annotation.Autowired;
 
 @Mapper(componentModel = "spring", uses = {BinaryContentMapper.class, UserMapper.class})
-public interface MessageMapper {
+public abstract class MessageMapper {
+
+    @Autowired
+    protected PresenceRegistry presenceRegistry;
 
     @Mapping(target = "channelId", expression = "java(message.getChannel() != null ? message.getChannel().getId() : null)")
-    MessageDto toDto(Message message);
+    public abstract MessageDto toDto(Message message);
+
+    /**
+     * 메시지 목록 projection 행을 DTO로 변환
+     *
+     * @param row         메시지 projection 행
+     * @param attachments 해당 메시지의 첨부파일 목록
+     * @return 변환된 메시지DTO (작성자가 삭제된 경우 author는 null)
+     */
+    public MessageDto toDto(MessageRow row, List<BinaryContentDto> attachments) {
+        UserDto author = null;
+        if (row.authorId() != null) {
+            BinaryContentDto profile = row.profileId() == null ? null : new BinaryContentDto(
+                    row.profileId(), row.profileFileName(), row.profileSize(),
+                    row.profileContentType(), row.profileStatus());
+            author = new UserDto(row.authorId(), row.authorUsername(), row.authorEmail(),
+                    profile, presenceRegistry.isOnline(row.authorId(),
+                    row.authorLastActiveAt()));
+        }
+
+        return new MessageDto(row.id(), row.createdAt(), row.updatedAt(), row.content(),
+                row.channelId(), author, attachments);
+    }
+
+    public BinaryContentDto toDto(MessageAttachmentRow row) {
+        return new BinaryContentDto(row.id(), row.fileName(), row.size(), row.contentType(),
+                row.status());
+    }
 }
@@ -1,13 +1,74 @@
 package com.sprint.mission.discodeit.mapper;
 
+import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentDto;
 import com.sprint.mission.discodeit.dto.User.UserDto;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.presence.PresenceRegistry;
+import com.sprint.mission.discodeit.repository.UserBulkRepository.NewUserRow;
+import com.sprint.mission.discodeit.repository.projection.UserRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.springframework.beans.factory.annotation.Autowired;
 
 @Mapper(componentModel = "spring", uses = {BinaryContentMapper.class})
-public interface UserMapper {
+public abstract class UserMapper {
 
-    @Mapping(target = "online", expression = "java(user.getStatus() != null && user.getStatus().isOnline())")
-    UserDto toDto(User user);
+    @Autowired
+    protected PresenceRegistry presenceRegistry;
+
+    @Mapping(target = "online", expression = "java(isOnline(user))")
+    public abstract UserDto toDto(User user);
+
+    /**
+     * 유저 목록 projection 행을 DTO로 변환
+     *
+     * @param row 유저 projection 행
+     * @return 변환된 유저DTO
+     */
+    public UserDto toDto(UserRow row) {
+        BinaryContentDto profile = row.profileId() == null ? null : new BinaryContentDto(
+                row.profileId(), row.profileFileName(), row.profileSize(),
+                row.profileContentType(), row.profileStatus());
+
+        return new UserDto(row.id(), row.username(), row.email(), profile,
+                presenceRegistry.isOnline(row.id(), row.lastActiveAt()));
+    }
+
+    /**
+     * 대량 등록으로 저장한 행을 DTO로 변환. 프로필은 없고, 온라인 여부는 생성 시각 기준으로 판단한다.
+     *
+     * @param row 저장한 유저 행
+     * @return 변환된 유저DTO
+     */
+    public UserDto toDto(NewUserRow row) {
+        return new UserDto(row.id(), row.username(), row.email(), null,
+                presenceRegistry.isOnline(row.id(), row.createdAt()));
+    }
+
+    /**
+     * 캐시에서 꺼낸 유저 DTO의 online을 현재 활동 상태로 다시 계산
+     *
+     * @param dto 캐시된 유저 DTO
+     * @return online만 갱신된 유저 DTO
+     */
+    public UserDto withPresence(UserDto dto) {
+        boolean online = presenceRegistry.isOnline(dto.id());
+        if (online == dto.online()) {
+            return dto;
+        }
+        return new UserDto(dto.id(), dto.username(), dto.email(), dto.profile(), online);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 하트비트를 포함하여 온라인 여부 판단
+     * <p>
+     * 메모리에는 등록하지 않는다. 캐시에 담을 DTO는 서비스가 {@link PresenceRegistry#loadIfOnline} 로 먼저 등록해야
+     * {@link #withPresence(UserDto)} 로 다시 계산할 수 있다.
+     */
+    protected boolean isOnline(User user) {
+        UserStatus status = user.getStatus();
+        return status != null
+                && presenceRegistry.isOnline(user.getId(), status.getLastActiveAt());
+    }
 }
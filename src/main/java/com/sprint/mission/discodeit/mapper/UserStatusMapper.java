@@ -2,12 +2,18 @@ package com.sprint.mission.discodeit.mapper;
 
 import com.sprint.mission.discodeit.dto.UserStatus.UserStatusDto;
 import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.presence.PresenceRegistry;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.springframework.beans.factory.annotation.Autowired;
 
 @Mapper(componentModel = "spring")
-public interface UserStatusMapper {
+public abstract class UserStatusMapper {
+
+    @Autowired
+    protected PresenceRegistry presenceRegistry;
 
     @Mapping(target = "userId", expression = "java(userStatus.getUser().getId())")
-    UserStatusDto toDto(UserStatus userStatus);
+    @Mapping(target = "lastActiveAt", expression = "java(presenceRegistry.lastActiveAt(userStatus.getUser().getId(), userStatus.getLastActiveAt()))")
+    public abstract UserStatusDto toDto(UserStatus userStatus);
 }
@@ -0,0 +1,178 @@
+package com.sprint.mission.discodeit.presence;
+
+import com.sprint.mission.discodeit.config.PresenceProperties;
+import com.sprint.mission.discodeit.entity.UserStatus;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저별 마지막 활동 시각을 메모리에 모아 두었다가 주기적으로 DB에 한 번에 반영
+ * <p>
+ * 하트비트는 메모리만 갱신하고, 변경된 유저만 flush 주기마다 JDBC batch UPDATE로 저장한다. 온라인 여부와 마지막 활동 시각 조회는
+ * DB 값과 메모리 값 중 최신 값을 사용한다. 단일 인스턴스 기준이며, 종료 시 남은 변경을 반영한다.
+ */
+@Slf4j
+@Component
+public class PresenceRegistry {
+
+    private static final String FLUSH_SQL = "UPDATE user_statuses"
+            + " SET last_active_at = ?, updated_at = ?"
+            + " WHERE user_id = ? AND last_active_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    private final ConcurrentMap<UUID, Presence> presences = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, Instant> dirty = new ConcurrentHashMap<>();
+
+    public PresenceRegistry(JdbcTemplate jdbcTemplate, PresenceProperties presenceProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = presenceProperties.getBatchSize();
+    }
+
+    /**
+     * 메모리에 올라온 유저의 UserStatus ID와 마지막 활동 시각
+     */
+    public record Presence(UUID statusId, Instant lastActiveAt) {
+
+    }
+
+    public Optional<Presence> find(UUID userId) {
+        return Optional.ofNullable(presences.get(userId));
+    }
+
+    /**
+     * DB에서 읽은 UserStatus를 메모리에 등록. 이미 더 최신 값이 있으면 유지한다.
+     *
+     * @return 등록 후의 Presence
+     */
+    public Presence load(UUID userId, UUID statusId, Instant lastActiveAt) {
+        return presences.merge(userId, new Presence(statusId, lastActiveAt),
+                PresenceRegistry::latest);
+    }
+
+    /**
+     * DB에서 읽은 UserStatus가 온라인이면 메모리에 등록. 오프라인이면 등록하지 않는다.
+     * <p>
+     * 캐시된 DTO의 online은 메모리 값만으로 다시 계산하므로({@link #isOnline(UUID)}), 캐시에 담을 DTO를 만드는 서비스가 호출한다.
+     */
+    public void loadIfOnline(UUID userId, UserStatus status) {
+        if (status != null && isOnline(userId, status.getLastActiveAt())) {
+            load(userId, status.getId(), status.getLastActiveAt());
+        }
+    }
+
+    /**
+     * 하트비트를 기록하고 다음 flush 대상으로 표시. 마지막 활동 시각은 뒤로 가지 않는다.
+     *
+     * @return 기록 후의 Presence
+     */
+    public Presence touch(UUID userId, UUID statusId, Instant lastActiveAt) {
+        Presence presence = presences.merge(userId, new Presence(statusId, lastActiveAt),
+                PresenceRegistry::latest);
+        dirty.merge(userId, presence.lastActiveAt(), PresenceRegistry::latest);
+        return presence;
+    }
+
+    /**
+     * DB 값과 메모리 값 중 최신 마지막 활동 시각
+     */
+    public Instant lastActiveAt(UUID userId, Instant persisted) {
+        Presence presence = userId == null ? null : presences.get(userId);
+        if (presence == null) {
+            return persisted;
+        }
+        if (persisted == null || presence.lastActiveAt().isAfter(persisted)) {
+            return presence.lastActiveAt();
+        }
+        return persisted;
+    }
+
+    public boolean isOnline(UUID userId, Instant persisted) {
+        return UserStatus.isOnline(lastActiveAt(userId, persisted));
+    }
+
+    /**
+     * 메모리 값만으로 온라인 여부 판단
+     * <p>
+     * 온라인으로 매핑된 유저는 메모리에 등록되고 오프라인이 된 뒤에야 flush에서 제거되므로, 메모리에 없는 유저는 오프라인이다. DB 값 없이
+     * 캐시된 DTO의 online을 다시 계산할 때 쓴다.
+     */
+    public boolean isOnline(UUID userId) {
+        Presence presence = presences.get(userId);
+        return presence != null && UserStatus.isOnline(presence.lastActiveAt());
+    }
+
+    /**
+     * 삭제된 유저를 메모리와 flush 대상에서 제거
+     */
+    public void evict(UUID userId) {
+        presences.remove(userId);
+        dirty.remove(userId);
+    }
+
+    /**
+     * 변경된 마지막 활동 시각을 batch UPDATE로 반영하고, 오프라인이 된 유저를 메모리에서 제거
+     * <p>
+     * 반영 도중 들어온 하트비트는 지워지지 않고 다음 flush에 포함된다. 실패한 변경은 다시 flush 대상으로 되돌린다.
+     *
+     * @return 반영을 시도한 유저 수
+     */
+    @Scheduled(fixedDelayString = "${discodeit.presence.flush-interval:5s}")
+    public int flush() {
+        List<Map.Entry<UUID, Instant>> drained = new ArrayList<>();
+        for (Map.Entry<UUID, Instant> entry : dirty.entrySet()) {
+            if (dirty.remove(entry.getKey(), entry.getValue())) {
+                drained.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        if (!drained.isEmpty()) {
+            Timestamp now = Timestamp.from(Instant.now());
+            try {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, drained, batchSize, (ps, entry) -> {
+                    Timestamp lastActiveAt = Timestamp.from(entry.getValue());
+                    ps.setTimestamp(1, lastActiveAt);
+                    ps.setTimestamp(2, now);
+                    ps.setObject(3, entry.getKey());
+                    ps.setTimestamp(4, lastActiveAt);
+                });
+            } catch (RuntimeException e) {
+                log.error("마지막 활동 시각 반영 실패: 대상 = {}", drained.size(), e);
+                drained.forEach(entry ->
+                        dirty.merge(entry.getKey(), entry.getValue(), PresenceRegistry::latest));
+            }
+        }
+
+        presences.entrySet().removeIf(entry -> !dirty.containsKey(entry.getKey())
+                && !UserStatus.isOnline(entry.getValue().lastActiveAt()));
+
+        return drained.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        int flushed = flush();
+        log.info("종료 전 마지막 활동 시각 반영: 대상 = {}", flushed);
+    }
+
+    private static Presence latest(Presence current, Presence candidate) {
+        return candidate.lastActiveAt().isAfter(current.lastActiveAt()) ? candidate : current;
+    }
+
+    private static Instant latest(Instant current, Instant candidate) {
+        return candidate.isAfter(current) ? candidate : current;
+    }
+}
@@ -1,15 +1,40 @@
 package com.sprint.mission.discodeit.repository;
 
 import com.sprint.mission.discodeit.entity.BinaryContent;
-
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface BinaryContentRepository extends JpaRepository<BinaryContent, UUID> {
 
+    /**
+     * 업로드 상태 변경
+     * <p>
+     * 커밋 이후 리스너나 업로드 스레드에서 호출되므로 항상 새 트랜잭션에서 실행한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE BinaryContent b SET b.status = :status WHERE b.id = :id")
+    int updateStatus(@Param("id") UUID id, @Param("status") BinaryContentStatus status);
+
+    @Query("SELECT b.id FROM BinaryContent b WHERE b.status = :status AND b.createdAt < :createdAt")
+    List<UUID> findIdsByStatusAndCreatedAtBefore(@Param("status") BinaryContentStatus status,
+            @Param("createdAt") Instant createdAt);
+
+    /**
+     * 주어진 ID 중 BinaryContent가 존재하는 ID만 조회
+     */
+    @Query("SELECT b.id FROM BinaryContent b WHERE b.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
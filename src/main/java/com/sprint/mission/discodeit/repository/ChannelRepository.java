@@ -2,22 +2,89 @@ package com.sprint.mission.discodeit.repository;
 
 import com.sprint.mission.discodeit.entity.Channel;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ChannelRepository extends JpaRepository<Channel, UUID> {
 
+    // 삭제 요청된 채널(deleted_at)은 백그라운드 삭제가 끝나기 전에도 조회되지 않도록 기본 조회를 재정의한다.
+    @Query("SELECT c FROM Channel c WHERE c.id = :id AND c.deletedAt IS NULL")
+    Optional<Channel> findById(@Param("id") UUID id);
+
+    @Query("""
+                SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END
+                FROM Channel c
+                WHERE c.id = :id AND c.deletedAt IS NULL
+            """)
+    boolean existsById(@Param("id") UUID id);
+
+    @Query("SELECT c FROM Channel c WHERE c.id IN :ids AND c.deletedAt IS NULL")
+    List<Channel> findAllByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Override
+    default List<Channel> findAllById(Iterable<UUID> ids) {
+        List<UUID> idList = new ArrayList<>();
+        ids.forEach(idList::add);
+        return idList.isEmpty() ? List.of() : findAllByIdIn(idList);
+    }
+
+    /**
+     * 조회 없이 프록시만 만들기 때문에 삭제 요청된 채널도 걸러내지 못한다. 호출 전에 {@link #existsById(UUID)} 로 확인해야 한다.
+     */
+    @Override
+    Channel getReferenceById(UUID id);
+
     @Query("""
                 SELECT c FROM Channel c
-                WHERE c.type = 'PUBLIC'
-                   OR c.id IN (
-                       SELECT r.channel.id FROM ReadStatus r WHERE r.user.id = :userId
-                   )
+                WHERE c.deletedAt IS NULL
+                  AND (c.type = 'PUBLIC'
+                       OR c.id IN (
+                           SELECT r.channel.id FROM ReadStatus r WHERE r.user.id = :userId
+                       ))
             """)
     List<Channel> findAllPublicOrUserChannels(UUID userId);
+
+    @Query("SELECT c.id FROM Channel c WHERE c.id IN :ids AND c.deletedAt IS NULL")
+    List<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 마지막 메시지 시각을 주어진 시각과 기존 값 중 더 최근 값으로 갱신 (updated_at 은 변경하지 않음)
+     * <p>
+     * 엔티티를 읽고 고쳐 쓰면 같은 채널에 동시에 메시지가 생성될 때 늦게 커밋된 쪽이 더 최근 값을 덮어쓸 수 있으므로 한 문장으로 비교와
+     * 갱신을 처리한다.
+     */
+    @Modifying
+    @Query("""
+                UPDATE Channel c
+                SET c.lastMessageAt = greatest(
+                    coalesce(c.lastMessageAt, :lastMessageAt), :lastMessageAt)
+                WHERE c.id = :id
+            """)
+    int updateLastMessageAt(@Param("id") UUID id, @Param("lastMessageAt") Instant lastMessageAt);
+
+    /**
+     * 삭제된 메시지가 채널의 마지막 메시지였다면 남은 메시지 중 가장 최근 시각으로 다시 계산 (updated_at 은 변경하지 않음)
+     * <p>
+     * 저장된 값이 삭제된 메시지 시각과 같을 때만 바꾸므로, 그 사이 동시에 생성된 메시지가 갱신한 더 최근 값은 덮어쓰지 않는다. 대기 중인
+     * 메시지 삭제를 먼저 반영한 뒤 실행한다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+                UPDATE Channel c
+                SET c.lastMessageAt = (
+                    SELECT max(m.createdAt) FROM Message m WHERE m.channel.id = :id)
+                WHERE c.id = :id AND c.lastMessageAt = :deletedCreatedAt
+            """)
+    int resetLastMessageAt(@Param("id") UUID id,
+            @Param("deletedCreatedAt") Instant deletedCreatedAt);
 }
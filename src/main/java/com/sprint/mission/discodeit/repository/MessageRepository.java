@@ -3,11 +3,12 @@ package com.sprint.mission.discodeit.repository;
 import com.sprint.mission.discodeit.dto.Message.MessageDto;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.repository.projection.MessageAttachmentRow;
+import com.sprint.mission.discodeit.repository.projection.MessageRow;
 
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -21,18 +22,52 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface MessageRepository extends JpaRepository<Message, UUID> {
 
-    Optional<Message> findTopByChannel_IdOrderByCreatedAtDesc(UUID channelId);
-
-    void deleteAllByChannelId(UUID channelId);
+    /**
+     * 주어진 시각 이후 채널에 다른 유저가 작성한 메시지 수 (작성자가 삭제된 메시지 포함)
+     */
+    @Query("""
+                SELECT COUNT(m) FROM Message m
+                WHERE m.channel.id = :channelId
+                AND m.createdAt > :after
+                AND (m.author IS NULL OR m.author.id <> :userId)
+            """)
+    long countUnread(@Param("channelId") UUID channelId,
+            @Param("userId") UUID userId,
+            @Param("after") Instant after);
 
+    /**
+     * (createdAt, id) 키셋 커서 이전의 채널 메시지를 projection으로 최신순 조회
+     * <p>
+     * 엔티티를 만들지 않고 작성자, 상태, 프로필을 LEFT JOIN 하므로 작성자가 삭제된 메시지도 포함되며 SQL LIMIT이 그대로 적용된다.
+     * 정렬은 idx_messages_channel_id_created_at_id 인덱스 순서에 고정되어 있으므로 pageable의 정렬은 무시한다.
+     */
     @Query("""
-                SELECT m FROM Message m
-                LEFT JOIN FETCH m.author a 
-                JOIN FETCH a.status
-                LEFT JOIN FETCH a.profile
-                WHERE m.channel.id=:channelId AND m.createdAt < :createdAt
+                SELECT new com.sprint.mission.discodeit.repository.projection.MessageRow(
+                    m.id, m.createdAt, m.updatedAt, m.content, m.channel.id,
+                    a.id, a.username, a.email, s.lastActiveAt,
+                    p.id, p.fileName, p.size, p.contentType, p.status
+                )
+                FROM Message m
+                LEFT JOIN m.author a
+                LEFT JOIN a.status s
+                LEFT JOIN a.profile p
+                WHERE m.channel.id = :channelId
+                AND (m.createdAt, m.id) < (:createdAt, :id)
+                ORDER BY m.createdAt DESC, m.id DESC
             """)
-    Slice<Message> findAllByChannelIdWithAuthor(@Param("channelId") UUID channelId,
+    Slice<MessageRow> findPageByChannelId(@Param("channelId") UUID channelId,
             @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
             Pageable pageable);
-}
\ No newline at end of file
+
+    @Query("""
+                SELECT new com.sprint.mission.discodeit.repository.projection.MessageAttachmentRow(
+                    m.id, b.id, b.fileName, b.size, b.contentType, b.status
+                )
+                FROM Message m
+                JOIN m.attachments b
+                WHERE m.id IN :messageIds
+            """)
+    List<MessageAttachmentRow> findAttachmentsByMessageIdIn(
+            @Param("messageIds") Collection<UUID> messageIds);
+}
@@ -0,0 +1,23 @@
+package com.sprint.mission.discodeit.repository;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 읽음 상태 일괄 반영용 JDBC batch 저장소 (ReadStatusRepository fragment)
+ */
+public interface ReadStatusBulkRepository {
+
+    /**
+     * 유저의 채널별 마지막으로 읽은 시각을 한 번의 batch upsert로 반영
+     * <p>
+     * (user_id, channel_id) 유니크 제약으로 없는 ReadStatus는 생성하고, 있는 경우 저장된 시각보다 늦을 때만 갱신한다. 안 읽은 메시지
+     * 수는 반영된 시각 기준으로 다시 계산한다.
+     *
+     * @param userId      유저 ID
+     * @param lastReadAts 채널 ID별 마지막으로 읽은 시각
+     * @param now         생성/수정 시각
+     */
+    void upsertLastReadAts(UUID userId, Map<UUID, Instant> lastReadAts, Instant now);
+}
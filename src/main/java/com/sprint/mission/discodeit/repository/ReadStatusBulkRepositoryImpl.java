@@ -0,0 +1,51 @@
+package com.sprint.mission.discodeit.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * PostgreSQL INSERT ... ON CONFLICT 기반 구현
+ */
+@RequiredArgsConstructor
+public class ReadStatusBulkRepositoryImpl implements ReadStatusBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    // 이미 더 늦은 시각이 저장되어 있으면 DO UPDATE 의 WHERE 조건으로 건너뛰어 시각이 뒤로 가지 않는다.
+    private static final String UPSERT_SQL = "INSERT INTO read_statuses AS r"
+            + " (id, created_at, updated_at, user_id, channel_id, last_read_at, unread_count)"
+            + " VALUES (?, ?, ?, ?, ?, ?,"
+            + " (SELECT COUNT(*) FROM messages m"
+            + " WHERE m.channel_id = ? AND m.created_at > ?"
+            + " AND (m.author_id IS NULL OR m.author_id <> ?)))"
+            + " ON CONFLICT (user_id, channel_id) DO UPDATE"
+            + " SET last_read_at = EXCLUDED.last_read_at,"
+            + " unread_count = EXCLUDED.unread_count,"
+            + " updated_at = EXCLUDED.updated_at"
+            + " WHERE r.last_read_at < EXCLUDED.last_read_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertLastReadAts(UUID userId, Map<UUID, Instant> lastReadAts, Instant now) {
+        Timestamp createdAt = Timestamp.from(now);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, new ArrayList<>(lastReadAts.entrySet()), BATCH_SIZE,
+                (ps, entry) -> {
+                    Timestamp lastReadAt = Timestamp.from(entry.getValue());
+                    ps.setObject(1, UUID.randomUUID());
+                    ps.setTimestamp(2, createdAt);
+                    ps.setTimestamp(3, createdAt);
+                    ps.setObject(4, userId);
+                    ps.setObject(5, entry.getKey());
+                    ps.setTimestamp(6, lastReadAt);
+                    ps.setObject(7, entry.getKey());
+                    ps.setTimestamp(8, lastReadAt);
+                    ps.setObject(9, userId);
+                });
+    }
+}
@@ -1,6 +1,7 @@
 package com.sprint.mission.discodeit.repository;
 
 import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusDto;
+import com.sprint.mission.discodeit.dto.ReadStatus.UnreadCountDto;
 import com.sprint.mission.discodeit.dto.User.UserDto;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ReadStatus;
@@ -10,18 +11,44 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ReadStatusRepository extends JpaRepository<ReadStatus, UUID> {
+public interface ReadStatusRepository extends JpaRepository<ReadStatus, UUID>,
+        ReadStatusBulkRepository {
 
     Optional<ReadStatus> findById(UUID id);
 
     List<ReadStatus> findAllByChannel_Id(UUID channelId);
 
-    void deleteAllByChannelId(UUID channelId);
+    @Query("""
+                SELECT r FROM ReadStatus r
+                JOIN FETCH r.user u
+                LEFT JOIN FETCH u.status
+                LEFT JOIN FETCH u.profile
+                WHERE r.channel.id IN :channelIds
+            """)
+    List<ReadStatus> findAllByChannelIdInWithUser(@Param("channelIds") Collection<UUID> channelIds);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM ReadStatus r WHERE r.channel.id = :channelId")
+    int deleteAllByChannelId(@Param("channelId") UUID channelId);
 
     boolean existsByUserIdAndChannelId(UUID userId, UUID channelId);
 
     List<ReadStatus> findAllByUserId(UUID userId);
+
+    List<ReadStatus> findAllByUserIdAndChannelIdIn(UUID userId, Collection<UUID> channelIds);
+
+    @Query("""
+                SELECT new com.sprint.mission.discodeit.dto.ReadStatus.UnreadCountDto(
+                    r.channel.id, r.unreadCount
+                )
+                FROM ReadStatus r
+                WHERE r.user.id = :userId
+            """)
+    List<UnreadCountDto> findUnreadCountsByUserId(@Param("userId") UUID userId);
 }
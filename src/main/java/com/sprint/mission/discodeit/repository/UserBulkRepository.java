@@ -0,0 +1,29 @@
+package com.sprint.mission.discodeit.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 대량 유저 등록용 JDBC batch 저장소 (UserRepository fragment)
+ */
+public interface UserBulkRepository {
+
+    /**
+     * 유저와 UserStatus를 JDBC batch INSERT로 저장
+     *
+     * @param rows 저장할 유저 목록 (ID는 호출하는 쪽에서 생성)
+     */
+    void insertAllWithStatus(List<NewUserRow> rows);
+
+    record NewUserRow(
+            UUID id,
+            UUID statusId,
+            String username,
+            String email,
+            String password,
+            Instant createdAt
+    ) {
+
+    }
+}
@@ -0,0 +1,43 @@
+package com.sprint.mission.discodeit.repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class UserBulkRepositoryImpl implements UserBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_USER_SQL = "INSERT INTO users"
+            + " (id, created_at, updated_at, username, email, password, profile_id)"
+            + " VALUES (?, ?, ?, ?, ?, ?, NULL)";
+
+    private static final String INSERT_STATUS_SQL = "INSERT INTO user_statuses"
+            + " (id, created_at, updated_at, user_id, last_active_at)"
+            + " VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAllWithStatus(List<NewUserRow> rows) {
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            Timestamp now = Timestamp.from(row.createdAt());
+            ps.setObject(1, row.id());
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            ps.setString(4, row.username());
+            ps.setString(5, row.email());
+            ps.setString(6, row.password());
+        });
+        jdbcTemplate.batchUpdate(INSERT_STATUS_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            Timestamp now = Timestamp.from(row.createdAt());
+            ps.setObject(1, row.statusId());
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            ps.setObject(4, row.id());
+            ps.setTimestamp(5, now);
+        });
+    }
+}
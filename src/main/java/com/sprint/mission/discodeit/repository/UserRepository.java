@@ -2,19 +2,109 @@ package com.sprint.mission.discodeit.repository;
 
 import com.sprint.mission.discodeit.entity.User;
 
+import com.sprint.mission.discodeit.repository.projection.UserIdentityRow;
+import com.sprint.mission.discodeit.repository.projection.UserRow;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, UserBulkRepository {
 
+    /**
+     * 로그인용 조회. DTO 변환에 필요한 프로필/상태를 함께 읽어 트랜잭션 밖에서도 사용할 수 있게 한다.
+     */
+    @EntityGraph(attributePaths = {"profile", "status"})
     Optional<User> findByUsername(String username);
 
+    /**
+     * 패스워드만 변경 (로그인 시 해시 업그레이드용, 호출 측 트랜잭션이 없으면 자체 트랜잭션에서 실행)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE User u SET u.password = :password, u.updatedAt = :updatedAt WHERE u.id = :id")
+    int updatePassword(@Param("id") UUID id, @Param("password") String password,
+            @Param("updatedAt") Instant updatedAt);
+
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
+
+    /**
+     * 유저명 또는 이메일이 일치하는 유저를 한 번의 쿼리로 조회 (null 인자는 비교하지 않음)
+     */
+    @Query("""
+                SELECT new com.sprint.mission.discodeit.repository.projection.UserIdentityRow(
+                    u.id, u.username, u.email
+                )
+                FROM User u
+                WHERE u.username = :username OR u.email = :email
+            """)
+    List<UserIdentityRow> findIdentitiesByUsernameOrEmail(
+            @Param("username") String username,
+            @Param("email") String email
+    );
+
+    @Query("""
+                SELECT new com.sprint.mission.discodeit.repository.projection.UserIdentityRow(
+                    u.id, u.username, u.email
+                )
+                FROM User u
+                WHERE u.username IN :usernames OR u.email IN :emails
+            """)
+    List<UserIdentityRow> findIdentitiesByUsernameInOrEmailIn(
+            @Param("usernames") Collection<String> usernames,
+            @Param("emails") Collection<String> emails
+    );
+
+    /**
+     * 유저명 키셋 커서 이후의 유저를 projection으로 유저명 순 조회
+     * <p>
+     * 상태와 프로필을 LEFT JOIN 하므로 유저 수와 관계없이 한 번의 쿼리로 처리된다. pattern은 LIKE 패턴으로, 특수문자는 '\'로
+     * 이스케이프되어 있어야 한다.
+     */
+    @Query("""
+                SELECT new com.sprint.mission.discodeit.repository.projection.UserRow(
+                    u.id, u.username, u.email, s.lastActiveAt,
+                    p.id, p.fileName, p.size, p.contentType, p.status
+                )
+                FROM User u
+                LEFT JOIN u.status s
+                LEFT JOIN u.profile p
+                WHERE u.username > :after
+                AND u.username LIKE :pattern ESCAPE '\\'
+                ORDER BY u.username
+            """)
+    Slice<UserRow> findPageByUsernameAfter(@Param("after") String after,
+            @Param("pattern") String pattern,
+            Pageable pageable);
+
+    /**
+     * 주어진 ID의 유저를 projection으로 조회 (순서 보장 없음, 없는 ID는 제외)
+     */
+    @Query("""
+                SELECT new com.sprint.mission.discodeit.repository.projection.UserRow(
+                    u.id, u.username, u.email, s.lastActiveAt,
+                    p.id, p.fileName, p.size, p.contentType, p.status
+                )
+                FROM User u
+                LEFT JOIN u.status s
+                LEFT JOIN u.profile p
+                WHERE u.id IN :ids
+            """)
+    List<UserRow> findRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
 }
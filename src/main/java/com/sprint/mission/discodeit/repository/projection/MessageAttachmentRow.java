@@ -0,0 +1,18 @@
+package com.sprint.mission.discodeit.repository.projection;
+
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import java.util.UUID;
+
+/**
+ * 메시지 첨부파일 일괄 조회용 projection
+ */
+public record MessageAttachmentRow(
+        UUID messageId,
+        UUID id,
+        String fileName,
+        Long size,
+        String contentType,
+        BinaryContentStatus status
+) {
+
+}
@@ -0,0 +1,29 @@
+package com.sprint.mission.discodeit.repository.projection;
+
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 메시지 목록 조회용 projection
+ * <p>
+ * 메시지와 작성자, 작성자 상태, 프로필을 LEFT JOIN 한 행. 작성자가 삭제된 메시지는 작성자 관련 값이 모두 null이다.
+ */
+public record MessageRow(
+        UUID id,
+        Instant createdAt,
+        Instant updatedAt,
+        String content,
+        UUID channelId,
+        UUID authorId,
+        String authorUsername,
+        String authorEmail,
+        Instant authorLastActiveAt,
+        UUID profileId,
+        String profileFileName,
+        Long profileSize,
+        String profileContentType,
+        BinaryContentStatus profileStatus
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.sprint.mission.discodeit.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * 유저명/이메일 중복 검사용 projection
+ */
+public record UserIdentityRow(
+        UUID id,
+        String username,
+        String email
+) {
+
+}
@@ -0,0 +1,24 @@
+package com.sprint.mission.discodeit.repository.projection;
+
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 유저 목록 조회용 projection
+ * <p>
+ * 유저와 상태, 프로필을 LEFT JOIN 한 행. 상태나 프로필이 없으면 해당 값이 null이다.
+ */
+public record UserRow(
+        UUID id,
+        String username,
+        String email,
+        Instant lastActiveAt,
+        UUID profileId,
+        String profileFileName,
+        Long profileSize,
+        String profileContentType,
+        BinaryContentStatus profileStatus
+) {
+
+}
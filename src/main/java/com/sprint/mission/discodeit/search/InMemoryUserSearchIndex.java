@@ -0,0 +1,125 @@
+package com.sprint.mission.discodeit.search;
+
+import com.sprint.mission.discodeit.config.UserSearchProperties;
+import com.sprint.mission.discodeit.event.UserChangedEvent;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 애플리케이션 메모리에 둔 유저명 접두어 인덱스 (pg_trgm 을 쓸 수 없는 H2 테스트/벤치마크용)
+ * <p>
+ * "소문자 유저명 + 구분자 + ID" 를 키로 정렬된 맵에 두고, 접두어 검색은 [검색어, 검색어 + U+FFFF) 범위를 앞에서부터 limit 건만 읽는다.
+ * 시작 시 users 를 유저명 키셋으로 나눠 적재하고, 이후에는 커밋된 {@link UserChangedEvent} 로 한 건씩 갱신한다. 단일 인스턴스
+ * 기준이며 비슷한 유저명 검색은 지원하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "discodeit.search.user.type", havingValue = "memory")
+public class InMemoryUserSearchIndex implements UserSearchIndex {
+
+    private static final String LOAD_SQL = "SELECT id, username FROM users"
+            + " WHERE username > ? ORDER BY username FETCH FIRST ? ROWS ONLY";
+
+    // 유저명에 올 수 없는 문자로, 같은 유저명의 키가 더 긴 유저명보다 앞에 정렬된다.
+    private static final char SEPARATOR = '\u0000';
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int loadBatchSize;
+
+    private final NavigableMap<String, UUID> entries = new ConcurrentSkipListMap<>();
+    private final Map<UUID, String> keys = new ConcurrentHashMap<>();
+
+    public InMemoryUserSearchIndex(JdbcTemplate jdbcTemplate,
+            UserSearchProperties userSearchProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.loadBatchSize = userSearchProperties.getLoadBatchSize();
+    }
+
+    /**
+     * users 테이블 전체를 유저명 순으로 나눠 읽어 인덱스에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        String after = "";
+        int loaded = 0;
+        List<Map.Entry<UUID, String>> batch;
+        do {
+            batch = jdbcTemplate.query(LOAD_SQL,
+                    (rs, rowNum) -> Map.entry(rs.getObject("id", UUID.class),
+                            rs.getString("username")),
+                    after, loadBatchSize);
+            for (Map.Entry<UUID, String> row : batch) {
+                put(row.getKey(), row.getValue());
+                after = row.getValue();
+            }
+            loaded += batch.size();
+        } while (batch.size() == loadBatchSize);
+
+        log.info("유저 검색 인덱스 적재 완료: {}명", loaded);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(UserChangedEvent event) {
+        if (event.type() == UserChangedEvent.Type.DELETED) {
+            remove(event.userId());
+        } else {
+            put(event.userId(), event.username());
+        }
+    }
+
+    /**
+     * 유저명을 추가하거나 기존 유저명을 교체
+     *
+     * @param userId   유저 ID
+     * @param username 유저명
+     */
+    public void put(UUID userId, String username) {
+        String key = normalize(username) + SEPARATOR + userId;
+        keys.compute(userId, (id, previous) -> {
+            if (previous != null) {
+                entries.remove(previous);
+            }
+            entries.put(key, id);
+            return key;
+        });
+    }
+
+    /**
+     * 유저를 인덱스에서 제거
+     *
+     * @param userId 유저 ID
+     */
+    public void remove(UUID userId) {
+        keys.computeIfPresent(userId, (id, previous) -> {
+            entries.remove(previous);
+            return null;
+        });
+    }
+
+    @Override
+    public List<UUID> search(String query, int limit) {
+        String prefix = normalize(query);
+        return entries.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .values()
+                .stream()
+                .limit(limit)
+                .toList();
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
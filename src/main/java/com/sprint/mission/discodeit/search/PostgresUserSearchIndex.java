@@ -0,0 +1,63 @@
+package com.sprint.mission.discodeit.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostgreSQL 인덱스로 유저명을 검색
+ * <p>
+ * 접두어 일치는 (lower(username) COLLATE "C") B-tree 인덱스를 범위 조회하여 정렬 없이 상위 limit 건만 읽고, 부족한 만큼
+ * pg_trgm GiST 인덱스의 거리(&lt;-&gt;) 순 KNN 조회로 채운다. 두 인덱스 모두 DB 가 행 변경과 함께 갱신하므로 별도 반영이 필요 없다.
+ * <p>
+ * 검색어도 인덱스 식과 같은 lower() 로 DB 에서 소문자화하여, Java 와 DB 의 대소문자 변환 규칙 차이로 일치가 어긋나지 않게 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "discodeit.search.user.type", havingValue = "postgres",
+        matchIfMissing = true)
+@RequiredArgsConstructor
+public class PostgresUserSearchIndex implements UserSearchIndex {
+
+    // 세 글자 미만 검색어는 트라이그램이 거의 만들어지지 않아 접두어 일치만 사용
+    private static final int MIN_TRIGRAM_QUERY_LENGTH = 3;
+
+    static final String PREFIX_SQL = """
+            SELECT id FROM users
+            WHERE lower(username) COLLATE "C" LIKE lower(?) ESCAPE '\\'
+            ORDER BY lower(username) COLLATE "C"
+            FETCH FIRST ? ROWS ONLY
+            """;
+
+    static final String SIMILAR_SQL = """
+            SELECT id FROM users
+            WHERE lower(username) % lower(?)
+            AND lower(username) COLLATE "C" NOT LIKE lower(?) ESCAPE '\\'
+            ORDER BY lower(username) <-> lower(?)
+            FETCH FIRST ? ROWS ONLY
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<UUID> search(String query, int limit) {
+        String pattern = escapeLike(query) + "%";
+
+        List<UUID> ids = new ArrayList<>(
+                jdbcTemplate.queryForList(PREFIX_SQL, UUID.class, pattern, limit));
+        if (ids.size() < limit && query.length() >= MIN_TRIGRAM_QUERY_LENGTH) {
+            ids.addAll(jdbcTemplate.queryForList(SIMILAR_SQL, UUID.class, query, pattern,
+                    query, limit - ids.size()));
+        }
+        return ids;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,22 @@
+package com.sprint.mission.discodeit.search;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 멘션/자동완성용 유저명 검색 인덱스
+ * <p>
+ * 구현은 discodeit.search.user.type 으로 선택한다. 반환된 ID 는 호출 측에서 users 테이블로 다시 조회하므로, 커밋 직후 잠시 삭제된
+ * 유저가 포함되더라도 결과에는 나타나지 않는다.
+ */
+public interface UserSearchIndex {
+
+    /**
+     * 유저명이 검색어로 시작하는 유저를 먼저, 그 외 비슷한 유저명을 다음 순서로 조회 (대소문자 무시)
+     *
+     * @param query 공백을 제거한 검색어 (빈 문자열 아님)
+     * @param limit 최대 결과 수
+     * @return 순위 순 유저 ID 목록
+     */
+    List<UUID> search(String query, int limit);
+}
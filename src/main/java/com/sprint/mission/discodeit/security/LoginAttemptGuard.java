@@ -0,0 +1,205 @@
+package com.sprint.mission.discodeit.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.sprint.mission.discodeit.config.LoginProtectionProperties;
+import com.sprint.mission.discodeit.exception.User.LoginRateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 시도 제한과 존재하지 않는 유저명 캐시
+ * <p>
+ * 클라이언트 IP 버킷은 시도마다 토큰을 꺼내고, 유저명 버킷은 패스워드가 틀린 경우에만 토큰을 꺼낸다. 어느 한쪽이라도 비어 있으면 DB
+ * 조회 전에 거절하므로, 정상 로그인은 유저명 버킷을 줄이지 않고 다른 사람이 유저명 버킷을 비우려면 실제로 틀린 시도를 해야 한다. 조회
+ * 결과 없는 유저명은 잠시 기억해 두었다가 같은 유저명의 재시도를 DB 없이 거절한다. 단일 인스턴스 기준이다.
+ */
+@Slf4j
+@Component
+public class LoginAttemptGuard {
+
+    private static final String REJECTED_METRIC = "discodeit.auth.login.rejected";
+
+    private final Ticker ticker;
+
+    private final Cache<String, TokenBucket> usernameBuckets;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<String, Boolean> unknownUsernames;
+
+    private final int usernameCapacity;
+    private final Duration usernameRefillPeriod;
+    private final int ipCapacity;
+    private final Duration ipRefillPeriod;
+
+    private final Counter usernameRateRejected;
+    private final Counter ipRateRejected;
+    private final Counter unknownUsernameRejected;
+
+    @Autowired
+    public LoginAttemptGuard(LoginProtectionProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    LoginAttemptGuard(LoginProtectionProperties properties, MeterRegistry meterRegistry,
+            Ticker ticker) {
+        this.ticker = ticker;
+        this.usernameCapacity = properties.getUsernameCapacity();
+        this.usernameRefillPeriod = properties.getUsernameRefillPeriod();
+        this.ipCapacity = properties.getIpCapacity();
+        this.ipRefillPeriod = properties.getIpRefillPeriod();
+
+        // 버킷은 가득 찰 시간 동안 쓰이지 않으면 새 버킷과 같으므로 제거한다.
+        this.usernameBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumKeys())
+                .expireAfterAccess(usernameRefillPeriod)
+                .ticker(ticker)
+                .build();
+        this.ipBuckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumKeys())
+                .expireAfterAccess(ipRefillPeriod)
+                .ticker(ticker)
+                .build();
+        this.unknownUsernames = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumKeys())
+                .expireAfterWrite(properties.getUnknownUsernameTtl())
+                .ticker(ticker)
+                .build();
+
+        this.usernameRateRejected = rejectedCounter(meterRegistry, "username_rate");
+        this.ipRateRejected = rejectedCounter(meterRegistry, "ip_rate");
+        this.unknownUsernameRejected = rejectedCounter(meterRegistry, "unknown_username");
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder(REJECTED_METRIC)
+                .description("DB 조회 전에 거절된 로그인 시도 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시도 전 검사. 유저명 버킷은 남은 토큰만 확인하고, IP 버킷에서는 토큰을 하나 차감한다.
+     *
+     * @throws LoginRateLimitExceededException 유저명 버킷이 비었거나 IP 버킷에 토큰이 없는 경우
+     */
+    public void acquire(String username, String clientAddress) {
+        long now = ticker.read();
+
+        TokenBucket usernameBucket = usernameBuckets.getIfPresent(username);
+        if (usernameBucket != null) {
+            long waitNanos = usernameBucket.waitNanos(now);
+            if (waitNanos > 0) {
+                usernameRateRejected.increment();
+                log.warn("로그인 시도 제한(유저명): {}", username);
+                throw new LoginRateLimitExceededException(Duration.ofNanos(waitNanos));
+            }
+        }
+
+        if (clientAddress != null) {
+            TokenBucket ipBucket = ipBuckets.get(clientAddress,
+                    key -> new TokenBucket(ipCapacity, ipRefillPeriod, now));
+            long waitNanos = ipBucket.tryConsume(now);
+            if (waitNanos > 0) {
+                ipRateRejected.increment();
+                log.warn("로그인 시도 제한(IP): {}", clientAddress);
+                throw new LoginRateLimitExceededException(Duration.ofNanos(waitNanos));
+            }
+        }
+    }
+
+    /**
+     * 패스워드가 틀린 시도를 유저명 버킷에서 차감
+     * <p>
+     * 검사와 차감이 분리되어 있어 동시에 들어온 시도는 버킷 크기를 조금 넘을 수 있지만, 그 수는 IP 버킷과 해시 executor 로 제한된다.
+     */
+    public void recordFailure(String username) {
+        long now = ticker.read();
+        usernameBuckets.get(username,
+                        key -> new TokenBucket(usernameCapacity, usernameRefillPeriod, now))
+                .tryConsume(now);
+    }
+
+    /**
+     * 최근 조회 결과가 없었던 유저명이면 true (거절 메트릭 기록)
+     */
+    public boolean isKnownUnknown(String username) {
+        if (unknownUsernames.getIfPresent(username) == null) {
+            return false;
+        }
+        unknownUsernameRejected.increment();
+        return true;
+    }
+
+    public void rememberUnknown(String username) {
+        unknownUsernames.put(username, Boolean.TRUE);
+    }
+
+    /**
+     * 유저 생성/유저명 변경 시 호출하여 해당 유저명의 부재 캐시를 제거
+     */
+    public void forgetUnknown(String username) {
+        if (username != null) {
+            unknownUsernames.invalidate(username);
+        }
+    }
+
+    /**
+     * 시간에 비례해 토큰이 채워지는 버킷. 시각은 Ticker 기준 나노초.
+     */
+    static final class TokenBucket {
+
+        private final int capacity;
+        private final double nanosPerToken;
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        TokenBucket(int capacity, Duration refillPeriod, long now) {
+            this.capacity = capacity;
+            this.nanosPerToken = (double) refillPeriod.toNanos() / capacity;
+            this.tokens = capacity;
+            this.lastRefillNanos = now;
+        }
+
+        /**
+         * 토큰 하나를 꺼낸다.
+         *
+         * @return 성공하면 0, 실패하면 다음 토큰이 생길 때까지 남은 나노초
+         */
+        synchronized long tryConsume(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return nanosUntilToken();
+        }
+
+        /**
+         * 토큰을 꺼내지 않고 남은 토큰이 있는지 확인한다.
+         *
+         * @return 토큰이 있으면 0, 없으면 다음 토큰이 생길 때까지 남은 나노초
+         */
+        synchronized long waitNanos(long now) {
+            refill(now);
+            return tokens >= 1 ? 0 : nanosUntilToken();
+        }
+
+        private void refill(long now) {
+            long elapsed = now - lastRefillNanos;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed / nanosPerToken);
+                lastRefillNanos = now;
+            }
+        }
+
+        private long nanosUntilToken() {
+            return Math.max(1, (long) Math.ceil((1 - tokens) * nanosPerToken));
+        }
+    }
+}
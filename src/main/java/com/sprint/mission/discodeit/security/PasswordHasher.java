@@ -0,0 +1,181 @@
+package com.sprint.mission.discodeit.security;
+
+import com.sprint.mission.discodeit.config.PasswordHashProperties;
+import com.sprint.mission.discodeit.exception.User.PasswordHashingBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * BCrypt 기반 패스워드 해시/검증
+ * <p>
+ * 해시 계산은 전용 executor(passwordHashExecutor)에서만 실행하고, 요청 스레드는 결과를 timeout 까지만 기다린다. executor가 가득
+ * 차거나 시간이 초과되면 {@link PasswordHashingBusyException}(503)으로 거절한다. 해시 형식이 아닌 값은 이전 평문 데이터로 보고
+ * 평문 비교 후 {@link #needsUpgrade(String)} 로 재해시 대상임을 알린다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile(
+            "^\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}$");
+
+    private final BCryptPasswordEncoder encoder;
+    private final Executor executor;
+    private final Duration timeout;
+    private final Semaphore bulkPermits;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public PasswordHasher(
+            @Qualifier("passwordHashExecutor") Executor executor,
+            PasswordHashProperties passwordHashProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.encoder = new BCryptPasswordEncoder(passwordHashProperties.getStrength());
+        this.executor = executor;
+        this.timeout = passwordHashProperties.getTimeout();
+        this.bulkPermits = new Semaphore(Math.max(1, Math.min(
+                passwordHashProperties.getBulkConcurrency(),
+                passwordHashProperties.getPoolSize() - 1)));
+        this.encodeTimer = timer(meterRegistry, "encode", passwordHashProperties.getStrength());
+        this.matchesTimer = timer(meterRegistry, "matches", passwordHashProperties.getStrength());
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation, int strength) {
+        return Timer.builder("discodeit.password.hash")
+                .description("패스워드 해시 계산 시간 (큐 대기 제외)")
+                .tag("operation", operation)
+                .tag("strength", String.valueOf(strength))
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 평문 패스워드를 BCrypt로 해시
+     *
+     * @throws PasswordHashingBusyException 해시 executor가 포화되었거나 시간이 초과된 경우
+     */
+    public String hash(String rawPassword) {
+        return await(submit(() -> encoder.encode(rawPassword), encodeTimer));
+    }
+
+    /**
+     * 여러 패스워드를 해시
+     * <p>
+     * 모든 대량 요청이 bulkConcurrency 개의 허가를 나눠 쓰므로, 대량 등록이 몰려도 executor 스레드와 큐를 다 차지하지 않고 로그인과 가입에
+     * 나머지 스레드를 남긴다. 허가를 timeout 안에 얻지 못하면 {@link PasswordHashingBusyException} 으로 거절한다.
+     *
+     * @return 입력 순서와 같은 순서의 해시 목록
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        List<CompletableFuture<String>> futures = new ArrayList<>(rawPasswords.size());
+        try {
+            for (String raw : rawPasswords) {
+                acquireBulkPermit();
+                CompletableFuture<String> future;
+                try {
+                    future = submit(() -> encoder.encode(raw), encodeTimer);
+                } catch (RuntimeException e) {
+                    bulkPermits.release();
+                    throw e;
+                }
+                futures.add(future.whenComplete((hash, error) -> bulkPermits.release()));
+            }
+
+            List<String> hashes = new ArrayList<>(futures.size());
+            for (CompletableFuture<String> future : futures) {
+                hashes.add(await(future));
+            }
+            return hashes;
+        } catch (RuntimeException e) {
+            futures.forEach(future -> future.cancel(false));
+            throw e;
+        }
+    }
+
+    private void acquireBulkPermit() {
+        try {
+            if (!bulkPermits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("대량 패스워드 해시 대기 시간 초과: timeout = {}", timeout);
+                throw new PasswordHashingBusyException();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        }
+    }
+
+    /**
+     * 평문 패스워드가 저장된 값과 일치하는지 검증
+     *
+     * @param storedPassword BCrypt 해시 또는 업그레이드 전 평문
+     */
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (rawPassword == null || storedPassword == null) {
+            return false;
+        }
+        if (!isHashed(storedPassword)) {
+            return MessageDigest.isEqual(
+                    rawPassword.getBytes(StandardCharsets.UTF_8),
+                    storedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+        return await(submit(() -> encoder.matches(rawPassword, storedPassword), matchesTimer));
+    }
+
+    /**
+     * 평문이거나 현재 설정보다 낮은 cost로 해시된 값이면 true
+     */
+    public boolean needsUpgrade(String storedPassword) {
+        return !isHashed(storedPassword) || encoder.upgradeEncoding(storedPassword);
+    }
+
+    public boolean isHashed(String storedPassword) {
+        return storedPassword != null && BCRYPT_PATTERN.matcher(storedPassword).matches();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task, Timer timer) {
+        try {
+            return CompletableFuture.supplyAsync(() -> timer.record(task), executor);
+        } catch (RejectedExecutionException e) {
+            log.warn("패스워드 해시 요청 거절: executor 포화");
+            throw new PasswordHashingBusyException();
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("패스워드 해시 시간 초과: timeout = {}", timeout);
+            throw new PasswordHashingBusyException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -5,5 +5,5 @@ import com.sprint.mission.discodeit.dto.User.UserDto;
 
 public interface AuthService {
 
-    UserDto login(LoginRequest loginRequest);
+    UserDto login(LoginRequest loginRequest, String clientAddress);
 }
@@ -1,5 +1,6 @@
 package com.sprint.mission.discodeit.service;
 
+import com.sprint.mission.discodeit.dto.Channel.ChannelDeletionDto;
 import com.sprint.mission.discodeit.dto.Channel.ChannelDto;
 import com.sprint.mission.discodeit.dto.Channel.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.Channel.PublicChannelCreateRequest;
@@ -19,5 +20,7 @@ public interface ChannelService {
 
     ChannelDto update(UUID channelId, PublicChannelUpdateRequest updateRequest);
 
-    void delete(UUID channelId);
+    ChannelDeletionDto delete(UUID channelId);
+
+    ChannelDeletionDto findDeletion(UUID channelId);
 }
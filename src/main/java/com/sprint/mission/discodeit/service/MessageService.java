@@ -5,7 +5,6 @@ import com.sprint.mission.discodeit.dto.Message.MessageCreateRequest;
 import com.sprint.mission.discodeit.dto.Message.MessageDto;
 import com.sprint.mission.discodeit.dto.Message.MessageUpdateRequest;
 import com.sprint.mission.discodeit.dto.response.PageResponse;
-import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Pageable;
@@ -15,7 +14,7 @@ public interface MessageService {
     MessageDto create(MessageCreateRequest createRequest,
             List<BinaryContentCreateRequest> binaryContentCreateRequests);
 
-    PageResponse<MessageDto> findAllByChannelId(UUID channelId, Instant cursor, Pageable pageable);
+    PageResponse<MessageDto> findAllByChannelId(UUID channelId, String cursor, Pageable pageable);
 
     MessageDto find(UUID messageId);
 
@@ -1,8 +1,10 @@
 package com.sprint.mission.discodeit.service;
 
+import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusBulkUpdateRequest;
 import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusCreateRequest;
 import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusDto;
 import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusUpdateRequest;
+import com.sprint.mission.discodeit.dto.ReadStatus.UnreadCountDto;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,9 +14,13 @@ public interface ReadStatusService {
 
     List<ReadStatusDto> findAllByUserId(UUID userId);
 
+    List<UnreadCountDto> findUnreadCounts(UUID userId);
+
     ReadStatusDto find(UUID id);
 
     ReadStatusDto update(UUID id, ReadStatusUpdateRequest updateRequest);
 
+    List<ReadStatusDto> updateAll(ReadStatusBulkUpdateRequest bulkUpdateRequest);
+
     void delete(UUID id);
 }
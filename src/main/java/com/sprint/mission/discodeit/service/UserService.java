@@ -1,18 +1,25 @@
 package com.sprint.mission.discodeit.service;
 
 import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.User.UserBulkCreateRequest;
 import com.sprint.mission.discodeit.dto.User.UserCreateRequest;
 import com.sprint.mission.discodeit.dto.User.UserDto;
 import com.sprint.mission.discodeit.dto.User.UserUpdateRequest;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 
 public interface UserService {
 
     UserDto create(UserCreateRequest userCreateRequest,
             BinaryContentCreateRequest profileCreateRequest);
 
-    List<UserDto> findAll();
+    List<UserDto> createAll(UserBulkCreateRequest bulkCreateRequest);
+
+    PageResponse<UserDto> findAll(String cursor, String prefix, Pageable pageable);
+
+    List<UserDto> search(String query, Integer limit);
 
     UserDto find(UUID userId);
 
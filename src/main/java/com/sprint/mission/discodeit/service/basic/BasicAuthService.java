@@ -4,44 +4,73 @@ import com.sprint.mission.discodeit.annotation.Logging;
 import com.sprint.mission.discodeit.dto.User.LoginRequest;
 import com.sprint.mission.discodeit.dto.User.UserDto;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.exception.User.LoginRateLimitExceededException;
+import com.sprint.mission.discodeit.exception.User.PasswordHashingBusyException;
 import com.sprint.mission.discodeit.exception.User.UserNotFoundException;
 import com.sprint.mission.discodeit.exception.User.UserPasswordMismatchException;
 import com.sprint.mission.discodeit.mapper.UserMapper;
 import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.security.LoginAttemptGuard;
+import com.sprint.mission.discodeit.security.PasswordHasher;
 import com.sprint.mission.discodeit.service.AuthService;
+import java.time.Instant;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Slf4j
 @Logging
 @RequiredArgsConstructor
 public class BasicAuthService implements AuthService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final PasswordHasher passwordHasher;
+    private final LoginAttemptGuard loginAttemptGuard;
 
     /**
      * 유저명, 패스워드가 일치하는 유저 인증
+     * <p>
+     * 유저명/IP별 시도 제한과 존재하지 않는 유저명 캐시를 DB 조회보다 먼저 확인하고, 유저명 시도 횟수는 패스워드가 틀린 경우에만
+     * 차감한다. 해시 검증 동안 DB 커넥션을 잡고 있지 않도록 메서드 전체를 트랜잭션으로 묶지 않는다. 저장된 값이 평문이거나 현재 cost보다 낮은 해시면 인증 성공 시 현재 설정으로 다시 해시해 저장한다.
      *
-     * @param loginRequest 로그인 요청 DTO
+     * @param loginRequest  로그인 요청 DTO
+     * @param clientAddress 요청한 클라이언트 IP (알 수 없으면 null)
      * @return 인증된 유저
-     * @throws UserNotFoundException         유저명이 불일치하는 경우
-     * @throws UserPasswordMismatchException 패스워드 불일치하는 경우
+     * @throws LoginRateLimitExceededException 유저명 또는 IP의 시도 횟수를 초과한 경우
+     * @throws UserNotFoundException           유저명이 불일치하는 경우
+     * @throws UserPasswordMismatchException   패스워드 불일치하는 경우
+     * @throws PasswordHashingBusyException    해시 executor가 포화된 경우
      */
     @Override
-    @Transactional(readOnly = true)
-    public UserDto login(LoginRequest loginRequest) {
+    public UserDto login(LoginRequest loginRequest, String clientAddress) {
         String username = loginRequest.username();
         String password = loginRequest.password();
 
+        loginAttemptGuard.acquire(username, clientAddress);
+
+        if (loginAttemptGuard.isKnownUnknown(username)) {
+            throw UserNotFoundException.byUserName(username);
+        }
+
         User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> UserNotFoundException.byUserName(username));
+                .orElseThrow(() -> {
+                    loginAttemptGuard.rememberUnknown(username);
+                    return UserNotFoundException.byUserName(username);
+                });
 
-        if (!user.getPassword().equals(password)) {
+        if (!passwordHasher.matches(password, user.getPassword())) {
+            loginAttemptGuard.recordFailure(username);
             throw new UserPasswordMismatchException(user.getId());
         }
 
+        if (passwordHasher.needsUpgrade(user.getPassword())) {
+            userRepository.updatePassword(user.getId(), passwordHasher.hash(password),
+                    Instant.now());
+            log.info("패스워드 해시 업그레이드: userId = {}", user.getId());
+        }
+
         return userMapper.toDto(user);
     }
 }
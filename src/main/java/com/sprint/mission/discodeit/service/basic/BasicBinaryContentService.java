@@ -1,17 +1,21 @@
 package com.sprint.mission.discodeit.service.basic;
 
 import com.sprint.mission.discodeit.annotation.Logging;
+import com.sprint.mission.discodeit.config.CacheConfig;
 import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentDto;
 import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.event.BinaryContentCreatedEvent;
 import com.sprint.mission.discodeit.exception.BinaryContent.BinaryContentNotFoundException;
 import com.sprint.mission.discodeit.mapper.BinaryContentMapper;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.service.BinaryContentService;
-import com.sprint.mission.discodeit.storage.BinaryContentStorage;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,7 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class BasicBinaryContentService implements BinaryContentService {
 
     private final BinaryContentRepository binaryContentRepository;
-    private final BinaryContentStorage binaryContentStorage;
+    private final ApplicationEventPublisher eventPublisher;
     private final BinaryContentMapper binaryContentMapper;
 
     /**
@@ -37,11 +41,12 @@ public class BasicBinaryContentService implements BinaryContentService {
         BinaryContent binaryContent = BinaryContent.builder()
                 .fileName(createRequest.fileName())
                 .contentType(createRequest.contentType())
-                .size(((long) createRequest.bytes().length))
+                .size(createRequest.size())
                 .build();
 
         binaryContentRepository.save(binaryContent);
-        binaryContentStorage.put(binaryContent.getId(), createRequest.bytes());
+        eventPublisher.publishEvent(
+                new BinaryContentCreatedEvent(binaryContent.getId(), createRequest));
 
         return binaryContentMapper.toDto(binaryContent);
     }
@@ -74,6 +79,8 @@ public class BasicBinaryContentService implements BinaryContentService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.BINARY_CONTENTS, key = "#id",
+            unless = "#result.status() != T(com.sprint.mission.discodeit.entity.BinaryContentStatus).READY")
     public BinaryContentDto find(UUID id) {
         BinaryContent binaryContent = binaryContentRepository.findById(id)
                 .orElseThrow(() -> new BinaryContentNotFoundException(id));
@@ -89,6 +96,7 @@ public class BasicBinaryContentService implements BinaryContentService {
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.BINARY_CONTENTS, key = "#id")
     public void delete(UUID id) {
         if (!binaryContentRepository.existsById(id)) {
             throw new BinaryContentNotFoundException(id);
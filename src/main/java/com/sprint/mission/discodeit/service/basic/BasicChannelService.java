@@ -1,6 +1,10 @@
 package com.sprint.mission.discodeit.service.basic;
 
 import com.sprint.mission.discodeit.annotation.Logging;
+import com.sprint.mission.discodeit.config.CacheConfig;
+import com.sprint.mission.discodeit.deletion.ChannelPurger;
+import com.sprint.mission.discodeit.dto.Channel.ChannelDeletionDto;
+import com.sprint.mission.discodeit.dto.Channel.ChannelDeletionDto.Status;
 import com.sprint.mission.discodeit.dto.Channel.ChannelDto;
 import com.sprint.mission.discodeit.dto.Channel.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.Channel.PublicChannelCreateRequest;
@@ -9,20 +13,23 @@ import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.ReadStatus;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.event.ChannelDeletedEvent;
 import com.sprint.mission.discodeit.exception.Channel.ChannelNotFoundException;
 import com.sprint.mission.discodeit.exception.Channel.PrivateChannelUpdateException;
 import com.sprint.mission.discodeit.mapper.ChannelMapper;
+import com.sprint.mission.discodeit.presence.PresenceRegistry;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
-import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.service.ChannelService;
 import java.time.Instant;
 import java.util.List;
-import java.util.NoSuchElementException;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,9 +41,11 @@ public class BasicChannelService implements ChannelService {
 
     private final ChannelRepository channelRepository;
     private final ReadStatusRepository readStatusRepository;
-    private final MessageRepository messageRepository;
     private final UserRepository userRepository;
     private final ChannelMapper channelMapper;
+    private final ChannelPurger channelPurger;
+    private final PresenceRegistry presenceRegistry;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 주어진 요청 DTO를 기반으로 Public 채널 생성
@@ -62,6 +71,9 @@ public class BasicChannelService implements ChannelService {
 
     /**
      * 주어진 요청 DTO를 기반으로 Private 채널 생성
+     * <p>
+     * 참여자는 존재하는 ID만 한 번에 조회하여 엔티티를 읽지 않고 참조로 ReadStatus를 만들며, ReadStatus INSERT는 JDBC batch로
+     * 전송된다. 존재하지 않는 참여자 ID는 무시한다.
      *
      * @param createRequest 생성 요청 DTO
      * @return 생성된 채널
@@ -78,10 +90,11 @@ public class BasicChannelService implements ChannelService {
         channelRepository.save(privateChannel);
 
         // private 채널 입장 유저의 ReadStatus 생성
-        List<ReadStatus> readStatuses = userRepository.findAllById(createRequest.participantIds())
+        List<ReadStatus> readStatuses = userRepository.findIdsByIdIn(
+                        createRequest.participantIds())
                 .stream()
-                .map(user -> ReadStatus.builder()
-                        .user(user)
+                .map(userId -> ReadStatus.builder()
+                        .user(userRepository.getReferenceById(userId))
                         .channel(privateChannel)
                         .lastReadAt(privateChannel.getCreatedAt())
                         .build())
@@ -103,9 +116,7 @@ public class BasicChannelService implements ChannelService {
 
         List<Channel> channels = channelRepository.findAllPublicOrUserChannels(userId);
 
-        return channels.stream()
-                .map(channelMapper::toDto)
-                .toList();
+        return channelMapper.toDtoList(channels);
     }
 
     /**
@@ -117,12 +128,24 @@ public class BasicChannelService implements ChannelService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CHANNELS, key = "#channelId")
     public ChannelDto find(UUID channelId) {
 
         Channel channel = channelRepository.findById(channelId)
                 .orElseThrow(() -> new ChannelNotFoundException(channelId));
 
-        return channelMapper.toDto(channel);
+        if (!ChannelType.PRIVATE.equals(channel.getType())) {
+            return channelMapper.toDto(channel);
+        }
+
+        // 캐시된 DTO의 참여자 online을 다시 계산할 수 있도록 온라인 참여자를 메모리에 등록
+        List<User> participants = readStatusRepository
+                .findAllByChannelIdInWithUser(List.of(channelId)).stream()
+                .map(ReadStatus::getUser)
+                .toList();
+        participants.forEach(
+                user -> presenceRegistry.loadIfOnline(user.getId(), user.getStatus()));
+        return channelMapper.toDto(channel, participants);
     }
 
     /**
@@ -136,6 +159,7 @@ public class BasicChannelService implements ChannelService {
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CHANNELS, key = "#channelId")
     public ChannelDto update(UUID channelId, PublicChannelUpdateRequest updateRequest) {
         log.info("{} 채널 수정 요청: 채널명 = {}, 채널 설명 = {}", ChannelType.PUBLIC, updateRequest.newName(),
                 updateRequest.newDescription());
@@ -155,25 +179,47 @@ public class BasicChannelService implements ChannelService {
     }
 
     /**
-     * 주어진 ID에 해당하는 채널 삭제
+     * 주어진 ID에 해당하는 채널 삭제 요청
+     * <p>
+     * 채널에 삭제 시각만 기록하고 참여자 ReadStatus를 지운 뒤 바로 반환한다. 삭제 시각이 기록된 채널은 조회되지 않으며, 메시지와 채널 행은
+     * 커밋 이후 {@link ChannelPurger}가 청크 단위로 삭제한다.
      *
      * @param channelId 삭제할 대상 채널 ID
+     * @return 대기 상태의 삭제 진행 상황
      * @throws ChannelNotFoundException 존재하는 채널이 없는 경우
      */
     @Override
     @Transactional
-    public void delete(UUID channelId) {
+    @CacheEvict(cacheNames = CacheConfig.CHANNELS, key = "#channelId")
+    public ChannelDeletionDto delete(UUID channelId) {
         log.info("채널 삭제 요청: ID = {}", channelId);
 
-        if (!channelRepository.existsById(channelId)) {
-            log.warn("채널 삭제 실패: 존재하지 않는 채널: ID = {}", channelId);
-            throw new ChannelNotFoundException(channelId);
-        }
+        Channel channel = channelRepository.findById(channelId)
+                .orElseThrow(() -> {
+                    log.warn("채널 삭제 실패: 존재하지 않는 채널: ID = {}", channelId);
+                    return new ChannelNotFoundException(channelId);
+                });
 
-        messageRepository.deleteAllByChannelId(channelId);
+        Instant requestedAt = Instant.now();
+        channel.markDeleted(requestedAt);
         readStatusRepository.deleteAllByChannelId(channelId);
-        channelRepository.deleteById(channelId);
 
-        log.info("채널 삭제 완료: ID = {}", channelId);
+        eventPublisher.publishEvent(new ChannelDeletedEvent(channelId, requestedAt));
+
+        log.info("채널 삭제 접수: ID = {}", channelId);
+        return new ChannelDeletionDto(channelId, Status.PENDING, 0, 0, requestedAt, null);
+    }
+
+    /**
+     * 주어진 ID에 해당하는 채널의 삭제 진행 상황 조회
+     *
+     * @param channelId 삭제 요청한 채널 ID
+     * @return 삭제 진행 상황
+     * @throws ChannelNotFoundException 삭제 요청이 없거나 완료 후 보관 시간이 지난 경우
+     */
+    @Override
+    public ChannelDeletionDto findDeletion(UUID channelId) {
+        return channelPurger.findProgress(channelId)
+                .orElseThrow(() -> new ChannelNotFoundException(channelId));
     }
 }
@@ -1,8 +1,11 @@
 package com.sprint.mission.discodeit.service.basic;
 
 import com.sprint.mission.discodeit.annotation.Logging;
+import com.sprint.mission.discodeit.config.CacheConfig;
 import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentDto;
 import com.sprint.mission.discodeit.dto.Message.MessageCreateRequest;
+import com.sprint.mission.discodeit.dto.Message.MessageCursor;
 import com.sprint.mission.discodeit.dto.Message.MessageDto;
 import com.sprint.mission.discodeit.dto.Message.MessageUpdateRequest;
 import com.sprint.mission.discodeit.dto.response.PageResponse;
@@ -10,7 +13,10 @@ import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.Message;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.event.BinaryContentCreatedEvent;
+import com.sprint.mission.discodeit.event.MessageChangedEvent;
 import com.sprint.mission.discodeit.exception.Channel.ChannelNotFoundException;
+import com.sprint.mission.discodeit.exception.Message.InvalidMessageCursorException;
 import com.sprint.mission.discodeit.exception.Message.MessageNotFoundException;
 import com.sprint.mission.discodeit.exception.User.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.MessageMapper;
@@ -19,15 +25,20 @@ import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
 import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.repository.projection.MessageAttachmentRow;
+import com.sprint.mission.discodeit.repository.projection.MessageRow;
 import com.sprint.mission.discodeit.service.MessageService;
-import com.sprint.mission.discodeit.storage.BinaryContentStorage;
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
@@ -43,7 +54,7 @@ public class BasicMessageService implements MessageService {
     private final BinaryContentRepository binaryContentRepository;
     private final ChannelRepository channelRepository;
     private final UserRepository userRepository;
-    private final BinaryContentStorage binaryContentStorage;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final MessageMapper messageMapper;
     private final PageResponseMapper pageResponseMapper;
@@ -59,6 +70,7 @@ public class BasicMessageService implements MessageService {
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CHANNELS, key = "#createRequest.channelId()")
     public MessageDto create(MessageCreateRequest createRequest,
             List<BinaryContentCreateRequest> binaryContentCreateRequests) {
 
@@ -83,7 +95,7 @@ public class BasicMessageService implements MessageService {
             BinaryContent binaryContent = BinaryContent.builder()
                     .fileName(dto.fileName())
                     .contentType(dto.contentType())
-                    .size(((long) dto.bytes().length))
+                    .size(dto.size())
                     .build();
 
             binaryContents.add(binaryContent);
@@ -93,8 +105,8 @@ public class BasicMessageService implements MessageService {
 
         for (int i = 0; i < binaryContents.size(); i++) {
             BinaryContent savedContent = binaryContents.get(i);
-            byte[] fileBytes = binaryContentCreateRequests.get(i).bytes();
-            binaryContentStorage.put(savedContent.getId(), fileBytes);
+            eventPublisher.publishEvent(new BinaryContentCreatedEvent(savedContent.getId(),
+                    binaryContentCreateRequests.get(i)));
         }
 
         Message msg = Message.builder()
@@ -105,38 +117,73 @@ public class BasicMessageService implements MessageService {
                 .build();
 
         messageRepository.save(msg);
-        return messageMapper.toDto(msg);
+        channelRepository.updateLastMessageAt(channelId, msg.getCreatedAt());
+
+        MessageDto messageDto = messageMapper.toDto(msg);
+        eventPublisher.publishEvent(MessageChangedEvent.created(messageDto));
+        return messageDto;
     }
 
     /**
-     * 주어진 채널ID에 해당하는 메시지 전체 조회
+     * 주어진 채널ID에 해당하는 메시지를 (createdAt, id) 키셋 커서 기준으로 최신순 조회
+     * <p>
+     * 엔티티 대신 projection으로 조회하며, 페이지 크기와 관계없이 메시지 1회, 첨부파일 1회 쿼리로 처리
      *
      * @param channelId 조회할 메시지의 채널ID
-     * @return 조회된 메시지리스트
+     * @param cursor    이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param pageable  페이지 크기 정보 (정렬은 항상 createdAt, id 내림차순)
+     * @return 조회된 메시지 페이지
+     * @throws ChannelNotFoundException      채널이 존재하지 않는 경우
+     * @throws InvalidMessageCursorException 커서 형식이 올바르지 않은 경우
      */
     @Override
     @Transactional(readOnly = true)
-    public PageResponse<MessageDto> findAllByChannelId(UUID channelId, Instant createAt,
+    public PageResponse<MessageDto> findAllByChannelId(UUID channelId, String cursor,
             Pageable pageable) {
 
         if (!channelRepository.existsById(channelId)) {
             throw new ChannelNotFoundException(channelId);
         }
 
-        Slice<MessageDto> slice = messageRepository.findAllByChannelIdWithAuthor(channelId,
-                        Optional.ofNullable(createAt).orElse(Instant.now()),
-                        pageable)
-                .map(messageMapper::toDto);
+        MessageCursor messageCursor = Optional.ofNullable(cursor)
+                .filter(value -> !value.isBlank())
+                .map(MessageCursor::decode)
+                .orElseGet(MessageCursor::first);
+
+        Slice<MessageRow> rows = messageRepository.findPageByChannelId(channelId,
+                messageCursor.createdAt(),
+                messageCursor.id(),
+                PageRequest.of(0, pageable.getPageSize()));
 
-        Instant nextCursor = null;
-        if (!slice.getContent().isEmpty()) {
-            nextCursor = slice.getContent().get(slice.getContent().size() - 1)
-                    .createdAt();
+        Map<UUID, List<BinaryContentDto>> attachments = findAttachments(rows.getContent());
+        Slice<MessageDto> slice = rows.map(row -> messageMapper.toDto(row,
+                attachments.getOrDefault(row.id(), List.of())));
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            nextCursor = MessageCursor.from(
+                    slice.getContent().get(slice.getContent().size() - 1)).encode();
         }
 
         return pageResponseMapper.fromSlice(slice, nextCursor);
     }
 
+    private Map<UUID, List<BinaryContentDto>> findAttachments(List<MessageRow> rows) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+
+        List<UUID> messageIds = rows.stream()
+                .map(MessageRow::id)
+                .toList();
+
+        return messageRepository.findAttachmentsByMessageIdIn(messageIds).stream()
+                .collect(Collectors.groupingBy(
+                        MessageAttachmentRow::messageId,
+                        Collectors.mapping(messageMapper::toDto, Collectors.toList())
+                ));
+    }
+
     /**
      * 주어진 id에 해당하는 메시지 조회
      *
@@ -171,26 +218,37 @@ public class BasicMessageService implements MessageService {
                 .orElseThrow(() -> new MessageNotFoundException(messageId));
 
         message.update(updateRequest.newContent());
-        return messageMapper.toDto(message);
+
+        MessageDto messageDto = messageMapper.toDto(message);
+        eventPublisher.publishEvent(MessageChangedEvent.updated(messageDto));
+        return messageDto;
     }
 
     /**
      * 주어진 id에 해당하는 메시지 삭제
+     * <p>
+     * 삭제한 메시지가 채널의 마지막 메시지였다면 채널의 마지막 메시지 시각을 다시 계산
      *
      * @param messageId 삭제할 메시지 ID
      * @throws MessageNotFoundException 메시지가 존재하지 않는 경우
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CHANNELS, allEntries = true)
     public void delete(UUID messageId) {
         log.info("메시지 삭제 요청: ID = {}", messageId);
 
-        if (!messageRepository.existsById(messageId)) {
-            log.warn("메시지 삭제 실패: 존재하지 않는 메시지: ID = {}", messageId);
-            throw new MessageNotFoundException(messageId);
-        }
+        Message message = messageRepository.findById(messageId)
+                .orElseThrow(() -> {
+                    log.warn("메시지 삭제 실패: 존재하지 않는 메시지: ID = {}", messageId);
+                    return new MessageNotFoundException(messageId);
+                });
+
+        UUID channelId = message.getChannel().getId();
+        messageRepository.delete(message);
+        channelRepository.resetLastMessageAt(channelId, message.getCreatedAt());
 
-        messageRepository.deleteById(messageId);
+        eventPublisher.publishEvent(MessageChangedEvent.deleted(channelId, messageId));
 
         log.info("메시지 삭제 완료: ID = {}", messageId);
     }
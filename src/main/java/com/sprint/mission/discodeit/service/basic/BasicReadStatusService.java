@@ -1,25 +1,35 @@
 package com.sprint.mission.discodeit.service.basic;
 
 import com.sprint.mission.discodeit.annotation.Logging;
+import com.sprint.mission.discodeit.config.CacheConfig;
+import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusBulkUpdateRequest;
 import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusCreateRequest;
 import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusDto;
 import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusUpdateRequest;
-import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.dto.ReadStatus.UnreadCountDto;
 import com.sprint.mission.discodeit.entity.ReadStatus;
-import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.exception.Channel.ChannelNotFoundException;
 import com.sprint.mission.discodeit.exception.ReadStatus.ReadStatusAlreadyExistsException;
 import com.sprint.mission.discodeit.exception.ReadStatus.ReadStatusNotFoundException;
 import com.sprint.mission.discodeit.exception.User.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.ReadStatusMapper;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.service.ReadStatusService;
+import java.time.Instant;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,11 +41,15 @@ public class BasicReadStatusService implements ReadStatusService {
     private final ReadStatusRepository readStatusRepository;
     private final UserRepository userRepository;
     private final ChannelRepository channelRepository;
+    private final MessageRepository messageRepository;
 
     private final ReadStatusMapper readStatusMapper;
 
     /**
      * 주어진 생성 요청 DTO를 기반으로 ReadStatus 생성
+     * <p>
+     * 중복 여부는 미리 조회하지 않고 (user_id, channel_id) 유니크 제약 위반으로 판단한다. 동시에 유저나 채널이 삭제되어 생긴 FK 위반 등
+     * 다른 제약 위반은 그대로 던진다.
      *
      * @param createRequest ReadStatus 생성 요청 DTO
      * @return 생성된 ReadStatus
@@ -45,31 +59,76 @@ public class BasicReadStatusService implements ReadStatusService {
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CHANNELS, key = "#createRequest.channelId()")
     public ReadStatusDto create(ReadStatusCreateRequest createRequest) {
 
         UUID channelId = createRequest.channelId();
         UUID userId = createRequest.userId();
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> UserNotFoundException.byId(userId));
-
-        Channel channel = channelRepository.findById(channelId)
-                .orElseThrow(() -> new ChannelNotFoundException(channelId));
-
-        if (readStatusRepository.existsByUserIdAndChannelId(userId, channelId)) {
-            throw ReadStatusAlreadyExistsException.byUserIdAndChannelId(userId, channelId);
+        if (!userRepository.existsById(userId)) {
+            throw UserNotFoundException.byId(userId);
+        }
+        if (!channelRepository.existsById(channelId)) {
+            throw new ChannelNotFoundException(channelId);
         }
 
         ReadStatus readStatus = ReadStatus.builder()
-                .user(user)
-                .channel(channel)
+                .user(userRepository.getReferenceById(userId))
+                .channel(channelRepository.getReferenceById(channelId))
                 .lastReadAt(createRequest.lastReadAt())
                 .build();
-
-        readStatusRepository.save(readStatus);
+        readStatus.updateUnreadCount(countUnread(channelId, userId, createRequest.lastReadAt()));
+
+        try {
+            readStatusRepository.saveAndFlush(readStatus);
+        } catch (DataIntegrityViolationException e) {
+            if (isUserChannelDuplicate(e)) {
+                throw ReadStatusAlreadyExistsException.byUserIdAndChannelId(userId, channelId);
+            }
+            throw e;
+        }
         return readStatusMapper.toDto(readStatus);
     }
 
+    /**
+     * 유저의 여러 채널 읽음 시각을 한 번에 반영
+     * <p>
+     * 없는 ReadStatus는 생성하고, 저장된 시각보다 늦은 값만 반영하는 batch upsert 한 번으로 처리한다. 이미 더 늦게 읽은 채널의 시각은
+     * 바뀌지 않는다.
+     *
+     * @param bulkUpdateRequest 유저 ID와 채널별 마지막으로 읽은 시각
+     * @return 요청한 채널들의 반영 후 ReadStatus 리스트
+     * @throws UserNotFoundException    유저가 존재하지 않는 경우
+     * @throws ChannelNotFoundException 존재하지 않는 채널이 포함된 경우
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CHANNELS, allEntries = true)
+    public List<ReadStatusDto> updateAll(ReadStatusBulkUpdateRequest bulkUpdateRequest) {
+
+        UUID userId = bulkUpdateRequest.userId();
+        Map<UUID, Instant> lastReadAts = bulkUpdateRequest.lastReadAts();
+
+        if (!userRepository.existsById(userId)) {
+            throw UserNotFoundException.byId(userId);
+        }
+        Set<UUID> existingChannelIds = new HashSet<>(
+                channelRepository.findIdsByIdIn(lastReadAts.keySet()));
+        lastReadAts.keySet().stream()
+                .filter(channelId -> !existingChannelIds.contains(channelId))
+                .findFirst()
+                .ifPresent(channelId -> {
+                    throw new ChannelNotFoundException(channelId);
+                });
+
+        readStatusRepository.upsertLastReadAts(userId, lastReadAts, Instant.now());
+
+        return readStatusRepository.findAllByUserIdAndChannelIdIn(userId, lastReadAts.keySet())
+                .stream()
+                .map(readStatusMapper::toDto)
+                .toList();
+    }
+
     /**
      * 주어진 유저ID로 유저별 ReadStatus 전체 조회
      *
@@ -85,6 +144,22 @@ public class BasicReadStatusService implements ReadStatusService {
                 .toList();
     }
 
+    /**
+     * 주어진 유저ID로 유저가 참여한 모든 채널의 안 읽은 메시지 수 조회
+     * <p>
+     * read_statuses 에 유지되는 값을 한 번의 조회로 반환하며, 최근 메시지 생성 건은 flush 주기만큼 늦게 반영될 수 있다. 메시지 커밋 후
+     * flush 전에 create/update 로 다시 센 행은 flush 에서 같은 메시지가 한 번 더 더해질 수 있고, 이 오차는 reconcile 주기 안에 보정된다.
+     *
+     * @param userId 조회할 유저ID
+     * @return 채널별 안 읽은 메시지 수 리스트
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<UnreadCountDto> findUnreadCounts(UUID userId) {
+
+        return readStatusRepository.findUnreadCountsByUserId(userId);
+    }
+
     /**
      * 주어진 ID에 해당하는 ReadStatus 조회
      *
@@ -104,6 +179,8 @@ public class BasicReadStatusService implements ReadStatusService {
 
     /**
      * 주어진 ID에 해당하는 ReadStatus 수정
+     * <p>
+     * 안 읽은 메시지 수는 새 lastReadAt 이후 메시지 수로 다시 계산한다 (채널 끝까지 읽었다면 0).
      *
      * @param id            수정할 ReadStatus ID
      * @param updateRequest 수정 요청 DTO
@@ -118,6 +195,8 @@ public class BasicReadStatusService implements ReadStatusService {
                 .orElseThrow(() -> new ReadStatusNotFoundException(id));
 
         readStatus.update(updateRequest.newLastReadAt());
+        readStatus.updateUnreadCount(countUnread(readStatus.getChannel().getId(),
+                readStatus.getUser().getId(), readStatus.getLastReadAt()));
         return readStatusMapper.toDto(readStatus);
     }
 
@@ -129,6 +208,7 @@ public class BasicReadStatusService implements ReadStatusService {
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CHANNELS, allEntries = true)
     public void delete(UUID id) {
 
         if (!readStatusRepository.existsById(id)) {
@@ -137,4 +217,16 @@ public class BasicReadStatusService implements ReadStatusService {
 
         readStatusRepository.deleteById(id);
     }
+
+    // H2 는 제약 이름을 대문자와 스키마, 인덱스 접미사를 붙여 보고하므로 포함 여부로 비교한다.
+    private boolean isUserChannelDuplicate(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT)
+                .contains(ReadStatus.USER_CHANNEL_UNIQUE);
+    }
+
+    private int countUnread(UUID channelId, UUID userId, Instant lastReadAt) {
+        return Math.toIntExact(messageRepository.countUnread(channelId, userId, lastReadAt));
+    }
 }
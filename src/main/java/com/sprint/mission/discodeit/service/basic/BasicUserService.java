@@ -1,27 +1,61 @@
 package com.sprint.mission.discodeit.service.basic;
 
 import com.sprint.mission.discodeit.annotation.Logging;
+import com.sprint.mission.discodeit.config.CacheConfig;
+import com.sprint.mission.discodeit.config.UserSearchProperties;
 import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.User.UserBulkCreateRequest;
 import com.sprint.mission.discodeit.dto.User.UserCreateRequest;
+import com.sprint.mission.discodeit.dto.User.UserCursor;
 import com.sprint.mission.discodeit.dto.User.UserDto;
 import com.sprint.mission.discodeit.dto.User.UserUpdateRequest;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.event.BinaryContentCreatedEvent;
+import com.sprint.mission.discodeit.event.UserChangedEvent;
+import com.sprint.mission.discodeit.exception.User.InvalidUserCursorException;
 import com.sprint.mission.discodeit.exception.User.UserAlreadyExistsException;
 import com.sprint.mission.discodeit.exception.User.UserNotFoundException;
+import com.sprint.mission.discodeit.mapper.PageResponseMapper;
 import com.sprint.mission.discodeit.mapper.UserMapper;
+import com.sprint.mission.discodeit.presence.PresenceRegistry;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.repository.UserBulkRepository.NewUserRow;
 import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.repository.projection.UserIdentityRow;
+import com.sprint.mission.discodeit.repository.projection.UserRow;
+import com.sprint.mission.discodeit.search.UserSearchIndex;
+import com.sprint.mission.discodeit.security.LoginAttemptGuard;
+import com.sprint.mission.discodeit.security.PasswordHasher;
 import com.sprint.mission.discodeit.service.UserService;
-import com.sprint.mission.discodeit.storage.BinaryContentStorage;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Slf4j
@@ -31,12 +65,21 @@ public class BasicUserService implements UserService {
 
     private final UserRepository userRepository;
     private final BinaryContentRepository binaryContentRepository;
-    private final BinaryContentStorage binaryContentStorage;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PresenceRegistry presenceRegistry;
+    private final PasswordHasher passwordHasher;
+    private final LoginAttemptGuard loginAttemptGuard;
+    private final UserSearchIndex userSearchIndex;
+    private final UserSearchProperties userSearchProperties;
+    private final TransactionTemplate transactionTemplate;
 
     private final UserMapper userMapper;
+    private final PageResponseMapper pageResponseMapper;
 
     /**
      * 주어진 생성 요청 DTO(유저, 프로필사진)를 기반으로 유저 생성
+     * <p>
+     * 패스워드는 DB 커넥션을 잡기 전에 해시하고, 저장만 짧은 트랜잭션으로 묶는다.
      *
      * @param userCreateRequest    유저 생성 요청 DTO
      * @param profileCreateRequest 프로필사진 생성 요청 DTO
@@ -44,7 +87,6 @@ public class BasicUserService implements UserService {
      * @throws UserAlreadyExistsException 유저명/이메일이 중복된 경우
      */
     @Override
-    @Transactional
     public UserDto create(UserCreateRequest userCreateRequest,
             BinaryContentCreateRequest profileCreateRequest) {
         log.info("유저 생성 요청: 유저명 = {}, 이메일 = {}", userCreateRequest.username(),
@@ -53,64 +95,183 @@ public class BasicUserService implements UserService {
         String username = userCreateRequest.username();
         String email = userCreateRequest.email();
 
-        if (userRepository.existsByUsername(username)) {
-            log.warn("유저 생성 실패: 이미 존재하는 유저명");
-            throw UserAlreadyExistsException.byUserName(username);
+        validateUnique(username, email, null);
+        String hashedPassword = passwordHasher.hash(userCreateRequest.password());
+
+        UserDto created = transactionTemplate.execute(status -> {
+            BinaryContent binaryContent = saveProfile(profileCreateRequest);
+
+            User user = User.builder()
+                    .username(username)
+                    .email(email)
+                    .password(hashedPassword)
+                    .profile(binaryContent)
+                    .build();
+
+            UserStatus userStatus = UserStatus.builder()
+                    .user(user)
+                    .lastActiveAt(Instant.now())
+                    .build();
+
+            user.setStatus(userStatus);
+            userStatus.setUser(user);
+
+            saveAndFlush(user);
+            eventPublisher.publishEvent(UserChangedEvent.created(user.getId(), username));
+            return userMapper.toDto(user);
+        });
+
+        loginAttemptGuard.forgetUnknown(username);
+        return created;
+    }
+
+    /**
+     * 여러 유저를 한 번에 등록 (조직 단위 온보딩)
+     * <p>
+     * 중복 검사는 요청 전체에 대해 한 번의 쿼리로 수행하고, 유저와 UserStatus는 JDBC batch INSERT로 저장한다. 하나라도
+     * 충돌하면 전체를 등록하지 않는다. 패스워드 해시는 트랜잭션 밖에서 모두 계산하므로 DB 커넥션은 INSERT 동안에만 점유한다.
+     *
+     * @param bulkCreateRequest 대량 유저 생성 요청 DTO
+     * @return 생성된 유저 목록 (요청 순서와 동일)
+     * @throws UserAlreadyExistsException 요청 내부 또는 기존 유저와 유저명/이메일이 중복된 경우
+     */
+    @Override
+    public List<UserDto> createAll(UserBulkCreateRequest bulkCreateRequest) {
+        List<UserCreateRequest> requests = bulkCreateRequest.users();
+        log.info("유저 대량 생성 요청: {}명", requests.size());
+
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (UserCreateRequest request : requests) {
+            if (!usernames.add(request.username())) {
+                throw UserAlreadyExistsException.byUserName(request.username());
+            }
+            if (!emails.add(request.email())) {
+                throw UserAlreadyExistsException.byEmail(request.email());
+            }
         }
-        if (userRepository.existsByEmail(email)) {
-            log.warn("유저 생성 실패: 이미 존재하는 이메일");
-            throw UserAlreadyExistsException.byEmail(email);
+
+        List<UserIdentityRow> conflicts = userRepository.findIdentitiesByUsernameInOrEmailIn(
+                usernames, emails);
+        if (!conflicts.isEmpty()) {
+            log.warn("유저 대량 생성 실패: 이미 존재하는 유저 {}건", conflicts.size());
+            throw toAlreadyExists(conflicts.get(0), usernames);
         }
 
-        boolean isProfileCreated = profileCreateRequest != null;
-        BinaryContent binaryContent = null;
+        List<String> hashedPasswords = passwordHasher.hashAll(requests.stream()
+                .map(UserCreateRequest::password)
+                .toList());
 
-        if (isProfileCreated) {
-            binaryContent = BinaryContent.builder()
-                    .fileName(profileCreateRequest.fileName())
-                    .contentType(profileCreateRequest.contentType())
-                    .size(((long) profileCreateRequest.bytes().length))
-                    .build();
+        Instant now = Instant.now();
+        List<NewUserRow> rows = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            UserCreateRequest request = requests.get(i);
+            rows.add(new NewUserRow(UUID.randomUUID(), UUID.randomUUID(), request.username(),
+                    request.email(), hashedPasswords.get(i), now));
+        }
 
-            binaryContentRepository.save(binaryContent);
-            binaryContentStorage.put(binaryContent.getId(), profileCreateRequest.bytes());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.insertAllWithStatus(rows);
+                rows.forEach(row -> eventPublisher.publishEvent(
+                        UserChangedEvent.created(row.id(), row.username())));
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 검사와 INSERT 사이에 다른 요청이 같은 값을 선점한 경우. 롤백 이후이므로 다시 조회해 충돌한 값을 알린다.
+            log.warn("유저 대량 생성 실패: 유니크 제약 위반");
+            throw userRepository.findIdentitiesByUsernameInOrEmailIn(usernames, emails).stream()
+                    .findFirst()
+                    .map(conflict -> toAlreadyExists(conflict, usernames))
+                    .orElseThrow(() -> e);
         }
 
-        User user = User.builder()
-                .username(username)
-                .email(email)
-                .password(userCreateRequest.password())
-                .profile(binaryContent)
-                .build();
+        usernames.forEach(loginAttemptGuard::forgetUnknown);
 
-        UserStatus userStatus = UserStatus.builder()
-                .user(user)
-                .lastActiveAt(Instant.now())
-                .build();
+        log.info("유저 대량 생성 완료: {}명", rows.size());
+        return rows.stream()
+                .map(userMapper::toDto)
+                .toList();
+    }
 
-        user.setStatus(userStatus);
-        userStatus.setUser(user);
+    /**
+     * 유저명 키셋 커서 기준으로 유저를 유저명 순 조회
+     * <p>
+     * 엔티티 대신 projection으로 상태와 프로필을 함께 조회하므로 페이지마다 쿼리 한 번으로 처리되고, 메모리 사용량은 페이지 크기에만 비례한다.
+     *
+     * @param cursor   이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param prefix   유저명 접두어 필터 (null 또는 빈 문자열이면 전체)
+     * @param pageable 페이지 크기 정보 (정렬은 항상 유저명 오름차순)
+     * @return 조회된 유저 페이지
+     * @throws InvalidUserCursorException 커서 형식이 올바르지 않은 경우
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<UserDto> findAll(String cursor, String prefix, Pageable pageable) {
+
+        UserCursor userCursor = Optional.ofNullable(cursor)
+                .filter(value -> !value.isBlank())
+                .map(UserCursor::decode)
+                .orElseGet(UserCursor::first);
+
+        Slice<UserDto> slice = userRepository.findPageByUsernameAfter(
+                        userCursor.username(),
+                        toLikePrefix(prefix),
+                        PageRequest.of(0, pageable.getPageSize()))
+                .map(userMapper::toDto);
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            nextCursor = UserCursor.from(
+                    slice.getContent().get(slice.getContent().size() - 1)).encode();
+        }
 
-        userRepository.save(user);
-        return userMapper.toDto(user);
+        return pageResponseMapper.fromSlice(slice, nextCursor);
     }
 
     /**
-     * 레포지토리로부터 읽어온 유저 데이터 전체 조회
+     * 멘션/자동완성용 유저 검색
+     * <p>
+     * 유저명 검색 인덱스로 상위 limit 건의 ID만 구한 뒤 projection 한 번으로 상태와 프로필을 함께 조회하므로, 전체 유저 수와 관계없이
+     * 결과 수에만 비례하는 비용으로 처리된다.
      *
-     * @return 조회된 유저 데이터
+     * @param query 유저명 검색어 (앞뒤 공백 무시, 비어 있으면 빈 결과)
+     * @param limit 최대 결과 수 (null이면 기본값, 최대값을 넘으면 최대값으로 제한)
+     * @return 접두어 일치 유저를 먼저, 비슷한 유저명을 다음 순서로 정렬한 유저 목록
      */
     @Override
     @Transactional(readOnly = true)
-    public List<UserDto> findAll() {
+    public List<UserDto> search(String query, Integer limit) {
+        String keyword = query == null ? "" : query.strip();
+        if (keyword.isEmpty()) {
+            return List.of();
+        }
 
-        List<User> users = userRepository.findAll();
+        int size = limit == null ? userSearchProperties.getDefaultLimit() : limit;
+        size = Math.min(Math.max(size, 1), userSearchProperties.getMaxLimit());
 
-        return users.stream()
+        List<UUID> ids = userSearchIndex.search(keyword, size);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, UserRow> rows = userRepository.findRowsByIdIn(ids).stream()
+                .collect(Collectors.toMap(UserRow::id, Function.identity()));
+        return ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
                 .map(userMapper::toDto)
                 .toList();
     }
 
+    private static String toLikePrefix(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return "%";
+        }
+        return prefix.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
+
     /**
      * 주어진 id에 해당하는 유저 조회
      *
@@ -120,16 +281,21 @@ public class BasicUserService implements UserService {
      */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#userId")
     public UserDto find(UUID userId) {
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> UserNotFoundException.byId(userId));
 
+        // 캐시된 DTO의 online을 다시 계산할 수 있도록 온라인 유저를 메모리에 등록
+        presenceRegistry.loadIfOnline(userId, user.getStatus());
         return userMapper.toDto(user);
     }
 
     /**
      * 주어진 ID에 해당하는 유저를 수정 요청 DTO(유저, 프로필사진) 값으로 수정
+     * <p>
+     * 새 패스워드가 있으면 트랜잭션을 시작하기 전에 해시한다.
      *
      * @param userId               수정할 유저 ID
      * @param updateRequest        유저 수정 요청 DTO
@@ -139,48 +305,49 @@ public class BasicUserService implements UserService {
      * @throws UserAlreadyExistsException 신규 유저명/이메일이 중복된 경우
      */
     @Override
-    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS, key = "#userId"),
+            @CacheEvict(cacheNames = CacheConfig.CHANNELS, allEntries = true)
+    })
     public UserDto update(UUID userId, UserUpdateRequest updateRequest,
             BinaryContentCreateRequest profileCreateRequest) {
         log.info("유저 수정 요청: 유저명 = {}, 이메일 = {}", updateRequest.newUsername(),
                 updateRequest.newEmail());
 
+        String newPassword = updateRequest.newPassword();
+        String hashedPassword = newPassword != null ? passwordHasher.hash(newPassword) : null;
+
+        UserDto updated = transactionTemplate.execute(
+                status -> applyUpdate(userId, updateRequest, hashedPassword, profileCreateRequest));
+
+        loginAttemptGuard.forgetUnknown(updateRequest.newUsername());
+        return updated;
+    }
+
+    private UserDto applyUpdate(UUID userId, UserUpdateRequest updateRequest, String hashedPassword,
+            BinaryContentCreateRequest profileCreateRequest) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> UserNotFoundException.byId(userId));
 
         String newUsername = updateRequest.newUsername();
         String newEmail = updateRequest.newEmail();
 
-        if (userRepository.existsByUsername(newUsername)) {
-            log.warn("유저 수정 실패: 이미 존재하는 유저명");
-            throw UserAlreadyExistsException.byUserName(newUsername);
-        }
-        if (userRepository.existsByEmail(newEmail)) {
-            log.warn("유저 수정 실패: 이미 존재하는 이메일");
-            throw UserAlreadyExistsException.byEmail(newEmail);
-        }
-
-        boolean isProfileCreated = profileCreateRequest != null;
-        BinaryContent binaryContent = null;
+        // 값이 바뀌는 필드만 중복 검사 (기존 값 그대로면 자기 자신과 충돌하지 않도록)
+        validateUnique(
+                isChanged(newUsername, user.getUsername()) ? newUsername : null,
+                isChanged(newEmail, user.getEmail()) ? newEmail : null,
+                userId
+        );
 
-        if (isProfileCreated) {
-            binaryContent = BinaryContent.builder()
-                    .fileName(profileCreateRequest.fileName())
-                    .contentType(profileCreateRequest.contentType())
-                    .size(((long) profileCreateRequest.bytes().length))
-                    .build();
+        BinaryContent binaryContent = saveProfile(profileCreateRequest);
+        boolean isUsernameChanged = isChanged(newUsername, user.getUsername());
 
-            binaryContentRepository.save(binaryContent);
-            binaryContentStorage.put(binaryContent.getId(), profileCreateRequest.bytes());
+        user.update(newUsername, newEmail, hashedPassword, binaryContent);
+        saveAndFlush(user);
+        if (isUsernameChanged) {
+            eventPublisher.publishEvent(UserChangedEvent.updated(userId, newUsername));
         }
 
-        user.update(
-                newUsername,
-                newEmail,
-                updateRequest.newPassword(),
-                binaryContent
-        );
-
         return userMapper.toDto(user);
     }
 
@@ -192,6 +359,10 @@ public class BasicUserService implements UserService {
      */
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS, key = "#userId"),
+            @CacheEvict(cacheNames = CacheConfig.CHANNELS, allEntries = true)
+    })
     public void delete(UUID userId) {
         log.info("유저 삭제 요청: ID = {}", userId);
 
@@ -201,6 +372,94 @@ public class BasicUserService implements UserService {
         }
 
         userRepository.deleteById(userId);
+        presenceRegistry.evict(userId);
+        eventPublisher.publishEvent(UserChangedEvent.deleted(userId));
         log.info("유저 삭제 완료: ID = {}", userId);
     }
+
+    /**
+     * 유저명/이메일 중복 여부를 한 번의 쿼리로 검사. null 인자는 검사하지 않는다.
+     *
+     * @param excludeUserId 검사에서 제외할 유저 ID (수정 시 자기 자신)
+     */
+    private void validateUnique(String username, String email, UUID excludeUserId) {
+        if (username == null && email == null) {
+            return;
+        }
+
+        for (UserIdentityRow row : userRepository.findIdentitiesByUsernameOrEmail(username,
+                email)) {
+            if (row.id().equals(excludeUserId)) {
+                continue;
+            }
+            if (username != null && username.equals(row.username())) {
+                log.warn("유저 저장 실패: 이미 존재하는 유저명");
+                throw UserAlreadyExistsException.byUserName(username);
+            }
+            log.warn("유저 저장 실패: 이미 존재하는 이메일");
+            throw UserAlreadyExistsException.byEmail(email);
+        }
+    }
+
+    /**
+     * 대량 등록 요청과 충돌한 기존 유저를 409 예외로 변환. 요청한 유저명과 겹치면 유저명, 아니면 이메일을 알린다.
+     */
+    private static UserAlreadyExistsException toAlreadyExists(UserIdentityRow conflict,
+            Set<String> usernames) {
+        return usernames.contains(conflict.username())
+                ? UserAlreadyExistsException.byUserName(conflict.username())
+                : UserAlreadyExistsException.byEmail(conflict.email());
+    }
+
+    /**
+     * 프로필사진 메타데이터를 저장하고 커밋 이후 업로드를 예약. 요청이 없으면 null
+     */
+    private BinaryContent saveProfile(BinaryContentCreateRequest profileCreateRequest) {
+        if (profileCreateRequest == null) {
+            return null;
+        }
+
+        BinaryContent binaryContent = BinaryContent.builder()
+                .fileName(profileCreateRequest.fileName())
+                .contentType(profileCreateRequest.contentType())
+                .size(profileCreateRequest.size())
+                .build();
+
+        binaryContentRepository.save(binaryContent);
+        eventPublisher.publishEvent(
+                new BinaryContentCreatedEvent(binaryContent.getId(), profileCreateRequest));
+        return binaryContent;
+    }
+
+    /**
+     * 사전 검사 이후 동시 요청이 같은 값을 선점한 경우 유저명/이메일 유니크 제약 위반을 409로 변환
+     * <p>
+     * 위반 이후에는 트랜잭션이 중단되어 다시 조회할 수 없으므로 제약 이름으로 충돌한 값을 구분한다. FK 위반 등 다른 제약 위반은 그대로 전달한다.
+     */
+    private void saveAndFlush(User user) {
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isViolationOf(e, User.USERNAME_UNIQUE)) {
+                log.warn("유저 저장 실패: 유저명 중복");
+                throw UserAlreadyExistsException.byUserName(user.getUsername());
+            }
+            if (isViolationOf(e, User.EMAIL_UNIQUE)) {
+                log.warn("유저 저장 실패: 이메일 중복");
+                throw UserAlreadyExistsException.byEmail(user.getEmail());
+            }
+            throw e;
+        }
+    }
+
+    // H2 는 제약 이름을 대문자와 스키마, 인덱스 접미사를 붙여 보고하므로 포함 여부로 비교한다.
+    private static boolean isViolationOf(DataIntegrityViolationException e, String constraint) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraint);
+    }
+
+    private static boolean isChanged(String newValue, String currentValue) {
+        return newValue != null && !newValue.equals(currentValue);
+    }
 }
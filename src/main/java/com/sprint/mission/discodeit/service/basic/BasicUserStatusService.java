@@ -10,10 +10,11 @@ import com.sprint.mission.discodeit.exception.User.UserNotFoundException;
 import com.sprint.mission.discodeit.exception.UserStatus.UserStatusAlreadyExistsException;
 import com.sprint.mission.discodeit.exception.UserStatus.UserStatusNotFoundException;
 import com.sprint.mission.discodeit.mapper.UserStatusMapper;
+import com.sprint.mission.discodeit.presence.PresenceRegistry;
+import com.sprint.mission.discodeit.presence.PresenceRegistry.Presence;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.repository.UserStatusRepository;
 import com.sprint.mission.discodeit.service.UserStatusService;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -28,9 +29,12 @@ public class BasicUserStatusService implements UserStatusService {
     private final UserStatusRepository userStatusRepository;
     private final UserRepository userRepository;
     private final UserStatusMapper userStatusMapper;
+    private final PresenceRegistry presenceRegistry;
 
     /**
      * 주어진 생성 요청 DTO를 기반으로 UserStatus 생성
+     * <p>
+     * 캐시된 유저/채널 DTO의 online은 PresenceRegistry 값으로 다시 계산하므로, 온라인이면 메모리에도 등록한다.
      *
      * @param createRequest 생성 요청 DTO
      * @return 생성된 UserStatus
@@ -57,23 +61,10 @@ public class BasicUserStatusService implements UserStatusService {
                 .build();
 
         userStatusRepository.save(userStatus);
+        presenceRegistry.loadIfOnline(userId, userStatus);
         return userStatusMapper.toDto(userStatus);
     }
 
-    /**
-     * UserStatus 전체 조회
-     *
-     * @return 조회된 UserStatus 데이터
-     */
-    @Override
-    @Transactional(readOnly = true)
-    public List<UserStatusDto> findAll() {
-
-        return userStatusRepository.findAll().stream()
-                .map(userStatusMapper::toDto)
-                .toList();
-    }
-
     /**
      * 주어진 ID에 해당하는 UserStatus 조회
      *
@@ -93,6 +84,9 @@ public class BasicUserStatusService implements UserStatusService {
 
     /**
      * 주어진 ID에 해당하는 UserStatus 수정
+     * <p>
+     * {@link #updateByUserId} 와 같이 PresenceRegistry에 기록하고 DB에는 주기적으로 모아서 반영한다. 캐시된 DTO의 online도
+     * 메모리 값으로 다시 계산되며, 마지막 활동 시각은 뒤로 가지 않는다.
      *
      * @param userStatusId  수정할 UserStatus ID
      * @param updateRequest 수정 요청 DTO
@@ -100,18 +94,23 @@ public class BasicUserStatusService implements UserStatusService {
      * @throws UserStatusNotFoundException UserStatus가 존재하지 않는 경우
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public UserStatusDto update(UUID userStatusId, UserStatusUpdateRequest updateRequest) {
 
         UserStatus userStatus = userStatusRepository.findById(userStatusId)
                 .orElseThrow(() -> UserStatusNotFoundException.byId(userStatusId));
 
-        userStatus.update(updateRequest.newLastActiveAt());
-        return userStatusMapper.toDto(userStatus);
+        UUID userId = userStatus.getUser().getId();
+        Presence touched = presenceRegistry.touch(userId, userStatusId,
+                updateRequest.newLastActiveAt());
+        return new UserStatusDto(touched.statusId(), userId, touched.lastActiveAt());
     }
 
     /**
      * 주어진 유저ID에 해당하는 UserStatus 수정
+     * <p>
+     * 하트비트 요청이므로 PresenceRegistry에만 기록하고 DB에는 주기적으로 모아서 반영한다. 메모리에 없는 유저만 UserStatus를
+     * 조회한다.
      *
      * @param userId        수정할 UserStatus의 유저ID
      * @param updateRequest 수정 요청 DTO
@@ -119,14 +118,20 @@ public class BasicUserStatusService implements UserStatusService {
      * @throws UserStatusNotFoundException 유저ID와 일치하는 UserStatus가 없는 경우
      */
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public UserStatusDto updateByUserId(UUID userId, UserStatusUpdateRequest updateRequest) {
 
-        UserStatus userStatus = userStatusRepository.findByUserId(userId)
-                .orElseThrow(() -> UserStatusNotFoundException.byUserId(userId));
+        Presence presence = presenceRegistry.find(userId)
+                .orElseGet(() -> {
+                    UserStatus userStatus = userStatusRepository.findByUserId(userId)
+                            .orElseThrow(() -> UserStatusNotFoundException.byUserId(userId));
+                    return presenceRegistry.load(userId, userStatus.getId(),
+                            userStatus.getLastActiveAt());
+                });
 
-        userStatus.update(updateRequest.newLastActiveAt());
-        return userStatusMapper.toDto(userStatus);
+        Presence touched = presenceRegistry.touch(userId, presence.statusId(),
+                updateRequest.newLastActiveAt());
+        return new UserStatusDto(touched.statusId(), userId, touched.lastActiveAt());
     }
 
     /**
@@ -139,10 +144,10 @@ public class BasicUserStatusService implements UserStatusService {
     @Transactional
     public void delete(UUID id) {
 
-        if (!userStatusRepository.existsById(id)) {
-            throw UserStatusNotFoundException.byId(id);
-        }
+        UserStatus userStatus = userStatusRepository.findById(id)
+                .orElseThrow(() -> UserStatusNotFoundException.byId(id));
 
-        userStatusRepository.deleteById(id);
+        presenceRegistry.evict(userStatus.getUser().getId());
+        userStatusRepository.delete(userStatus);
     }
 }
@@ -0,0 +1,282 @@
+package com.sprint.mission.discodeit.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.config.ChannelEventProperties;
+import com.sprint.mission.discodeit.event.MessageChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 채널별 SSE 구독자에게 메시지 변경 이벤트를 전달하는 in-process fan-out 허브
+ * <p>
+ * 이벤트는 커밋 이후 한 번만 JSON으로 직렬화하여 구독자별 bounded 큐에 넣고, 실제 전송은 channelEventExecutor가 구독자마다 하나의 작업으로
+ * 처리한다. 큐가 가득 찬 느린 구독자는 연결을 끊어 발행 측이 기다리지 않게 한다 (클라이언트는 재연결 후 REST로 누락분을 조회). 단일
+ * 인스턴스 기준이다.
+ * <p>
+ * 이벤트 하나를 쓰는 데 sendTimeout 보다 오래 걸리는 구독자는 heartbeat 주기마다 찾아 구독을 해제하므로, 막힌 소켓 하나가 전송 스레드를
+ * 계속 붙잡고 다시 예약되지 않는다. emitter 는 쓰는 동안 잠겨 있으므로 완료 처리는 다른 스레드가 아니라 해당 구독자의 전송 작업이 맡는다.
+ */
+@Slf4j
+@Component
+public class ChannelEventHub {
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event()
+            .comment("ping")
+            .build();
+
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final int queueCapacity;
+    private final long emitterTimeoutMillis;
+    private final long sendTimeoutNanos;
+
+    private final ConcurrentMap<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private final Counter droppedCounter;
+
+    public ChannelEventHub(
+            ObjectMapper objectMapper,
+            @Qualifier("channelEventExecutor") Executor executor,
+            ChannelEventProperties channelEventProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.queueCapacity = channelEventProperties.getQueueCapacity();
+        this.emitterTimeoutMillis = channelEventProperties.getEmitterTimeout().toMillis();
+        this.sendTimeoutNanos = channelEventProperties.getSendTimeout().toNanos();
+
+        Gauge.builder("discodeit.sse.subscribers", this, ChannelEventHub::subscriberCount)
+                .description("현재 SSE 구독자 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("discodeit.sse.dropped")
+                .description("큐가 넘치거나 전송 시간이 초과되어 연결을 끊은 느린 구독자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 채널 구독. 반환된 emitter는 타임아웃/에러/클라이언트 종료 시 자동으로 해제된다.
+     */
+    public SseEmitter subscribe(UUID channelId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        // 응답 헤더를 바로 내보내 클라이언트가 연결 성공을 알 수 있게 한다.
+        add(channelId, emitter).offer(SseEmitter.event().comment("connected").build());
+        return emitter;
+    }
+
+    void register(UUID channelId, SseEmitter emitter) {
+        add(channelId, emitter);
+    }
+
+    private Subscriber add(UUID channelId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(channelId, emitter);
+        subscribers.computeIfAbsent(channelId, id -> ConcurrentHashMap.newKeySet())
+                .add(subscriber);
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        log.debug("SSE 구독: channelId = {}", channelId);
+        return subscriber;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(MessageChangedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.channelId());
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        Object payload = event.message() != null
+                ? event.message()
+                : Map.of("id", event.messageId(), "channelId", event.channelId());
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("SSE 이벤트 직렬화 실패: messageId = {}", event.messageId(), e);
+            return;
+        }
+
+        Set<DataWithMediaType> items = SseEmitter.event()
+                .id(event.messageId().toString())
+                .name(event.type().getEventName())
+                .data(json, MediaType.APPLICATION_JSON)
+                .build();
+
+        targets.forEach(subscriber -> subscriber.offer(items));
+    }
+
+    /**
+     * 끊어진 연결은 전송을 시도해야 드러나므로 주기적으로 주석을 보낸다. 전송 중 멈춘 구독자는 주석 대신 구독을 해제한다.
+     */
+    @Scheduled(fixedDelayString = "${discodeit.sse.heartbeat-interval:15s}")
+    public void heartbeat() {
+        long now = System.nanoTime();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> {
+            if (subscriber.isStalled(now)) {
+                droppedCounter.increment();
+                drop(subscriber, "전송 시간 초과");
+            } else {
+                subscriber.offer(HEARTBEAT);
+            }
+        }));
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream()
+                .mapToInt(Set::size)
+                .sum();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.channelId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private void drop(Subscriber subscriber, String reason) {
+        if (subscriber.close()) {
+            log.info("SSE 구독 해제: channelId = {}, 사유 = {}", subscriber.channelId, reason);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    /**
+     * 구독자별 bounded 큐와 전송 상태. 전송 작업은 구독자당 동시에 하나만 실행되어 이벤트 순서가 유지된다.
+     */
+    private final class Subscriber {
+
+        private final UUID channelId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        // 진행 중인 send 의 시작 시각. 전송 중이 아니면 sending 이 false
+        private volatile boolean sending;
+        private volatile long sendStartedNanos;
+
+        private Subscriber(UUID channelId, SseEmitter emitter) {
+            this.channelId = channelId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        }
+
+        private void offer(Set<DataWithMediaType> items) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(items)) {
+                droppedCounter.increment();
+                drop(this, "큐 초과");
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private boolean isStalled(long now) {
+            return sending && now - sendStartedNanos > sendTimeoutNanos;
+        }
+
+        /**
+         * 구독 목록에서 빼고 남은 이벤트를 버린 뒤, 전송 작업이 emitter 를 완료하도록 예약
+         *
+         * @return 이번 호출로 해제되었으면 true
+         */
+        private boolean close() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            remove(this);
+            queue.clear();
+            scheduleDrain();
+            return true;
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                // 실행 중인 전송 작업이 없으므로 여기서 바로 완료해도 emitter 를 기다리지 않는다.
+                if (closed.compareAndSet(false, true)) {
+                    remove(this);
+                    queue.clear();
+                    log.info("SSE 구독 해제: channelId = {}, 사유 = 전송 executor 거절", channelId);
+                }
+                complete();
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> items;
+                while (!closed.get() && (items = queue.poll()) != null) {
+                    sendStartedNanos = System.nanoTime();
+                    sending = true;
+                    try {
+                        emitter.send(items);
+                    } finally {
+                        sending = false;
+                    }
+                }
+                if (closed.get()) {
+                    complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었거나 이미 완료된 emitter
+                closed.set(true);
+                remove(this);
+                queue.clear();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            // 마지막 확인 이후 draining 해제 전에 들어온 이벤트나 해제 요청이 있으면 다시 실행
+            if (closed.get() ? !completed.get() : !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void complete() {
+            if (completed.compareAndSet(false, true)) {
+                emitter.complete();
+            }
+        }
+    }
+}
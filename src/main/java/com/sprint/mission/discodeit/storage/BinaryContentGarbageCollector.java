@@ -0,0 +1,161 @@
+package com.sprint.mission.discodeit.storage;
+
+import com.sprint.mission.discodeit.config.StorageGcProperties;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * binary_contents 에서 참조하지 않는 스토리지 파일을 주기적으로 삭제
+ * <p>
+ * 메시지 첨부파일 cascade, 프로필 교체, BinaryContent 삭제는 DB 행만 지우므로 파일은 이 작업이 정리한다. 스토리지 키를 스트림으로
+ * 읽어 배치 단위로 DB와 비교하고, 유예 기간이 지나지 않은 파일은 업로드 중일 수 있으므로 건너뛴다.
+ * <p>
+ * 한 번의 실행이 길어질 수 있으므로 스케줄러는 storageGcExecutor 에 제출만 하고 바로 돌아온다.
+ */
+@Slf4j
+@ConditionalOnProperty(name = "discodeit.storage.gc.enabled", havingValue = "true", matchIfMissing = true)
+@Component
+public class BinaryContentGarbageCollector {
+
+    private final BinaryContentStorage binaryContentStorage;
+    private final BinaryContentRepository binaryContentRepository;
+    private final StorageGcProperties gcProperties;
+    private final TaskExecutor executor;
+
+    private final Counter scannedCounter;
+    private final Counter deletedCounter;
+    private final Counter reclaimedBytesCounter;
+
+    public BinaryContentGarbageCollector(BinaryContentStorage binaryContentStorage,
+            BinaryContentRepository binaryContentRepository, StorageGcProperties gcProperties,
+            @Qualifier("storageGcExecutor") TaskExecutor executor, MeterRegistry meterRegistry) {
+        this.binaryContentStorage = binaryContentStorage;
+        this.binaryContentRepository = binaryContentRepository;
+        this.gcProperties = gcProperties;
+        this.executor = executor;
+
+        this.scannedCounter = Counter.builder("discodeit.storage.gc.scanned")
+                .description("GC가 확인한 스토리지 파일 수")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("discodeit.storage.gc.deleted")
+                .description("GC가 삭제한 참조 없는 파일 수")
+                .register(meterRegistry);
+        this.reclaimedBytesCounter = Counter.builder("discodeit.storage.gc.reclaimed")
+                .description("GC가 삭제한 파일의 총 크기")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${discodeit.storage.gc.interval:PT1H}",
+            fixedDelayString = "${discodeit.storage.gc.interval:PT1H}")
+    public void run() {
+        try {
+            executor.execute(() -> {
+                try {
+                    collect(Instant.now());
+                } catch (RuntimeException e) {
+                    log.error("스토리지 GC 실패, 다음 주기에 재시도", e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.warn("이전 스토리지 GC 가 아직 실행 중이므로 이번 주기는 건너뜀");
+        }
+    }
+
+    /**
+     * 기준 시각에서 유예 기간 이전에 수정된 파일 중 BinaryContent가 없는 파일 삭제
+     *
+     * @param now 기준 시각
+     * @return 삭제한 파일 수
+     */
+    public long collect(Instant now) {
+        Instant threshold = now.minus(gcProperties.getGracePeriod());
+        int batchSize = gcProperties.getBatchSize();
+        long deleteIntervalNanos = TimeUnit.SECONDS.toNanos(1)
+                / Math.max(1, gcProperties.getDeletesPerSecond());
+
+        long scanned = 0;
+        long deleted = 0;
+        long reclaimed = 0;
+        long nextDeleteAt = System.nanoTime();
+
+        try (Stream<StoredObject> objects = binaryContentStorage.list()) {
+            Iterator<StoredObject> iterator = objects.iterator();
+            List<StoredObject> batch = new ArrayList<>(batchSize);
+
+            while (iterator.hasNext()) {
+                StoredObject object = iterator.next();
+                scanned++;
+                if (object.lastModified().isBefore(threshold)) {
+                    batch.add(object);
+                }
+                if (batch.size() < batchSize && iterator.hasNext()) {
+                    continue;
+                }
+
+                for (StoredObject orphan : findOrphans(batch)) {
+                    nextDeleteAt = throttle(nextDeleteAt, deleteIntervalNanos);
+                    try {
+                        binaryContentStorage.delete(orphan.id());
+                    } catch (RuntimeException e) {
+                        log.warn("참조 없는 파일 삭제 실패: ID = {}", orphan.id(), e);
+                        continue;
+                    }
+                    deleted++;
+                    reclaimed += orphan.size();
+                    deletedCounter.increment();
+                    reclaimedBytesCounter.increment(orphan.size());
+                }
+                batch.clear();
+            }
+        } finally {
+            scannedCounter.increment(scanned);
+        }
+
+        log.info("스토리지 GC 완료: 확인 = {}, 삭제 = {}, 회수 = {} bytes", scanned, deleted, reclaimed);
+        return deleted;
+    }
+
+    private List<StoredObject> findOrphans(List<StoredObject> batch) {
+        if (batch.isEmpty()) {
+            return List.of();
+        }
+
+        Set<UUID> existingIds = new HashSet<>(binaryContentRepository.findExistingIds(
+                batch.stream().map(StoredObject::id).toList()));
+
+        return batch.stream()
+                .filter(object -> !existingIds.contains(object.id()))
+                .toList();
+    }
+
+    private long throttle(long nextDeleteAt, long intervalNanos) {
+        long waitNanos = nextDeleteAt - System.nanoTime();
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("스토리지 GC가 중단되었습니다.", e);
+            }
+        }
+        return Math.max(nextDeleteAt, System.nanoTime()) + intervalNanos;
+    }
+}
@@ -3,14 +3,37 @@ package com.sprint.mission.discodeit.storage;
 import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentDto;
 import java.io.InputStream;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 
 public interface BinaryContentStorage {
 
-    UUID put(UUID id, byte[] bytes);
+    /**
+     * 주어진 스트림을 끝까지 읽어 저장. 스트림은 호출한 쪽에서 닫는다.
+     *
+     * @param id          저장할 파일의 BinaryContent ID
+     * @param inputStream 저장할 데이터 스트림
+     * @param size        스트림의 바이트 길이
+     * @return 저장된 파일의 ID
+     */
+    UUID put(UUID id, InputStream inputStream, long size);
 
     InputStream get(UUID id);
 
     ResponseEntity<Resource> download(BinaryContentDto binaryContentDto);
+
+    /**
+     * 저장된 파일 목록을 지연 조회. BinaryContent ID 형식이 아닌 키는 제외한다. 스트림은 호출한 쪽에서 닫는다.
+     *
+     * @return 저장된 파일 정보 스트림
+     */
+    Stream<StoredObject> list();
+
+    /**
+     * 주어진 BinaryContent ID의 파일 삭제. 파일이 없으면 아무것도 하지 않는다.
+     *
+     * @param id 삭제할 파일의 BinaryContent ID
+     */
+    void delete(UUID id);
 }
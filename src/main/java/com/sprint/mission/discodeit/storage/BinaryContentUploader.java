@@ -0,0 +1,254 @@
+package com.sprint.mission.discodeit.storage;
+
+import com.sprint.mission.discodeit.config.UploadProperties;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.event.BinaryContentCreatedEvent;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import jakarta.annotation.PostConstruct;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 트랜잭션 커밋 이후 BinaryContent 파일을 스토리지에 업로드
+ * <p>
+ * 메타데이터는 PENDING 상태로 먼저 커밋되고, 커밋이 끝나면 요청 스레드에서 파일을 임시 경로로 옮긴 뒤 업로드 executor가 스토리지에 저장한다.
+ * 저장에 성공하면 READY, 실패하면 FAILED로 상태를 바꾼다. 롤백된 요청은 이벤트가 전달되지 않으므로 스토리지에 아무것도 남기지 않는다.
+ * <p>
+ * AFTER_COMMIT 시점에도 요청 스레드는 트랜잭션 정리 전까지 DB 커넥션을 쥐고 있으므로, 요청 스레드에서는 디스크에 있는 multipart 파일의 이름만
+ * 바꾸고(파일 크기와 무관) 상태 변경은 성공과 실패 모두 executor 에서 한다. executor 가 가득 차 거절된 업로드는 임시 파일과 PENDING 상태를
+ * 그대로 두고 주기적인 {@link #recover()} 에서 다시 제출한다.
+ */
+@Slf4j
+@Component
+public class BinaryContentUploader {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final BinaryContentStorage binaryContentStorage;
+    private final BinaryContentRepository binaryContentRepository;
+    private final TaskExecutor uploadExecutor;
+    private final Path stagingRoot;
+    private final Duration pendingTimeout;
+
+    // executor 에 제출되어 대기 중이거나 실행 중인 BinaryContent ID
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+
+    public BinaryContentUploader(BinaryContentStorage binaryContentStorage,
+            BinaryContentRepository binaryContentRepository,
+            @Qualifier("binaryContentUploadExecutor") TaskExecutor uploadExecutor,
+            UploadProperties uploadProperties) {
+        this.binaryContentStorage = binaryContentStorage;
+        this.binaryContentRepository = binaryContentRepository;
+        this.uploadExecutor = uploadExecutor;
+        this.stagingRoot = Paths.get(uploadProperties.getStagingPath());
+        this.pendingTimeout = uploadProperties.getPendingTimeout();
+    }
+
+    /**
+     * 임시 경로가 존재하지 않으면 디렉토리 생성
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            Files.createDirectories(stagingRoot);
+        } catch (IOException e) {
+            throw new RuntimeException("업로드 임시 경로 초기화 중 오류가 발생하였습니다.", e);
+        }
+    }
+
+    /**
+     * 커밋된 BinaryContent의 파일을 임시 경로에 기록한 뒤 업로드를 예약
+     * <p>
+     * multipart 임시 파일은 요청이 끝나면 삭제되므로 요청 스레드에서 먼저 옮겨 둔다. multipart 파일은 fileSizeThreshold: 0B 로 항상
+     * 디스크에 있으므로 {@link MultipartFile#transferTo(File)} 로 옮기며, 컨테이너 임시 경로(multipart location)와 staging-path 가 같은
+     * 파일시스템이면 복사 없이 이름만 바뀐다. 그 밖의 source 만 스트림으로 복사한다. 쓰는 중인 파일이 {@link #recover()} 에 잡히지 않도록
+     * 임시 이름으로 쓴 뒤 옮긴다. 이 스레드는 아직 DB 커넥션을 쥐고 있으므로 DB 접근이나 executor 대기는 하지 않는다.
+     *
+     * @param event BinaryContent 생성 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(BinaryContentCreatedEvent event) {
+        UUID id = event.binaryContentId();
+
+        Path staged = resolveStagingPath(id);
+        Path temp = stagingRoot.resolve(id + TEMP_SUFFIX);
+        try {
+            stage(event.request().source(), temp);
+            Files.move(temp, staged, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | IllegalStateException e) {
+            log.error("업로드 파일 임시 저장 실패: ID = {}", id, e);
+            deleteQuietly(temp);
+            markFailed(id);
+            return;
+        }
+
+        submit(id, staged);
+    }
+
+    private void stage(InputStreamSource source, Path temp) throws IOException {
+        if (source instanceof MultipartFile multipartFile) {
+            // transferTo(Path) 는 항상 스트림 복사이므로 컨테이너의 Part.write 를 쓰는 File 버전을 사용
+            multipartFile.transferTo(temp.toAbsolutePath().toFile());
+            return;
+        }
+        try (InputStream inputStream = source.getInputStream()) {
+            Files.copy(inputStream, temp, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * 업로드되지 못한 임시 파일을 다시 업로드하고, 임시 파일 없이 오래 PENDING인 BinaryContent는 FAILED로 처리
+     * <p>
+     * 시작 직후에는 재시작 전에 남은 업로드를, 이후에는 주기적으로 executor 가 거절한 업로드를 처리한다. executor 에 제출되어 있는 ID는
+     * 건너뛴다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${discodeit.storage.upload.sweep-interval:PT1M}",
+            fixedDelayString = "${discodeit.storage.upload.sweep-interval:PT1M}")
+    public void recover() {
+        int resubmitted = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(stagingRoot)) {
+            for (Path staged : stream) {
+                UUID id = parseId(staged);
+                if (id == null) {
+                    deleteStaleTemp(staged);
+                    continue;
+                }
+                if (inFlight.contains(id)) {
+                    continue;
+                }
+
+                boolean pending = binaryContentRepository.findById(id)
+                        .map(binaryContent -> binaryContent.getStatus()
+                                == BinaryContentStatus.PENDING)
+                        .orElse(false);
+                if (pending) {
+                    submit(id, staged);
+                    resubmitted++;
+                } else {
+                    Files.deleteIfExists(staged);
+                }
+            }
+        } catch (IOException e) {
+            log.error("업로드 임시 경로 조회 실패: {}", stagingRoot, e);
+        }
+
+        int failed = 0;
+        for (UUID id : binaryContentRepository.findIdsByStatusAndCreatedAtBefore(
+                BinaryContentStatus.PENDING, Instant.now().minus(pendingTimeout))) {
+            if (!inFlight.contains(id) && !Files.exists(resolveStagingPath(id))) {
+                binaryContentRepository.updateStatus(id, BinaryContentStatus.FAILED);
+                failed++;
+            }
+        }
+
+        if (resubmitted > 0 || failed > 0) {
+            log.info("업로드 복구 완료: 재시도 = {}, 실패 처리 = {}", resubmitted, failed);
+        }
+    }
+
+    private void submit(UUID id, Path staged) {
+        execute(id, () -> upload(id, staged), "업로드 제출 거절, 다음 복구 주기에 재시도: ID = {}");
+    }
+
+    /**
+     * executor 에서 FAILED로 변경. 거절되면 임시 파일 없는 PENDING으로 남아 pendingTimeout 이후 {@link #recover()} 가 처리한다.
+     */
+    private void markFailed(UUID id) {
+        execute(id, () -> binaryContentRepository.updateStatus(id, BinaryContentStatus.FAILED),
+                "실패 처리 제출 거절, 다음 복구 주기에 처리: ID = {}");
+    }
+
+    private void execute(UUID id, Runnable task, String rejectedMessage) {
+        if (!inFlight.add(id)) {
+            return;
+        }
+
+        try {
+            uploadExecutor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    inFlight.remove(id);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inFlight.remove(id);
+            log.warn(rejectedMessage, id);
+        }
+    }
+
+    void upload(UUID id, Path staged) {
+        if (!Files.exists(staged)) {
+            // 복구 주기와 커밋 직후 제출이 겹쳐 이미 처리된 업로드
+            return;
+        }
+
+        try (InputStream inputStream = Files.newInputStream(staged)) {
+            binaryContentStorage.put(id, inputStream, Files.size(staged));
+            binaryContentRepository.updateStatus(id, BinaryContentStatus.READY);
+            log.info("파일 업로드 완료: ID = {}", id);
+        } catch (Exception e) {
+            log.error("파일 업로드 실패: ID = {}", id, e);
+            binaryContentRepository.updateStatus(id, BinaryContentStatus.FAILED);
+        }
+
+        deleteQuietly(staged);
+    }
+
+    private Path resolveStagingPath(UUID id) {
+        return stagingRoot.resolve(id.toString());
+    }
+
+    private void deleteStaleTemp(Path path) {
+        try {
+            if (path.getFileName().toString().endsWith(TEMP_SUFFIX)
+                    && Files.getLastModifiedTime(path).toInstant()
+                    .isBefore(Instant.now().minus(pendingTimeout))) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            log.warn("업로드 임시 파일 삭제 실패: {}", path);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("업로드 임시 파일 삭제 실패: {}", path);
+        }
+    }
+
+    private UUID parseId(Path staged) {
+        try {
+            return UUID.fromString(staged.getFileName().toString());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.sprint.mission.discodeit.storage;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 스토리지에 저장된 파일 하나의 정보
+ *
+ * @param id           파일 키에 해당하는 BinaryContent ID
+ * @param size         저장된 바이트 길이
+ * @param lastModified 마지막 수정 시각
+ */
+public record StoredObject(
+        UUID id,
+        long size,
+        Instant lastModified
+) {
+
+}
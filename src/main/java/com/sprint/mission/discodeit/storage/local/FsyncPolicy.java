@@ -0,0 +1,22 @@
+package com.sprint.mission.discodeit.storage.local;
+
+/**
+ * 로컬 파일 저장 시 디스크 동기화 범위
+ */
+public enum FsyncPolicy {
+
+    /**
+     * 동기화하지 않고 OS 페이지 캐시에 맡긴다.
+     */
+    NONE,
+
+    /**
+     * 파일 내용을 이름 변경 전에 동기화한다.
+     */
+    FILE,
+
+    /**
+     * 파일 내용과 이름 변경이 기록된 디렉토리까지 동기화한다.
+     */
+    FILE_AND_DIRECTORY
+}
@@ -2,20 +2,33 @@ package com.sprint.mission.discodeit.storage.local;
 
 import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentDto;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.StoredObject;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -28,49 +41,93 @@ import org.springframework.stereotype.Component;
 @Component
 public class LocalBinaryContentStorage implements BinaryContentStorage {
 
+    private static final Duration CACHE_MAX_AGE = Duration.ofDays(365);
+
+    private static final String TEMP_DIRECTORY = ".tmp";
+    private static final int MAX_SHARD_DEPTH = 4;
+
     private final Path root;
+    private final Path tempDirectory;
+    private final int shardDepth;
+    private final FsyncPolicy fsyncPolicy;
 
     public LocalBinaryContentStorage(
-            @Value("${discodeit.storage.local.root-path}") String rootPath) {
+            @Value("${discodeit.storage.local.root-path}") String rootPath,
+            @Value("${discodeit.storage.local.shard-depth:2}") int shardDepth,
+            @Value("${discodeit.storage.local.fsync:FILE}") FsyncPolicy fsyncPolicy) {
+        if (shardDepth < 0 || shardDepth > MAX_SHARD_DEPTH) {
+            throw new IllegalArgumentException(
+                    "shard-depth는 0 이상 " + MAX_SHARD_DEPTH + " 이하여야 합니다.");
+        }
         this.root = Paths.get(rootPath);
+        this.tempDirectory = root.resolve(TEMP_DIRECTORY);
+        this.shardDepth = shardDepth;
+        this.fsyncPolicy = fsyncPolicy;
     }
 
     /**
-     * root 경로가 존재하지 않으면 디렉토리 생성
+     * root 경로와 임시 경로가 존재하지 않으면 디렉토리를 생성하고, 이전 실행에서 남은 임시 파일 삭제
      */
     @PostConstruct
     public void init() {
-        if (!Files.exists(root)) {
-            try {
-                Files.createDirectories(root);
-            } catch (IOException e) {
-                e.printStackTrace();
-                throw new RuntimeException("파일 저장 경로 초기화 중 오류가 발생하였습니다.");
+        try {
+            Files.createDirectories(tempDirectory);
+            try (Stream<Path> leftovers = Files.list(tempDirectory)) {
+                for (Path leftover : leftovers.toList()) {
+                    Files.deleteIfExists(leftover);
+                }
             }
+        } catch (IOException e) {
+            e.printStackTrace();
+            throw new RuntimeException("파일 저장 경로 초기화 중 오류가 발생하였습니다.");
         }
     }
 
     /**
-     * 주어진 BinaryContent ID를 기준으로 바이트 데이터를 파일로 저장
+     * 주어진 BinaryContent ID를 기준으로 스트림 데이터를 파일로 저장
+     * <p>
+     * 고정 크기 버퍼로 임시 파일에 기록한 뒤 최종 경로로 원자적으로 이름을 바꾸므로, 쓰는 도중의 파일은 조회되지 않는다. fsync 정책에
+     * 따라 이름 변경 전 파일 내용과 이름 변경 후 디렉토리를 디스크에 동기화한다.
      *
-     * @param id    저장할 파일의 BinaryContent ID
-     * @param bytes 저장할 byte[] 데이터
+     * @param id          저장할 파일의 BinaryContent ID
+     * @param inputStream 저장할 데이터 스트림
+     * @param size        스트림의 바이트 길이
      * @return 저장된 파일의 ID
      */
     @Override
-    public UUID put(UUID id, byte[] bytes) {
-        log.info("파일 저장 요청: ID = {}", id);
+    public UUID put(UUID id, InputStream inputStream, long size) {
+        log.info("파일 저장 요청: ID = {}, 크기 = {}", id, size);
 
         Path path = resolvePath(id);
 
-        if (Files.exists(path)) {
+        if (findExistingPath(id) != null) {
             throw new IllegalArgumentException("이미 존재하는 파일입니다.");
         }
 
-        try (OutputStream os = Files.newOutputStream(path)) {
-            os.write(bytes);
+        Path temp = null;
+        try {
+            Files.createDirectories(path.getParent());
+            temp = Files.createTempFile(tempDirectory, id + ".", ".part");
+
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                inputStream.transferTo(Channels.newOutputStream(channel));
+                if (fsyncPolicy != FsyncPolicy.NONE) {
+                    channel.force(true);
+                }
+            }
+
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+
+            if (fsyncPolicy == FsyncPolicy.FILE_AND_DIRECTORY) {
+                forceDirectory(path.getParent());
+            }
+        } catch (FileAlreadyExistsException e) {
+            throw new IllegalArgumentException("이미 존재하는 파일입니다.");
         } catch (IOException e) {
             throw new RuntimeException("파일을 저장하는 중 오류가 발생하였습니다.");
+        } finally {
+            deleteQuietly(temp);
         }
 
         return id;
@@ -85,9 +142,9 @@ public class LocalBinaryContentStorage implements BinaryContentStorage {
     @Override
     public InputStream get(UUID id) {
 
-        Path path = resolvePath(id);
+        Path path = findExistingPath(id);
 
-        if (!Files.exists(path)) {
+        if (path == null) {
             throw new RuntimeException("존재하지 않는 파일입니다.");
         }
 
@@ -101,6 +158,10 @@ public class LocalBinaryContentStorage implements BinaryContentStorage {
 
     /**
      * 주어진 BinaryContentDto를 기반으로 파일 다운로드 응답 생성
+     * <p>
+     * 파일을 FileSystemResource로 반환하므로 Spring MVC가 Range 요청(206)과 If-None-Match,
+     * If-Modified-Since 조건부 요청(304)을 처리한다. BinaryContent는 ID별로 내용이 바뀌지 않으므로 ETag는 ID와 크기로
+     * 만들고 장기 캐시를 허용한다.
      *
      * @param metaData 다운로드할 파일 정보
      * @return 파일이 포함된 HTTP 다운로드 응답
@@ -110,8 +171,13 @@ public class LocalBinaryContentStorage implements BinaryContentStorage {
         log.info("파일 다운로드 요청: ID = {}, 파일명 = {}, 형식 = {}", metaData.id(), metaData.fileName(),
                 metaData.contentType());
 
-        InputStream stream = get(metaData.id());
-        Resource resource = new InputStreamResource(stream);
+        Path path = findExistingPath(metaData.id());
+
+        if (path == null) {
+            throw new RuntimeException("존재하지 않는 파일입니다.");
+        }
+
+        Resource resource = new FileSystemResource(path);
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentDisposition(ContentDisposition
@@ -120,7 +186,15 @@ public class LocalBinaryContentStorage implements BinaryContentStorage {
                 .build()
         );
         headers.setContentType(MediaType.parseMediaType(metaData.contentType()));
-        headers.setContentLength(metaData.size());
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setETag(eTag(metaData));
+        headers.setCacheControl(CacheControl.maxAge(CACHE_MAX_AGE).cachePrivate().immutable());
+
+        try {
+            headers.setLastModified(Files.getLastModifiedTime(path).toInstant());
+        } catch (IOException e) {
+            log.warn("파일 수정 시각 조회 실패: ID = {}", metaData.id());
+        }
 
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -128,13 +202,164 @@ public class LocalBinaryContentStorage implements BinaryContentStorage {
                 .body(resource);
     }
 
+    /**
+     * root 경로의 파일 목록을 디렉토리 순회로 지연 조회. 샤드 디렉토리와 이전 평면 구조의 파일을 모두 포함한다.
+     *
+     * @return 저장된 파일 정보 스트림
+     */
+    @Override
+    public Stream<StoredObject> list() {
+        try {
+            return Files.walk(root, shardDepth + 1)
+                    .filter(path -> !path.startsWith(tempDirectory))
+                    .map(this::toStoredObject)
+                    .filter(Objects::nonNull);
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일 목록을 조회하는 중 오류가 발생하였습니다.", e);
+        }
+    }
+
+    /**
+     * 주어진 BinaryContent ID에 해당하는 파일 삭제
+     *
+     * @param id 삭제할 파일의 BinaryContent ID
+     */
+    @Override
+    public void delete(UUID id) {
+        try {
+            Files.deleteIfExists(resolvePath(id));
+            Files.deleteIfExists(resolveFlatPath(id));
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일을 삭제하는 중 오류가 발생하였습니다.", e);
+        }
+    }
+
+    private StoredObject toStoredObject(Path path) {
+        UUID id = parseId(path);
+        if (id == null) {
+            return null;
+        }
+
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            return new StoredObject(id, attributes.size(),
+                    attributes.lastModifiedTime().toInstant());
+        } catch (IOException e) {
+            // 조회 도중 삭제된 파일
+            return null;
+        }
+    }
+
+    private String eTag(BinaryContentDto metaData) {
+        return "\"" + metaData.id() + "-" + metaData.size() + "\"";
+    }
+
+    /**
+     * 이전 평면 구조의 파일을 샤드 경로로 이동
+     * <p>
+     * 파일마다 원자적으로 이동하고 조회는 두 경로를 모두 확인하므로, 서비스 중에 실행해도 된다.
+     *
+     * @return 이동한 파일 수
+     */
+    public int migrateFlatLayout() {
+        if (shardDepth == 0) {
+            return 0;
+        }
+
+        int moved = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(root, Files::isRegularFile)) {
+            for (Path flat : stream) {
+                UUID id = parseId(flat);
+                if (id == null) {
+                    continue;
+                }
+
+                Path target = resolvePath(id);
+                try {
+                    Files.createDirectories(target.getParent());
+                    Files.move(flat, target, StandardCopyOption.ATOMIC_MOVE);
+                    moved++;
+                } catch (NoSuchFileException e) {
+                    // 이동 도중 삭제된 파일
+                } catch (IOException e) {
+                    log.warn("파일 경로 이동 실패: ID = {}", id, e);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일 경로 이동 중 오류가 발생하였습니다.", e);
+        }
+
+        return moved;
+    }
+
     /**
      * 주어진 id를 기반으로 파일 저장 경로 반환
+     * <p>
+     * UUID 앞 글자를 두 자씩 shard-depth 단계의 디렉토리로 나눈다. 예) depth 2: {@code 3f/a2/3fa2...}
      *
      * @param id 저장할 파일의 BinaryContent ID
      * @return 파일 저장 경로
      */
     public Path resolvePath(UUID id) {
+        String name = id.toString();
+        Path directory = root;
+        for (int level = 0; level < shardDepth; level++) {
+            directory = directory.resolve(name.substring(level * 2, level * 2 + 2));
+        }
+        return directory.resolve(name);
+    }
+
+    private Path resolveFlatPath(UUID id) {
         return root.resolve(id.toString());
     }
+
+    /**
+     * 샤드 경로, 평면 경로 순으로 실제 파일 위치를 찾는다. 두 확인 사이에 이동된 파일은 샤드 경로를 한 번 더 확인하여 찾는다.
+     */
+    private Path findExistingPath(UUID id) {
+        Path sharded = resolvePath(id);
+        if (Files.exists(sharded)) {
+            return sharded;
+        }
+        if (shardDepth == 0) {
+            return null;
+        }
+
+        Path flat = resolveFlatPath(id);
+        if (Files.exists(flat)) {
+            return flat;
+        }
+        return Files.exists(sharded) ? sharded : null;
+    }
+
+    private void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // 디렉토리 동기화를 지원하지 않는 플랫폼
+            log.debug("디렉토리 동기화 실패: {}", directory);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {}", path);
+        }
+    }
+
+    private UUID parseId(Path path) {
+        try {
+            return UUID.fromString(path.getFileName().toString());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
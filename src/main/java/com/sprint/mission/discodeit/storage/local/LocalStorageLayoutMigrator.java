@@ -0,0 +1,28 @@
+package com.sprint.mission.discodeit.storage.local;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션이 요청을 받기 시작한 뒤 root 경로의 평면 구조 파일을 샤드 경로로 옮긴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${discodeit.storage.type}' == 'local'"
+        + " && ${discodeit.storage.local.migrate-flat-layout:true}")
+@Component
+public class LocalStorageLayoutMigrator {
+
+    private final LocalBinaryContentStorage localBinaryContentStorage;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        log.info("로컬 스토리지 샤드 경로 이동 시작");
+        int moved = localBinaryContentStorage.migrateFlatLayout();
+        log.info("로컬 스토리지 샤드 경로 이동 완료: 이동 = {}", moved);
+    }
+}
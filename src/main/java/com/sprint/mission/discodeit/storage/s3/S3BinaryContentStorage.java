@@ -2,12 +2,15 @@ package com.sprint.mission.discodeit.storage.s3;
 
 import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentDto;
 import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.StoredObject;
 import jakarta.annotation.PostConstruct;
 import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -19,10 +22,14 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
@@ -41,6 +48,12 @@ public class S3BinaryContentStorage implements BinaryContentStorage {
     @Value("${discodeit.storage.s3.presigned-url-expiration:600}")
     private int presignedUrlExpiration;
 
+    @Value("${discodeit.storage.s3.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${discodeit.storage.s3.connection-acquisition-timeout:10s}")
+    private Duration connectionAcquisitionTimeout;
+
     private S3Client s3Client;
     private S3Presigner s3Presigner;
 
@@ -69,14 +82,17 @@ public class S3BinaryContentStorage implements BinaryContentStorage {
 
     /**
      * 지정된 id를 키로 하여 S3에 파일 업로드
+     * <p>
+     * 길이를 알고 있는 스트림을 그대로 전송하므로 파일 전체를 메모리에 올리지 않는다.
      *
-     * @param id    저장할 파일의 UUID
-     * @param bytes 저장할 파일의 바이너리 데이터
+     * @param id          저장할 파일의 UUID
+     * @param inputStream 저장할 파일의 데이터 스트림
+     * @param size        스트림의 바이트 길이
      * @return 저장된 파일의 UUID
      */
     @Override
-    public UUID put(UUID id, byte[] bytes) {
-        log.info("S3_파일 저장 요청: ID = {}", id);
+    public UUID put(UUID id, InputStream inputStream, long size) {
+        log.info("S3_파일 저장 요청: ID = {}, 크기 = {}", id, size);
 
         String key = id.toString();
 
@@ -85,7 +101,7 @@ public class S3BinaryContentStorage implements BinaryContentStorage {
                 .key(key)
                 .build();
 
-        s3Client.putObject(request, RequestBody.fromBytes(bytes));
+        s3Client.putObject(request, RequestBody.fromInputStream(inputStream, size));
         return id;
     }
 
@@ -134,8 +150,55 @@ public class S3BinaryContentStorage implements BinaryContentStorage {
                 .build();
     }
 
+    /**
+     * 버킷의 객체 목록을 ListObjectsV2 페이지 단위로 지연 조회
+     * <p>
+     * 다음 페이지는 스트림을 소비할 때 요청하므로 객체 수와 관계없이 한 페이지만 메모리에 둔다.
+     *
+     * @return 저장된 파일 정보 스트림
+     */
+    @Override
+    public Stream<StoredObject> list() {
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+                .bucket(bucket)
+                .build();
+
+        return s3Client.listObjectsV2Paginator(request)
+                .contents()
+                .stream()
+                .map(this::toStoredObject)
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * S3에서 지정된 ID의 객체 삭제
+     *
+     * @param id 삭제할 파일의 UUID
+     */
+    @Override
+    public void delete(UUID id) {
+        DeleteObjectRequest request = DeleteObjectRequest.builder()
+                .bucket(bucket)
+                .key(id.toString())
+                .build();
+
+        s3Client.deleteObject(request);
+    }
+
+    private StoredObject toStoredObject(S3Object object) {
+        try {
+            return new StoredObject(UUID.fromString(object.key()), object.size(),
+                    object.lastModified());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     /**
      * S3Client 인스턴스 생성
+     * <p>
+     * 요청 스레드 수가 아니라 HTTP 커넥션 풀이 동시 S3 호출 수를 제한한다. 가상 스레드 모드에서는 커넥션을 기다리는 호출이 많아질 수
+     * 있으므로 max-connections 와 대기 시간을 설정으로 조정한다.
      *
      * @return S3Client 인스턴스
      */
@@ -143,6 +206,9 @@ public class S3BinaryContentStorage implements BinaryContentStorage {
 
         return S3Client.builder()
                 .region(Region.of(region))
+                .httpClientBuilder(ApacheHttpClient.builder()
+                        .maxConnections(maxConnections)
+                        .connectionAcquisitionTimeout(connectionAcquisitionTimeout))
                 .build();
     }
 
@@ -0,0 +1,171 @@
+package com.sprint.mission.discodeit.unread;
+
+import com.sprint.mission.discodeit.config.UnreadCountProperties;
+import com.sprint.mission.discodeit.dto.Message.MessageDto;
+import com.sprint.mission.discodeit.event.MessageChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 유저-채널별 안 읽은 메시지 수(read_statuses.unread_count) 관리
+ * <p>
+ * 커밋된 메시지 생성 건을 메모리에 모아 두었다가 flush 주기마다 JDBC batch UPDATE 한 번으로 반영한다. 메시지 삭제, 반영 실패 후
+ * 재시도, 읽음 처리와 동시에 생성된 메시지 등으로 생기는 오차는 주기적으로 messages 테이블과 대조하여 보정한다. 단일 인스턴스 기준이다.
+ */
+@Slf4j
+@Component
+public class UnreadCounter {
+
+    private static final String INCREMENT_SQL = "UPDATE read_statuses"
+            + " SET unread_count = unread_count + 1"
+            + " WHERE channel_id = ? AND user_id <> ? AND last_read_at < ?";
+
+    private static final String COUNT_SUBQUERY = "(SELECT COUNT(*) FROM messages m"
+            + " WHERE m.channel_id = r.channel_id"
+            + " AND m.created_at > r.last_read_at"
+            + " AND (m.author_id IS NULL OR m.author_id <> r.user_id))";
+
+    private static final String PAGE_SQL = "SELECT id FROM read_statuses"
+            + " WHERE id > ? ORDER BY id FETCH FIRST ? ROWS ONLY";
+
+    // 값이 달라진 행만 갱신하여 불필요한 쓰기를 만들지 않는다.
+    private static final String RECONCILE_SQL = "UPDATE read_statuses r"
+            + " SET unread_count = " + COUNT_SUBQUERY
+            + " WHERE r.id > ? AND r.id <= ?"
+            + " AND r.unread_count <> " + COUNT_SUBQUERY;
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Queue<CreatedMessage> pending = new ConcurrentLinkedQueue<>();
+
+    private final Counter reconciledCounter;
+
+    public UnreadCounter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            UnreadCountProperties unreadCountProperties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = unreadCountProperties.getBatchSize();
+        this.reconciledCounter = Counter.builder("discodeit.unread.reconciled")
+                .description("보정 시 값이 달라져 다시 계산된 read_statuses 행 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 반영 대기 중인 메시지 생성 건
+     */
+    record CreatedMessage(UUID channelId, UUID authorId, Instant createdAt) {
+
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void on(MessageChangedEvent event) {
+        MessageDto message = event.message();
+        if (event.type() != MessageChangedEvent.Type.CREATED || message.author() == null) {
+            return;
+        }
+        record(event.channelId(), message.author().id(), message.createdAt());
+    }
+
+    /**
+     * 메시지 생성 건을 다음 flush 대상으로 추가
+     */
+    public void record(UUID channelId, UUID authorId, Instant createdAt) {
+        pending.add(new CreatedMessage(channelId, authorId, createdAt));
+    }
+
+    /**
+     * 모인 메시지 생성 건마다 작성자를 제외하고 그보다 먼저 읽은 유저의 안 읽은 메시지 수를 1 증가
+     * <p>
+     * 한 트랜잭션으로 실행하여 일부만 반영되지 않게 하고, 실패하면 다음 flush 에서 다시 시도한다.
+     *
+     * @return 반영을 시도한 메시지 수
+     */
+    @Scheduled(fixedDelayString = "${discodeit.unread.flush-interval:1s}")
+    public int flush() {
+        List<CreatedMessage> drained = new ArrayList<>();
+        CreatedMessage message;
+        while ((message = pending.poll()) != null) {
+            drained.add(message);
+        }
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INCREMENT_SQL, drained, batchSize, (ps, created) -> {
+                        ps.setObject(1, created.channelId());
+                        ps.setObject(2, created.authorId());
+                        ps.setTimestamp(3, Timestamp.from(created.createdAt()));
+                    }));
+        } catch (RuntimeException e) {
+            log.error("안 읽은 메시지 수 반영 실패: 대상 = {}", drained.size(), e);
+            pending.addAll(drained);
+        }
+        return drained.size();
+    }
+
+    /**
+     * 모든 read_statuses 의 안 읽은 메시지 수를 messages 기준으로 다시 계산
+     * <p>
+     * 먼저 대기 중인 증가분을 반영한 뒤 batchSize 행씩 id 순서로 나누어 처리하므로 한 번에 잡는 행 잠금 범위가 작다.
+     *
+     * @return 값이 달라져 보정된 행 수
+     */
+    @Scheduled(fixedDelayString = "${discodeit.unread.reconcile-interval:10m}",
+            initialDelayString = "${discodeit.unread.reconcile-interval:10m}")
+    public int reconcile() {
+        flush();
+
+        int corrected = 0;
+        UUID from = FIRST_ID;
+        while (true) {
+            List<UUID> ids = jdbcTemplate.queryForList(PAGE_SQL, UUID.class, from, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            UUID to = ids.get(ids.size() - 1);
+            corrected += jdbcTemplate.update(RECONCILE_SQL, from, to);
+            if (ids.size() < batchSize) {
+                break;
+            }
+            from = to;
+        }
+
+        if (corrected > 0) {
+            reconciledCounter.increment(corrected);
+            log.info("안 읽은 메시지 수 보정: 대상 = {}", corrected);
+        }
+        return corrected;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        int flushed = flush();
+        log.info("종료 전 안 읽은 메시지 수 반영: 대상 = {}", flushed);
+    }
+}
@@ -1,7 +1,6 @@
 package com.sprint.mission.discodeit.util;
 
 import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentCreateRequest;
-import java.io.IOException;
 import java.util.Optional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -14,16 +13,13 @@ public class BinaryContentUtil {
         if (file.isEmpty()) {
             return Optional.empty();
         } else {
-            try {
-                BinaryContentCreateRequest binaryContentCreateRequest = new BinaryContentCreateRequest(
-                        file.getOriginalFilename(),
-                        file.getContentType(),
-                        file.getBytes()
-                );
-                return Optional.of(binaryContentCreateRequest);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+            BinaryContentCreateRequest binaryContentCreateRequest = new BinaryContentCreateRequest(
+                    file.getOriginalFilename(),
+                    file.getContentType(),
+                    file.getSize(),
+                    file
+            );
+            return Optional.of(binaryContentCreateRequest);
         }
     }
 }
@@ -0,0 +1,9 @@
+-- channels.last_message_at 컬럼 추가 및 기존 채널 백필 (기존 운영 DB에 1회 실행)
+ALTER TABLE channels
+    ADD COLUMN IF NOT EXISTS last_message_at timestamp with time zone;
+
+UPDATE channels c
+SET last_message_at = (SELECT MAX(m.created_at)
+                       FROM messages m
+                       WHERE m.channel_id = c.id)
+WHERE c.last_message_at IS NULL;
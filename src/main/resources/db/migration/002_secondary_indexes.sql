@@ -0,0 +1,9 @@
+-- 보조 인덱스 추가 (기존 운영 DB에 1회 실행, 트랜잭션 밖에서 실행해야 함)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_messages_channel_id_created_at_id
+    ON messages (channel_id, created_at DESC, id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_messages_author_id
+    ON messages (author_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_read_statuses_channel_id
+    ON read_statuses (channel_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_message_attachments_attachment_id
+    ON message_attachments (attachment_id);
@@ -0,0 +1,7 @@
+-- binary_contents.status 컬럼 추가 (기존 운영 DB에 1회 실행)
+-- 기존 파일은 이미 저장이 끝난 상태이므로 READY로 채운다.
+ALTER TABLE binary_contents
+    ADD COLUMN IF NOT EXISTS status VARCHAR(20) NOT NULL DEFAULT 'READY';
+
+ALTER TABLE binary_contents
+    ALTER COLUMN status DROP DEFAULT;
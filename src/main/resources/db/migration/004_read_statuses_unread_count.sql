@@ -0,0 +1,11 @@
+-- read_statuses.unread_count 컬럼 추가 (기존 운영 DB에 1회 실행)
+-- 이후 값은 UnreadCounter 가 메시지 생성 시 증가시키고 주기적으로 messages 와 대조하여 보정한다.
+ALTER TABLE read_statuses
+    ADD COLUMN IF NOT EXISTS unread_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE read_statuses r
+SET unread_count = (SELECT COUNT(*)
+                    FROM messages m
+                    WHERE m.channel_id = r.channel_id
+                      AND m.created_at > r.last_read_at
+                      AND (m.author_id IS NULL OR m.author_id <> r.user_id));
@@ -0,0 +1,9 @@
+-- channels.deleted_at 컬럼 추가 (기존 운영 DB에 1회 실행)
+-- 채널 삭제 요청은 이 값만 기록하고, 메시지와 채널 행은 ChannelPurger 가 백그라운드에서 나눠 삭제한다.
+ALTER TABLE channels
+    ADD COLUMN IF NOT EXISTS deleted_at timestamp with time zone;
+
+-- 재시작 시 삭제 대기 채널을 찾는 조회용
+CREATE INDEX IF NOT EXISTS idx_channels_deleted_at
+    ON channels (deleted_at)
+    WHERE deleted_at IS NOT NULL;
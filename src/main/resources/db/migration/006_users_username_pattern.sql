@@ -0,0 +1,4 @@
+-- 유저 목록 접두어 필터용 인덱스 추가 (기존 운영 DB에 1회 실행, 트랜잭션 밖에서 실행해야 함)
+-- 기본 collation 이 C 가 아니면 UNIQUE (username) 인덱스로는 LIKE 'prefix%' 를 범위 조회하지 못한다.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_username_pattern
+    ON users (username text_pattern_ops);
@@ -0,0 +1,9 @@
+-- 유저 검색용 인덱스 추가 (기존 운영 DB에 1회 실행, 인덱스 생성은 트랜잭션 밖에서 실행해야 함)
+-- pg_trgm 확장은 DB 소유자 또는 superuser 권한이 필요하다.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+-- 접두어 일치: C collation 이면 LIKE 'prefix%' 범위 조회와 정렬을 같은 인덱스로 처리
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_username_lower
+    ON users ((lower(username) COLLATE "C"));
+-- 비슷한 유저명: GiST 는 거리(<->) 순 KNN 조회를 지원하므로 일치 건수와 관계없이 상위 N건만 읽는다
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_username_trgm
+    ON users USING gist (lower(username) gist_trgm_ops);
@@ -0,0 +1,15 @@
+-- read_statuses (user_id, channel_id) 유니크 제약 이름 지정 (기존 운영 DB에 1회 실행)
+-- ReadStatus 생성 시 이 제약 위반만 중복으로 판단하고, FK 위반 등 다른 제약 위반은 그대로 전달한다.
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1
+                   FROM pg_constraint
+                   WHERE conrelid = 'read_statuses'::regclass
+                     AND conname = 'read_statuses_user_id_channel_id_key') THEN
+            ALTER TABLE read_statuses
+                RENAME CONSTRAINT read_statuses_user_id_channel_id_key
+                    TO uk_read_statuses_user_id_channel_id;
+        END IF;
+    END
+$$;
@@ -0,0 +1,21 @@
+-- users 유저명/이메일 유니크 제약 이름 지정 (기존 운영 DB에 1회 실행)
+-- 유저 저장 시 이 두 제약 위반만 중복으로 판단하고, FK 위반 등 다른 제약 위반은 그대로 전달한다.
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1
+                   FROM pg_constraint
+                   WHERE conrelid = 'users'::regclass
+                     AND conname = 'users_username_key') THEN
+            ALTER TABLE users
+                RENAME CONSTRAINT users_username_key TO uk_users_username;
+        END IF;
+        IF EXISTS (SELECT 1
+                   FROM pg_constraint
+                   WHERE conrelid = 'users'::regclass
+                     AND conname = 'users_email_key') THEN
+            ALTER TABLE users
+                RENAME CONSTRAINT users_email_key TO uk_users_email;
+        END IF;
+    END
+$$;
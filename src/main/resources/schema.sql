@@ -15,7 +15,8 @@ CREATE TABLE IF NOT EXISTS binary_contents
     created_at   timestamp with time zone NOT NULL,
     file_name    VARCHAR(255)             NOT NULL,
     size         BIGINT                   NOT NULL,
-    content_type VARCHAR(100)             NOT NULL
+    content_type VARCHAR(100)             NOT NULL,
+    status       VARCHAR(20)              NOT NULL
 );
 
 -- users
@@ -24,11 +25,14 @@ CREATE TABLE IF NOT EXISTS users
     id         UUID PRIMARY KEY,
     created_at timestamp with time zone NOT NULL,
     updated_at timestamp with time zone,
-    username   VARCHAR(50) UNIQUE       NOT NULL,
-    email      VARCHAR(100) UNIQUE      NOT NULL,
+    username   VARCHAR(50)              NOT NULL,
+    email      VARCHAR(100)             NOT NULL,
     password   VARCHAR(60)              NOT NULL,
     profile_id UUID,
 
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email),
+
     CONSTRAINT fk_profile_id_users FOREIGN KEY (profile_id)
         REFERENCES binary_contents (id)
         ON DELETE SET NULL
@@ -51,12 +55,14 @@ CREATE TABLE IF NOT EXISTS user_statuses
 -- channels
 CREATE TABLE IF NOT EXISTS channels
 (
-    id          UUID PRIMARY KEY,
-    created_at  timestamp with time zone NOT NULL,
-    updated_at  timestamp with time zone,
-    name        VARCHAR(100),
-    description VARCHAR(500),
-    type        VARCHAR(10)              NOT NULL
+    id              UUID PRIMARY KEY,
+    created_at      timestamp with time zone NOT NULL,
+    updated_at      timestamp with time zone,
+    name            VARCHAR(100),
+    description     VARCHAR(500),
+    type            VARCHAR(10)              NOT NULL,
+    last_message_at timestamp with time zone,
+    deleted_at      timestamp with time zone
 );
 
 -- read_statuses
@@ -68,8 +74,9 @@ CREATE TABLE IF NOT EXISTS read_statuses
     user_id      UUID,
     channel_id   UUID,
     last_read_at timestamp with time zone NOT NULL,
+    unread_count INTEGER                  NOT NULL DEFAULT 0,
 
-    UNIQUE (user_id, channel_id),
+    CONSTRAINT uk_read_statuses_user_id_channel_id UNIQUE (user_id, channel_id),
 
     CONSTRAINT fk_user_id_read_statuses FOREIGN KEY (user_id)
         REFERENCES users (id)
@@ -113,4 +120,28 @@ CREATE TABLE IF NOT EXISTS message_attachments
         ON DELETE CASCADE
 );
 
-
+-- 인덱스
+-- 채널별 메시지 커서 페이징 (channel_id, created_at, id) 키셋 조회
+CREATE INDEX IF NOT EXISTS idx_messages_channel_id_created_at_id
+    ON messages (channel_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_messages_author_id
+    ON messages (author_id);
+-- read_statuses(user_id) 조회는 UNIQUE (user_id, channel_id) 인덱스가 처리
+CREATE INDEX IF NOT EXISTS idx_read_statuses_channel_id
+    ON read_statuses (channel_id);
+CREATE INDEX IF NOT EXISTS idx_message_attachments_attachment_id
+    ON message_attachments (attachment_id);
+-- 재시작 시 삭제 대기 채널 조회 (ChannelPurger sweep)
+CREATE INDEX IF NOT EXISTS idx_channels_deleted_at
+    ON channels (deleted_at)
+    WHERE deleted_at IS NOT NULL;
+-- 유저 목록 유저명 접두어 필터 (LIKE 'prefix%'), 정렬과 키셋 커서는 UNIQUE (username) 인덱스가 처리
+CREATE INDEX IF NOT EXISTS idx_users_username_pattern
+    ON users (username text_pattern_ops);
+-- 멘션/자동완성 유저 검색 (PostgresUserSearchIndex)
+-- 접두어 일치는 C collation 범위 조회로 정렬 없이 상위 N건만 읽고, 비슷한 유저명은 트라이그램 GiST KNN(<->)으로 조회
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_users_username_lower
+    ON users ((lower(username) COLLATE "C"));
+CREATE INDEX IF NOT EXISTS idx_users_username_trgm
+    ON users USING gist (lower(username) gist_trgm_ops);
@@ -0,0 +1,76 @@
+package com.sprint.mission.discodeit.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprint.mission.discodeit.annotation.Logging;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+@DisplayName("LoggingAspect 단위 테스트")
+public class LoggingAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SampleService sampleService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SampleService());
+        proxyFactory.addAspect(new LoggingAspect(meterRegistry, Duration.ofSeconds(1)));
+        sampleService = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("@Logging 클래스의 메서드 호출은 클래스와 메서드 태그가 붙은 Timer에 기록된다.")
+    void shouldRecordTimer_whenLoggingServiceMethodCalled() {
+
+        // when
+        sampleService.find();
+        sampleService.find();
+
+        // then
+        Timer timer = meterRegistry.find(LoggingAspect.METRIC_NAME)
+                .tag("class", "SampleService")
+                .tag("method", "find")
+                .tag("exception", "none")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("예외가 발생한 호출은 예외 이름 태그로 구분하여 기록한다.")
+    void shouldTagException_whenMethodThrows() {
+
+        // when
+        assertThatThrownBy(() -> sampleService.fail())
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        Timer timer = meterRegistry.find(LoggingAspect.METRIC_NAME)
+                .tag("method", "fail")
+                .tag("exception", "IllegalStateException")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Logging
+    static class SampleService {
+
+        public String find() {
+            return "ok";
+        }
+
+        public void fail() {
+            throw new IllegalStateException("실패");
+        }
+    }
+}
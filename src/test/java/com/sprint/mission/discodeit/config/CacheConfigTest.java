@@ -0,0 +1,129 @@
+package com.sprint.mission.discodeit.config;
+
+import static com.sprint.mission.discodeit.fixture.BinaryContentFixture.createBinaryContent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.User.UserDto;
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.mapper.BinaryContentMapper;
+import com.sprint.mission.discodeit.mapper.ChannelMapper;
+import com.sprint.mission.discodeit.mapper.UserMapper;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.service.BinaryContentService;
+import com.sprint.mission.discodeit.service.basic.BasicBinaryContentService;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@SpringJUnitConfig(CacheConfigTest.TestConfig.class)
+@DisplayName("조회 캐시 테스트")
+public class CacheConfigTest {
+
+    @Import({CacheConfig.class, BasicBinaryContentService.class})
+    @EnableConfigurationProperties(CacheSpecProperties.class)
+    static class TestConfig {
+
+    }
+
+    @Autowired
+    private BinaryContentService binaryContentService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private BinaryContentRepository binaryContentRepository;
+
+    @MockitoBean
+    private BinaryContentMapper binaryContentMapper;
+
+    @MockitoBean
+    private UserMapper userMapper;
+
+    @MockitoBean
+    private ChannelMapper channelMapper;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.BINARY_CONTENTS).clear();
+        cacheManager.getCache(CacheConfig.USERS).clear();
+    }
+
+    @Test
+    @DisplayName("READY 상태의 BinaryContent는 한 번만 조회하고, 삭제하면 캐시에서 제거된다.")
+    void shouldCacheReadyContentAndEvictOnDelete() {
+
+        // given
+        BinaryContent binaryContent = createBinaryContent("test.png", 10L, "image/png");
+        BinaryContentDto dto = new BinaryContentDto(binaryContent.getId(), "test.png", 10L,
+                "image/png", BinaryContentStatus.READY);
+        given(binaryContentRepository.findById(binaryContent.getId()))
+                .willReturn(Optional.of(binaryContent));
+        given(binaryContentRepository.existsById(binaryContent.getId())).willReturn(true);
+        given(binaryContentMapper.toDto(any(BinaryContent.class))).willReturn(dto);
+
+        // when
+        binaryContentService.find(binaryContent.getId());
+        binaryContentService.find(binaryContent.getId());
+        binaryContentService.delete(binaryContent.getId());
+        binaryContentService.find(binaryContent.getId());
+
+        // then
+        then(binaryContentRepository).should(times(2)).findById(binaryContent.getId());
+    }
+
+    @Test
+    @DisplayName("업로드가 끝나지 않은 BinaryContent는 캐시하지 않는다.")
+    void shouldNotCachePendingContent() {
+
+        // given
+        BinaryContent binaryContent = createBinaryContent("test.png", 10L, "image/png");
+        given(binaryContentRepository.findById(binaryContent.getId()))
+                .willReturn(Optional.of(binaryContent));
+        given(binaryContentMapper.toDto(any(BinaryContent.class))).willReturn(
+                new BinaryContentDto(binaryContent.getId(), "test.png", 10L, "image/png",
+                        BinaryContentStatus.PENDING));
+
+        // when
+        binaryContentService.find(binaryContent.getId());
+        binaryContentService.find(binaryContent.getId());
+
+        // then
+        then(binaryContentRepository).should(times(2)).findById(binaryContent.getId());
+        assertThat(cacheManager.getCache(CacheConfig.BINARY_CONTENTS)
+                .get(binaryContent.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시된 UserDto의 online은 꺼낼 때마다 현재 접속 상태로 다시 계산한다.")
+    void shouldRefreshOnline_whenReadingCachedUser() {
+
+        // given
+        UUID userId = UUID.randomUUID();
+        UserDto cached = new UserDto(userId, "test", "test@test.com", null, true);
+        UserDto offline = new UserDto(userId, "test", "test@test.com", null, false);
+        given(userMapper.withPresence(cached)).willReturn(offline);
+        cacheManager.getCache(CacheConfig.USERS).put(userId, cached);
+
+        // when
+        UserDto result = cacheManager.getCache(CacheConfig.USERS).get(userId, UserDto.class);
+
+        // then
+        assertThat(result).isEqualTo(offline);
+        then(userMapper).should().withPresence(cached);
+    }
+}
@@ -0,0 +1,22 @@
+package com.sprint.mission.discodeit.config;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * PostgreSQL 전용 SQL 검증용 컨테이너 (docker-compose 와 같은 버전)
+ * <p>
+ * 사용하는 테스트는 schema.sql 로 스키마를 만들고, Docker 가 없으면 @Testcontainers(disabledWithoutDocker = true) 로 건너뛴다.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class PostgresContainerConfig {
+
+    @Bean
+    @ServiceConnection
+    PostgreSQLContainer<?> postgresContainer() {
+        return new PostgreSQLContainer<>(DockerImageName.parse("postgres:17"));
+    }
+}
@@ -0,0 +1,51 @@
+package com.sprint.mission.discodeit.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+@DisplayName("QueryCountFilter 단위 테스트")
+public class QueryCountFilterTest {
+
+    @Test
+    @DisplayName("요청 중 실행된 SQL 수를 경로 패턴별 분포로 기록한다.")
+    void shouldRecordQueriesPerRequest_whenRequestCompleted() throws Exception {
+
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        QueryCountFilter filter = new QueryCountFilter(
+                beanFactory.getBeanProvider(MeterRegistry.class));
+        QueryCountInspector inspector = new QueryCountInspector();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET",
+                "/api/channels/1234");
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                    "/api/channels/{channelId}");
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+            inspector.inspect("select 3");
+        });
+
+        // then
+        DistributionSummary summary = meterRegistry.find(QueryCountFilter.METRIC_NAME)
+                .tag("uri", "/api/channels/{channelId}")
+                .summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(3);
+        assertThat(QueryCountInspector.stop()).isZero();
+    }
+}
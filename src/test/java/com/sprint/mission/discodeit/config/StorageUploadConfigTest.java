@@ -0,0 +1,55 @@
+package com.sprint.mission.discodeit.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprint.mission.discodeit.config.StorageUploadConfig.BoundedTaskExecutor;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+@DisplayName("StorageUploadConfig 단위 테스트")
+public class StorageUploadConfigTest {
+
+    @Test
+    @DisplayName("동시 실행 한도에 걸리면 기다리지 않고 거절하고, 작업이 끝나면 다시 받는다.")
+    void shouldRejectWithoutBlocking_whenLimitReached() throws Exception {
+
+        // given
+        BoundedTaskExecutor executor = new BoundedTaskExecutor(
+                new SimpleAsyncTaskExecutor("test-upload-"), 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finished.countDown();
+        });
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(() -> {
+        })).isInstanceOf(TaskRejectedException.class);
+
+        release.countDown();
+        assertThat(finished.await(1, TimeUnit.SECONDS)).isTrue();
+
+        CountDownLatch next = new CountDownLatch(1);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (next.getCount() > 0 && System.nanoTime() < deadline) {
+            try {
+                executor.execute(next::countDown);
+                assertThat(next.await(1, TimeUnit.SECONDS)).isTrue();
+            } catch (TaskRejectedException e) {
+                Thread.onSpinWait();
+            }
+        }
+        assertThat(next.getCount()).isZero();
+        executor.close();
+    }
+}
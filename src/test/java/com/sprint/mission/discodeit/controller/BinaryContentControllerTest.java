@@ -0,0 +1,77 @@
+package com.sprint.mission.discodeit.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentDto;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.service.BinaryContentService;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import com.sprint.mission.discodeit.storage.local.FsyncPolicy;
+import com.sprint.mission.discodeit.storage.local.LocalBinaryContentStorage;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(BinaryContentController.class)
+@ActiveProfiles("test")
+@DisplayName("BinaryContentController 슬라이스 테스트")
+public class BinaryContentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BinaryContentService binaryContentService;
+
+    @MockitoBean
+    private BinaryContentStorage binaryContentStorage;
+
+    @TempDir
+    Path root;
+
+    @Test
+    @DisplayName("ETag가 일치하는 조건부 요청에는 304를, Range 요청에는 206을 응답한다.")
+    void shouldHandleConditionalAndRangeRequests_whenDownloading() throws Exception {
+
+        // given
+        LocalBinaryContentStorage localStorage = new LocalBinaryContentStorage(root.toString(), 2,
+                FsyncPolicy.FILE);
+        localStorage.init();
+
+        UUID id = UUID.randomUUID();
+        byte[] bytes = "0123456789".getBytes(StandardCharsets.UTF_8);
+        localStorage.put(id, new ByteArrayInputStream(bytes), bytes.length);
+        BinaryContentDto metaData = new BinaryContentDto(id, "test.txt", (long) bytes.length,
+                "text/plain", BinaryContentStatus.READY);
+        String eTag = "\"" + id + "-" + bytes.length + "\"";
+
+        given(binaryContentService.find(id)).willReturn(metaData);
+        given(binaryContentStorage.download(metaData))
+                .willAnswer(invocation -> localStorage.download(metaData));
+
+        // when & then
+        mockMvc.perform(get("/api/binaryContents/{id}/download", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/api/binaryContents/{id}/download", id)
+                        .header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().bytes("2345".getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -1,15 +1,16 @@
 package com.sprint.mission.discodeit.controller;
 
 import static org.mockito.BDDMockito.given;
-import static org.mockito.BDDMockito.willDoNothing;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.dto.Channel.ChannelDeletionDto;
 import com.sprint.mission.discodeit.dto.Channel.ChannelDto;
 import com.sprint.mission.discodeit.dto.Channel.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.Channel.PublicChannelCreateRequest;
@@ -17,6 +18,7 @@ import com.sprint.mission.discodeit.dto.Channel.PublicChannelUpdateRequest;
 import com.sprint.mission.discodeit.dto.User.UserDto;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.service.ChannelService;
+import com.sprint.mission.discodeit.sse.ChannelEventHub;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -25,6 +27,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -44,6 +47,9 @@ public class ChannelControllerTest {
     @MockitoBean
     private ChannelService channelService;
 
+    @MockitoBean
+    private ChannelEventHub channelEventHub;
+
     @Test
     @DisplayName("공개 채널 생성 API가 정상적으로 동작한다.")
     void shouldCreatePublicChannel_whenValidRequest() throws Exception {
@@ -186,17 +192,22 @@ public class ChannelControllerTest {
     }
 
     @Test
-    @DisplayName("채널 삭제 API가 정상적으로 동작한다.")
+    @DisplayName("채널 삭제 API는 삭제를 접수하고 진행 상황 조회 경로를 반환한다.")
     void shouldDeleteChannel_whenValidChannelId() throws Exception {
 
         // given
         UUID channelId = UUID.randomUUID();
+        ChannelDeletionDto deletion = new ChannelDeletionDto(channelId,
+                ChannelDeletionDto.Status.PENDING, 0, 0, Instant.now(), null);
 
-        willDoNothing().given(channelService).delete(channelId);
+        given(channelService.delete(channelId)).willReturn(deletion);
 
         // when & then
         mockMvc.perform(delete("/api/channels/{channelId}", channelId))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION,
+                        "/api/channels/" + channelId + "/deletion"))
+                .andExpect(jsonPath("$.status").value("PENDING"));
     }
 
     @Test
@@ -0,0 +1,69 @@
+package com.sprint.mission.discodeit.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.sprint.mission.discodeit.dto.ReadStatus.UnreadCountDto;
+import com.sprint.mission.discodeit.service.ReadStatusService;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(ReadStatusController.class)
+@ActiveProfiles("test")
+@DisplayName("ReadStatusController 슬라이스 테스트")
+public class ReadStatusControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReadStatusService readStatusService;
+
+    @Test
+    @DisplayName("유저의 채널별 안 읽은 메시지 수 조회 API가 정상적으로 동작한다.")
+    void shouldReturnUnreadCounts_whenValidUserId() throws Exception {
+
+        // given
+        UUID userId = UUID.randomUUID();
+        UUID channelId1 = UUID.randomUUID();
+        UUID channelId2 = UUID.randomUUID();
+
+        given(readStatusService.findUnreadCounts(userId)).willReturn(List.of(
+                new UnreadCountDto(channelId1, 3),
+                new UnreadCountDto(channelId2, 0)));
+
+        // when & then
+        mockMvc.perform(get("/api/readStatuses/unread-counts")
+                        .param("userId", userId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].channelId").value(channelId1.toString()))
+                .andExpect(jsonPath("$[0].unreadCount").value(3))
+                .andExpect(jsonPath("$[1].unreadCount").value(0));
+    }
+
+    @Test
+    @DisplayName("참여한 채널이 없으면 빈 목록을 반환한다.")
+    void shouldReturnEmptyList_whenNoReadStatus() throws Exception {
+
+        // given
+        UUID userId = UUID.randomUUID();
+
+        given(readStatusService.findUnreadCounts(userId)).willReturn(List.of());
+
+        // when & then
+        mockMvc.perform(get("/api/readStatuses/unread-counts")
+                        .param("userId", userId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+}
@@ -9,16 +9,19 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.User.UserBulkCreateRequest;
 import com.sprint.mission.discodeit.dto.User.UserCreateRequest;
 import com.sprint.mission.discodeit.dto.User.UserDto;
 import com.sprint.mission.discodeit.dto.User.UserUpdateRequest;
 import com.sprint.mission.discodeit.dto.UserStatus.UserStatusDto;
 import com.sprint.mission.discodeit.dto.UserStatus.UserStatusUpdateRequest;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.service.UserService;
 import com.sprint.mission.discodeit.service.UserStatusService;
 import java.time.Instant;
@@ -28,6 +31,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
@@ -104,6 +108,47 @@ public class UserControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("유저 대량 등록 API가 정상적으로 동작한다.")
+    void shouldCreateUsers_whenValidBulkRequest() throws Exception {
+
+        // given
+        UserBulkCreateRequest bulkRequest = new UserBulkCreateRequest(List.of(
+                new UserCreateRequest("유저1", "user1@codeit.com", "pass1234"),
+                new UserCreateRequest("유저2", "user2@codeit.com", "pass1234")
+        ));
+        List<UserDto> created = List.of(
+                new UserDto(UUID.randomUUID(), "유저1", "user1@codeit.com", null, true),
+                new UserDto(UUID.randomUUID(), "유저2", "user2@codeit.com", null, true)
+        );
+
+        given(userService.createAll(any(UserBulkCreateRequest.class))).willReturn(created);
+
+        // when & then
+        mockMvc.perform(post("/api/users/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].username").value("유저2"));
+    }
+
+    @Test
+    @DisplayName("대량 등록 목록 중 유효하지 않은 항목이 있으면 400 에러가 발생한다.")
+    void shouldReturnBadRequest_whenBulkRequestContainsInvalidUser() throws Exception {
+
+        // given
+        UserBulkCreateRequest bulkRequest = new UserBulkCreateRequest(List.of(
+                new UserCreateRequest("유저1", "not-an-email", "pass1234")
+        ));
+
+        // when & then
+        mockMvc.perform(post("/api/users/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bulkRequest)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("유저 수정 API가 정상적으로 동작한다.")
     void shouldUpdateUser_whenValidRequest() throws Exception {
@@ -180,7 +225,8 @@ public class UserControllerTest {
                 new UserDto(UUID.randomUUID(), "테스트 유저2", "test2@codeit.com", null, true)
         );
 
-        given(userService.findAll()).willReturn(users);
+        given(userService.findAll(null, null, PageRequest.of(0, 1000)))
+                .willReturn(new PageResponse<>(users, null, 1000, false, null));
 
         // when & then
         mockMvc.perform(get("/api/users"))
@@ -191,6 +237,68 @@ public class UserControllerTest {
                 .andExpect(jsonPath("$[1].email").value("test2@codeit.com"));
     }
 
+    @Test
+    @DisplayName("유저 전체조회 API는 여러 페이지를 이어서 하나의 배열로 응답한다.")
+    void shouldStreamAllPages_whenRequested() throws Exception {
+
+        // given
+        UserDto user1 = new UserDto(UUID.randomUUID(), "유저1", "user1@codeit.com", null, true);
+        UserDto user2 = new UserDto(UUID.randomUUID(), "유저2", "user2@codeit.com", null, false);
+
+        given(userService.findAll(null, null, PageRequest.of(0, 1000)))
+                .willReturn(new PageResponse<>(List.of(user1), "next", 1000, true, null));
+        given(userService.findAll("next", null, PageRequest.of(0, 1000)))
+                .willReturn(new PageResponse<>(List.of(user2), null, 1000, false, null));
+
+        // when & then
+        mockMvc.perform(get("/api/users"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].username").value("유저1"))
+                .andExpect(jsonPath("$[1].username").value("유저2"));
+    }
+
+    @Test
+    @DisplayName("유저 목록 페이지 조회 API가 정상적으로 동작한다.")
+    void shouldReturnUserPage_whenValidRequest() throws Exception {
+
+        // given
+        UserDto user = new UserDto(UUID.randomUUID(), "테스트 유저1", "test1@codeit.com", null, true);
+
+        given(userService.findAll(nullable(String.class), any(String.class), any()))
+                .willReturn(new PageResponse<>(List.of(user), "cursor", 1, true, null));
+
+        // when & then
+        mockMvc.perform(get("/api/users/page")
+                        .param("prefix", "테스트")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].username").value("테스트 유저1"))
+                .andExpect(jsonPath("$.nextCursor").value("cursor"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("유저 검색 API가 정상적으로 동작한다.")
+    void shouldReturnMatchingUsers_whenSearching() throws Exception {
+
+        // given
+        UserDto user1 = new UserDto(UUID.randomUUID(), "tester", "tester@codeit.com", null, true);
+        UserDto user2 = new UserDto(UUID.randomUUID(), "Testing", "testing@codeit.com", null,
+                false);
+
+        given(userService.search("tes", 5)).willReturn(List.of(user1, user2));
+
+        // when & then
+        mockMvc.perform(get("/api/users/search")
+                        .param("q", "tes")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].username").value("tester"))
+                .andExpect(jsonPath("$[1].username").value("Testing"));
+    }
+
     @Test
     @DisplayName("유저 온라인 상태 업데이트 API가 정상적으로 동작한다.")
     void shouldUpdateUserStatus_whenValidRequest() throws Exception {
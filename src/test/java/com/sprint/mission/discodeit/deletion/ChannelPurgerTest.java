@@ -0,0 +1,188 @@
+package com.sprint.mission.discodeit.deletion;
+
+import static com.sprint.mission.discodeit.fixture.MessageFixture.createMessage;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.config.CacheConfig;
+import com.sprint.mission.discodeit.config.ChannelDeletionProperties;
+import com.sprint.mission.discodeit.dto.Channel.ChannelDeletionDto;
+import com.sprint.mission.discodeit.dto.Channel.ChannelDeletionDto.Status;
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.repository.ReadStatusRepository;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("ChannelPurger 슬라이스 테스트")
+public class ChannelPurgerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private ReadStatusRepository readStatusRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private BinaryContentRepository binaryContentRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private final Instant now = Instant.parse("2025-01-01T01:00:00Z");
+
+    private CaffeineCacheManager cacheManager;
+    private ChannelPurger channelPurger;
+    private User user;
+    private Channel channel;
+    private BinaryContent attachment;
+
+    @BeforeEach
+    void setUp() {
+        ChannelDeletionProperties properties = new ChannelDeletionProperties();
+        properties.setChunkSize(2);
+        properties.setChunkPause(Duration.ZERO);
+        cacheManager = new CaffeineCacheManager(CacheConfig.BINARY_CONTENTS);
+        channelPurger = new ChannelPurger(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate),
+                transactionManager, new SyncTaskExecutor(), cacheManager, properties,
+                new SimpleMeterRegistry());
+
+        user = new User("tester", "tester@codeit.com", "test1234", null, null);
+        channel = new Channel(ChannelType.PUBLIC, "삭제할 채널", "삭제할 채널입니다.");
+        attachment = new BinaryContent("file.txt", 10L, "text/plain");
+        ReflectionTestUtils.setField(user, "createdAt", now);
+        ReflectionTestUtils.setField(channel, "createdAt", now);
+        ReflectionTestUtils.setField(attachment, "createdAt", now);
+        userRepository.save(user);
+        channelRepository.save(channel);
+        binaryContentRepository.save(attachment);
+
+        List<Message> messages = new ArrayList<>();
+        messages.add(new Message("첨부 메시지", channel, user, new ArrayList<>(List.of(attachment))));
+        ReflectionTestUtils.setField(messages.get(0), "createdAt", now);
+        for (int i = 1; i <= 4; i++) {
+            messages.add(createMessage("메시지" + i, channel, user, now.plusSeconds(i)));
+        }
+        messageRepository.saveAll(messages);
+
+        ReadStatus readStatus = new ReadStatus(user, channel, now);
+        ReflectionTestUtils.setField(readStatus, "createdAt", now);
+        readStatusRepository.save(readStatus);
+
+        em.flush();
+        em.clear();
+    }
+
+    private void markDeleted() {
+        jdbcTemplate.update("UPDATE channels SET deleted_at = ? WHERE id = ?",
+                Timestamp.from(now), channel.getId());
+    }
+
+    private long count(String table, String column) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?", Long.class,
+                channel.getId());
+    }
+
+    @Test
+    @DisplayName("메시지를 청크 단위로 모두 삭제한 뒤 첨부파일 행과 채널 행까지 삭제한다.")
+    void shouldDeleteMessagesInChunksAndChannel_whenPurging() {
+
+        // given
+        markDeleted();
+        Cache binaryContentCache = cacheManager.getCache(CacheConfig.BINARY_CONTENTS);
+        binaryContentCache.put(attachment.getId(), "cached");
+
+        // when
+        ChannelDeletionDto result = channelPurger.purge(channel.getId());
+
+        // then
+        assertThat(result.status()).isEqualTo(Status.COMPLETED);
+        assertThat(result.totalMessages()).isEqualTo(5);
+        assertThat(result.deletedMessages()).isEqualTo(5);
+        assertThat(result.requestedAt()).isEqualTo(now);
+        assertThat(count("messages", "channel_id")).isZero();
+        assertThat(count("read_statuses", "channel_id")).isZero();
+        assertThat(count("channels", "id")).isZero();
+        assertThat(binaryContentRepository.existsById(attachment.getId())).isFalse();
+        assertThat(binaryContentCache.get(attachment.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("삭제 대상으로 표시되지 않은 채널은 삭제하지 않는다.")
+    void shouldNotDelete_whenChannelIsNotMarked() {
+
+        // when
+        ChannelDeletionDto result = channelPurger.purge(channel.getId());
+
+        // then
+        assertThat(result).isNull();
+        assertThat(count("messages", "channel_id")).isEqualTo(5);
+        assertThat(channelPurger.findProgress(channel.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("sweep 은 삭제 대상 채널을 다시 제출하고 완료된 진행 상황을 조회할 수 있다.")
+    void shouldResumeMarkedChannels_whenSweeping() {
+
+        // given
+        markDeleted();
+        assertThat(channelPurger.findProgress(channel.getId()))
+                .get()
+                .extracting(ChannelDeletionDto::status)
+                .isEqualTo(Status.PENDING);
+
+        // when
+        channelPurger.sweep();
+
+        // then
+        assertThat(channelPurger.findProgress(channel.getId()))
+                .get()
+                .satisfies(progress -> {
+                    assertThat(progress.status()).isEqualTo(Status.COMPLETED);
+                    assertThat(progress.deletedMessages()).isEqualTo(5);
+                });
+        assertThat(channelRepository.existsById(channel.getId())).isFalse();
+        assertThat(channelPurger.findProgress(UUID.randomUUID())).isEmpty();
+    }
+}
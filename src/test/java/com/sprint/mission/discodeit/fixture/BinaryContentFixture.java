@@ -16,6 +16,6 @@ public class BinaryContentFixture {
 
     public static BinaryContentDto createBinaryContentDto(BinaryContent attachment) {
         return new BinaryContentDto(attachment.getId(), attachment.getFileName(),
-                attachment.getSize(), attachment.getContentType());
+                attachment.getSize(), attachment.getContentType(), attachment.getStatus());
     }
 }
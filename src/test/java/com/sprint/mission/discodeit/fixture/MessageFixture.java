@@ -8,6 +8,7 @@ import com.sprint.mission.discodeit.dto.User.UserDto;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.Message;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.repository.projection.MessageRow;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -40,6 +41,17 @@ public class MessageFixture {
         );
     }
 
+    public static MessageRow createMessageRow(Message message, Channel ch, User user,
+            Instant time) {
+        if (user == null) {
+            return new MessageRow(message.getId(), time, time, message.getContent(), ch.getId(),
+                    null, null, null, null, null, null, null, null, null);
+        }
+        return new MessageRow(message.getId(), time, time, message.getContent(), ch.getId(),
+                user.getId(), user.getUsername(), user.getEmail(), time,
+                null, null, null, null, null);
+    }
+
     public static MessageDto createMessageDtoWithAttachments(Message message, Channel ch, User user,
             List<BinaryContentDto> attachments) {
         UserDto userDto = createUserDto(user);
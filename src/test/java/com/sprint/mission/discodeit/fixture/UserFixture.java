@@ -22,7 +22,7 @@ public class UserFixture {
 
     public static UserDto createUserDto(User user, BinaryContent profile) {
         BinaryContentDto profileDto = new BinaryContentDto(profile.getId(), profile.getFileName(),
-                profile.getSize(), profile.getContentType());
+                profile.getSize(), profile.getContentType(), profile.getStatus());
         return new UserDto(user.getId(), user.getUsername(), user.getEmail(), profileDto, true);
     }
 }
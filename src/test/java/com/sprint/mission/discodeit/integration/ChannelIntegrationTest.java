@@ -135,7 +135,7 @@ public class ChannelIntegrationTest {
     }
 
     @Test
-    @DisplayName("채널 삭제 요청 시 204 응답과 함께 채널이 삭제된다.")
+    @DisplayName("채널 삭제 요청 시 202 응답과 함께 채널이 조회에서 제외된다.")
     void deleteChannel_Success() throws Exception {
 
         // given
@@ -143,7 +143,8 @@ public class ChannelIntegrationTest {
 
         // when & then
         mockMvc.perform(delete("/api/channels/{channelId}", channelId))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("PENDING"));
         assertThat(channelRepository.findById(channelId).isPresent()).isFalse();
     }
 
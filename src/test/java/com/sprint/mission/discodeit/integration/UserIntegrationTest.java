@@ -5,19 +5,23 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.dto.User.LoginRequest;
 import com.sprint.mission.discodeit.dto.User.UserCreateRequest;
 import com.sprint.mission.discodeit.dto.User.UserUpdateRequest;
 import com.sprint.mission.discodeit.dto.UserStatus.UserStatusUpdateRequest;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.presence.PresenceRegistry;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.repository.UserStatusRepository;
+import com.sprint.mission.discodeit.security.PasswordHasher;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.UUID;
@@ -51,6 +55,10 @@ public class UserIntegrationTest {
     private UserStatusRepository userStatusRepository;
     @Autowired
     private BinaryContentRepository binaryContentRepository;
+    @Autowired
+    private PresenceRegistry presenceRegistry;
+    @Autowired
+    private PasswordHasher passwordHasher;
     
     private User savedUser;
     private UserStatus savedUserStatus;
@@ -133,7 +141,8 @@ public class UserIntegrationTest {
                 .andExpect(jsonPath("$.email").value(newEmail));
 
         User updatedUser = userRepository.findById(userId).orElse(null);
-        assertThat(updatedUser.getPassword()).isEqualTo(newPassword);
+        assertThat(updatedUser.getPassword()).isNotEqualTo(newPassword);
+        assertThat(passwordHasher.matches(newPassword, updatedUser.getPassword())).isTrue();
         assertThat(updatedUser.getProfile().getFileName()).isEqualTo("profile2.jpg");
         assertThat(updatedUser.getProfile().getContentType()).isEqualTo("image/jpeg");
         assertThat(updatedUser.getProfile().getSize()).isEqualTo("테스트이미지바이트".getBytes().length);
@@ -189,6 +198,36 @@ public class UserIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(userStatusId.toString()))
                 .andExpect(jsonPath("$.lastActiveAt").value(now.toString()));
-        assertThat(savedUserStatus.isOnline()).isTrue();
+        assertThat(presenceRegistry.isOnline(userId, savedUserStatus.getLastActiveAt())).isTrue();
+        assertThat(presenceRegistry.flush()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("평문으로 저장된 유저가 로그인에 성공하면 패스워드가 해시로 교체된다.")
+    void login_UpgradesPlaintextPassword() throws Exception {
+
+        // given
+        LoginRequest loginRequest = new LoginRequest("테스트유저", "test1234");
+
+        // when
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(savedUser.getId().toString()));
+        userRepository.flush();
+
+        // then
+        String storedPassword = userRepository.findById(savedUser.getId())
+                .orElseThrow()
+                .getPassword();
+        assertThat(passwordHasher.isHashed(storedPassword)).isTrue();
+        assertThat(passwordHasher.matches("test1234", storedPassword)).isTrue();
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new LoginRequest("테스트유저", "wrong1234"))))
+                .andExpect(status().isUnauthorized());
     }
 }
@@ -0,0 +1,164 @@
+package com.sprint.mission.discodeit.presence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.sprint.mission.discodeit.config.PresenceProperties;
+import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.presence.PresenceRegistry.Presence;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PresenceRegistry 단위 테스트")
+public class PresenceRegistryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PresenceRegistry presenceRegistry;
+
+    @BeforeEach
+    void setUp() {
+        presenceRegistry = new PresenceRegistry(jdbcTemplate, new PresenceProperties());
+    }
+
+    @Test
+    @DisplayName("같은 유저의 여러 하트비트는 가장 최근 값 하나로 합쳐 반영한다.")
+    @SuppressWarnings("unchecked")
+    void shouldCoalesceHeartbeats_whenFlushing() {
+
+        // given
+        UUID userId = UUID.randomUUID();
+        UUID statusId = UUID.randomUUID();
+        Instant first = Instant.now().minusSeconds(10);
+        Instant latest = Instant.now();
+
+        presenceRegistry.touch(userId, statusId, first);
+        presenceRegistry.touch(userId, statusId, latest);
+        presenceRegistry.touch(userId, statusId, first);
+
+        // when
+        int flushed = presenceRegistry.flush();
+
+        // then
+        ArgumentCaptor<Collection<?>> captor = ArgumentCaptor.forClass(Collection.class);
+        then(jdbcTemplate).should().batchUpdate(anyString(), captor.capture(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertThat(flushed).isEqualTo(1);
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(presenceRegistry.find(userId)).contains(new Presence(statusId, latest));
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 DB에 반영하지 않고, 오프라인 유저는 메모리에서 제거한다.")
+    void shouldSkipUpdateAndEvictOfflineUsers_whenNothingChanged() {
+
+        // given
+        UUID userId = UUID.randomUUID();
+        presenceRegistry.load(userId, UUID.randomUUID(),
+                Instant.now().minus(Duration.ofMinutes(10)));
+
+        // when
+        int flushed = presenceRegistry.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        then(jdbcTemplate).should(never()).batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertThat(presenceRegistry.find(userId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 변경은 다음 flush에 다시 포함된다.")
+    @SuppressWarnings("unchecked")
+    void shouldRetainDirtyEntries_whenFlushFails() {
+
+        // given
+        UUID userId = UUID.randomUUID();
+        presenceRegistry.touch(userId, UUID.randomUUID(), Instant.now());
+        given(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .willThrow(new IllegalStateException("DB 오류"))
+                .willReturn(new int[][]{{1}});
+
+        // when
+        presenceRegistry.flush();
+        int retried = presenceRegistry.flush();
+
+        // then
+        assertThat(retried).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("온라인 여부는 DB 값과 메모리 값 중 최신 값으로 판단한다.")
+    void shouldAnswerOnlineFromMemory_whenHeartbeatNotFlushed() {
+
+        // given
+        UUID userId = UUID.randomUUID();
+        Instant persisted = Instant.now().minus(Duration.ofMinutes(10));
+        presenceRegistry.touch(userId, UUID.randomUUID(), Instant.now());
+
+        // when & then
+        assertThat(presenceRegistry.isOnline(userId, persisted)).isTrue();
+        assertThat(presenceRegistry.isOnline(UUID.randomUUID(), persisted)).isFalse();
+    }
+
+    @Test
+    @DisplayName("메모리 값만으로 판단하면 메모리에 없거나 활동 시각이 지난 유저는 오프라인이다.")
+    void shouldAnswerOnlineFromMemoryOnly() {
+
+        // given
+        UUID onlineUserId = UUID.randomUUID();
+        UUID idleUserId = UUID.randomUUID();
+        presenceRegistry.touch(onlineUserId, UUID.randomUUID(), Instant.now());
+        presenceRegistry.load(idleUserId, UUID.randomUUID(),
+                Instant.now().minus(Duration.ofMinutes(10)));
+
+        // when & then
+        assertThat(presenceRegistry.isOnline(onlineUserId)).isTrue();
+        assertThat(presenceRegistry.isOnline(idleUserId)).isFalse();
+        assertThat(presenceRegistry.isOnline(UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    @DisplayName("DB에서 읽은 상태는 온라인일 때만 메모리에 등록하고 flush 대상으로 표시하지 않는다.")
+    void shouldLoadOnlyOnlineStatus_whenLoadingIfOnline() {
+
+        // given
+        UUID onlineUserId = UUID.randomUUID();
+        UUID idleUserId = UUID.randomUUID();
+        Instant now = Instant.now();
+        UserStatus online = UserStatus.builder().lastActiveAt(now).build();
+        UserStatus idle = UserStatus.builder()
+                .lastActiveAt(now.minus(Duration.ofMinutes(10)))
+                .build();
+
+        // when
+        presenceRegistry.loadIfOnline(onlineUserId, online);
+        presenceRegistry.loadIfOnline(idleUserId, idle);
+        presenceRegistry.loadIfOnline(UUID.randomUUID(), null);
+
+        // then
+        assertThat(presenceRegistry.isOnline(onlineUserId)).isTrue();
+        assertThat(presenceRegistry.find(idleUserId)).isEmpty();
+        assertThat(presenceRegistry.flush()).isZero();
+    }
+}
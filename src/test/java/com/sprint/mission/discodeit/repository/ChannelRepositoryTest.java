@@ -7,6 +7,7 @@ import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.ReadStatus;
 import com.sprint.mission.discodeit.entity.User;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
@@ -15,7 +16,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 @DataJpaTest
@@ -30,6 +33,10 @@ public class ChannelRepositoryTest {
     private UserRepository userRepository;
     @Autowired
     private ReadStatusRepository readStatusRepository;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     private Channel publicChannel;
     private Channel privateChannel;
@@ -63,6 +70,25 @@ public class ChannelRepositoryTest {
                 .containsExactlyInAnyOrder(ChannelType.PUBLIC, ChannelType.PRIVATE);
     }
 
+    @Test
+    @DisplayName("삭제 요청된 채널은 단건, 존재 여부, 여러 건 조회에서 모두 제외된다.")
+    void shouldHideSoftDeletedChannel_whenQueryingById() {
+
+        // given
+        privateChannel.markDeleted(Instant.now());
+        em.flush();
+        em.clear();
+
+        // when & then
+        assertThat(channelRepository.findById(privateChannel.getId())).isEmpty();
+        assertThat(channelRepository.existsById(privateChannel.getId())).isFalse();
+        assertThat(channelRepository.findAllById(
+                List.of(publicChannel.getId(), privateChannel.getId())))
+                .extracting(Channel::getId)
+                .containsExactly(publicChannel.getId());
+        assertThat(channelRepository.findAllById(List.of())).isEmpty();
+    }
+
     @Test
     @DisplayName("존재하지 않는 유저ID로 조회시 공개 채널만 반환된다.")
     void shouldReturnOnlyPublicChannels_whenUserIdIsInvalid() {
@@ -74,4 +100,75 @@ public class ChannelRepositoryTest {
         assertThat(channels).hasSize(1);
         assertThat(channels.get(0).getType()).isEqualTo(ChannelType.PUBLIC);
     }
+
+    @Test
+    @DisplayName("마지막 메시지 시각은 더 최근 시각일 때만 갱신되고 채널 수정 시각은 바뀌지 않는다.")
+    void shouldKeepLatestLastMessageAt_whenUpdatingOutOfOrder() {
+
+        // given
+        Instant latest = Instant.parse("2025-01-01T00:00:10Z");
+        Instant older = latest.minusSeconds(5);
+        em.flush();
+        em.clear();
+        Instant updatedAt = channelRepository.findById(publicChannel.getId()).orElseThrow()
+                .getUpdatedAt();
+
+        // when
+        channelRepository.updateLastMessageAt(publicChannel.getId(), latest);
+        channelRepository.updateLastMessageAt(publicChannel.getId(), older);
+        em.clear();
+
+        // then
+        Channel found = channelRepository.findById(publicChannel.getId()).orElseThrow();
+        assertThat(found.getLastMessageAt()).isEqualTo(latest);
+        assertThat(found.getUpdatedAt()).isEqualTo(updatedAt);
+    }
+
+    @Test
+    @DisplayName("삭제된 메시지가 마지막 메시지일 때만 남은 메시지 중 최근 시각으로 되돌리고, 더 최근 값은 덮어쓰지 않는다.")
+    void shouldResetLastMessageAt_onlyWhenDeletedMessageWasLatest() {
+
+        // given
+        Instant previous = Instant.parse("2025-01-01T00:00:05Z");
+        Instant deleted = previous.plusSeconds(5);
+        Instant concurrent = deleted.plusSeconds(5);
+        em.flush();
+        em.clear();
+        UUID previousMessageId = insertMessage(previous);
+        UUID deletedMessageId = insertMessage(deleted);
+        channelRepository.updateLastMessageAt(publicChannel.getId(), deleted);
+        Instant updatedAt = channelRepository.findById(publicChannel.getId()).orElseThrow()
+                .getUpdatedAt();
+        em.clear();
+        jdbcTemplate.update("DELETE FROM messages WHERE id = ?", deletedMessageId);
+
+        // when
+        int reset = channelRepository.resetLastMessageAt(publicChannel.getId(), deleted);
+        em.clear();
+
+        // then
+        Channel found = channelRepository.findById(publicChannel.getId()).orElseThrow();
+        assertThat(reset).isEqualTo(1);
+        assertThat(found.getLastMessageAt()).isEqualTo(previous);
+        assertThat(found.getUpdatedAt()).isEqualTo(updatedAt);
+
+        // when: 삭제 전에 다른 메시지가 더 최근 시각으로 갱신한 경우
+        channelRepository.updateLastMessageAt(publicChannel.getId(), concurrent);
+        jdbcTemplate.update("DELETE FROM messages WHERE id = ?", previousMessageId);
+        int skipped = channelRepository.resetLastMessageAt(publicChannel.getId(), previous);
+        em.clear();
+
+        // then
+        assertThat(skipped).isZero();
+        assertThat(channelRepository.findById(publicChannel.getId()).orElseThrow()
+                .getLastMessageAt()).isEqualTo(concurrent);
+    }
+
+    private UUID insertMessage(Instant createdAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO messages (id, created_at, content, channel_id, author_id)"
+                        + " VALUES (?, ?, ?, ?, ?)", id, Timestamp.from(createdAt), "메시지",
+                publicChannel.getId(), user.getId());
+        return id;
+    }
 }
@@ -3,18 +3,24 @@ package com.sprint.mission.discodeit.repository;
 import static com.sprint.mission.discodeit.fixture.MessageFixture.createMessage;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.Message;
 import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.repository.projection.MessageAttachmentRow;
+import com.sprint.mission.discodeit.repository.projection.MessageRow;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,10 +30,12 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.sprint.mission.discodeit.repository.MessageRepositoryTest$SqlCapture")
 @ActiveProfiles("test")
 @DisplayName("MessageRepository 단위 테스트")
 public class MessageRepositoryTest {
@@ -47,6 +55,11 @@ public class MessageRepositoryTest {
     @Autowired
     private TestEntityManager em;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
     private User user;
     private Channel channel;
     private Message message;
@@ -71,48 +84,6 @@ public class MessageRepositoryTest {
     }
 
 
-    @Test
-    @DisplayName("채널의 가장 최근에 생성된 메시지를 조회한다.")
-    void shouldReturnLatestMessage_whenGivenChannelId() {
-
-        // given
-        Message expected = createMessage("가장 최근 메시지 테스트", channel, user,
-                Instant.now().plusSeconds(10));
-        messageRepository.save(expected);
-
-        // when
-        Optional<Message> lastMessage = messageRepository.findTopByChannel_IdOrderByCreatedAtDesc(
-                channel.getId());
-
-        // then
-        assertThat(lastMessage.isPresent()).isTrue();
-        assertThat(lastMessage.get().getId()).isEqualTo(expected.getId());
-        assertThat(lastMessage.get().getCreatedAt()).isAfter(message.getCreatedAt());
-    }
-
-    @Test
-    @DisplayName("채널의 모든 메시지를 삭제한다.")
-    void shouldDeleteAllMessages_whenGivenChannelId() {
-
-        // given
-        Channel nontargetChannel = new Channel(ChannelType.PRIVATE, null, null);
-        ReflectionTestUtils.setField(nontargetChannel, "createdAt", Instant.now());
-        channelRepository.save(nontargetChannel);
-
-        Message message1 = createMessage("메시지1", channel, user, Instant.now());
-        Message message2 = createMessage("메시지2", channel, user, Instant.now());
-        Message message3 = createMessage("메시지3", nontargetChannel, user, Instant.now());
-        messageRepository.saveAll(List.of(message1, message2, message3));
-
-        // when
-        messageRepository.deleteAllByChannelId(channel.getId());
-
-        // then
-        List<Message> remainingMessages = messageRepository.findAll();
-        assertThat(remainingMessages).hasSize(1);
-        assertThat(remainingMessages.get(0)).isEqualTo(message3);
-    }
-
     @Test
     @DisplayName("채널의 기준 시간 이전 메시지들을 조회한다.")
     void shouldReturnMessagesBeforeCursorTime_whenGivenChannelId() throws InterruptedException {
@@ -142,18 +113,17 @@ public class MessageRepositoryTest {
         Instant cursorTime = oldMessage.getCreatedAt().plusMillis(1500);
 
         // when
-        Slice<Message> result = messageRepository.findAllByChannelIdWithAuthor(channel.getId(),
-                cursorTime, PageRequest.of(0, 10));
+        Slice<MessageRow> result = messageRepository.findPageByChannelId(channel.getId(),
+                cursorTime, FIRST_ID, PageRequest.of(0, 10));
 
         // then
         assertThat(result.getContent()).hasSize(1);
-        Message resultMessage = result.getContent().get(0);
-        assertThat(resultMessage.getContent()).isEqualTo("이전 메시지");
+        MessageRow resultMessage = result.getContent().get(0);
+        assertThat(resultMessage.content()).isEqualTo("이전 메시지");
 
         // 유저 확인
-        User author = result.getContent().get(0).getAuthor();
-        assertThat(author.getUsername()).isEqualTo("테스트유저");
-        assertThat(author.getEmail()).isEqualTo("test@codeit.com");
+        assertThat(resultMessage.authorUsername()).isEqualTo("테스트유저");
+        assertThat(resultMessage.authorEmail()).isEqualTo("test@codeit.com");
     }
 
     @Test
@@ -171,10 +141,208 @@ public class MessageRepositoryTest {
         em.clear();
 
         // when
-        Slice<Message> result = messageRepository.findAllByChannelIdWithAuthor(channel.getId(),
-                cursorTime, PageRequest.of(0, 10));
+        Slice<MessageRow> result = messageRepository.findPageByChannelId(channel.getId(),
+                cursorTime, FIRST_ID, PageRequest.of(0, 10));
 
         // then
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("생성 시각이 같은 메시지도 커서 페이지 사이에서 중복되거나 누락되지 않는다.")
+    void shouldPageThroughMessagesWithSameCreatedAt_whenUsingKeysetCursor() {
+
+        // given
+        messageRepository.deleteAll();
+
+        UserStatus userStatus = new UserStatus(user, Instant.now());
+        ReflectionTestUtils.setField(userStatus, "createdAt", Instant.now());
+        userStatusRepository.save(userStatus);
+        user.setStatus(userStatus);
+        userRepository.save(user);
+
+        Instant sameTime = Instant.parse("2025-01-01T01:00:00Z");
+        messageRepository.saveAll(List.of(
+                createMessage("메시지1", channel, user, sameTime),
+                createMessage("메시지2", channel, user, sameTime),
+                createMessage("메시지3", channel, user, sameTime)
+        ));
+
+        em.flush();
+        em.clear();
+
+        // when
+        Slice<MessageRow> firstPage = messageRepository.findPageByChannelId(
+                channel.getId(), sameTime.plusSeconds(1), FIRST_ID, PageRequest.of(0, 2));
+        MessageRow last = firstPage.getContent().get(firstPage.getContent().size() - 1);
+        Slice<MessageRow> secondPage = messageRepository.findPageByChannelId(
+                channel.getId(), last.createdAt(), last.id(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(firstPage.getContent()).hasSize(2);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.getContent()).hasSize(1);
+        assertThat(secondPage.hasNext()).isFalse();
+
+        List<MessageRow> all = new ArrayList<>(firstPage.getContent());
+        all.addAll(secondPage.getContent());
+        assertThat(all)
+                .extracting(MessageRow::content)
+                .containsExactlyInAnyOrder("메시지1", "메시지2", "메시지3");
+    }
+
+    @Test
+    @DisplayName("채널 메시지 커서 조회는 (channel_id, created_at, id) 인덱스를 사용한다.")
+    void shouldUseChannelCreatedAtIndex_whenQueryingMessagePage() {
+
+        // given
+        Instant createdAt = Instant.parse("2025-01-01T01:00:00Z");
+        int pageSize = 10;
+        SqlCapture.STATEMENTS.clear();
+
+        // when
+        messageRepository.findPageByChannelId(channel.getId(), createdAt, FIRST_ID,
+                PageRequest.of(0, pageSize));
+        String sql = SqlCapture.STATEMENTS.stream()
+                .filter(statement -> statement.contains("from messages"))
+                .reduce((first, second) -> second)
+                .orElseThrow();
+
+        // JPQL 파라미터 순서(channelId, createdAt, id) 다음의 자리는 Slice 조회의 LIMIT(pageSize + 1)
+        List<Object> params = new ArrayList<>(
+                List.of(channel.getId(), Timestamp.from(createdAt), FIRST_ID));
+        long placeholders = sql.chars().filter(c -> c == '?').count();
+        while (params.size() < placeholders) {
+            params.add(pageSize + 1);
+        }
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class,
+                params.toArray());
+
+        // then
+        assertThat(plan).containsIgnoringCase("idx_messages_channel_id_created_at_id");
+    }
+
+    @Test
+    @DisplayName("작성자가 없거나 상태가 없는 메시지도 projection 조회 결과에 포함된다.")
+    void shouldIncludeMessagesWithoutAuthor_whenQueryingPageProjection() {
+
+        // given
+        messageRepository.deleteAll();
+
+        Instant time = Instant.parse("2025-01-01T01:00:00Z");
+        messageRepository.saveAll(List.of(
+                createMessage("작성자 있음", channel, user, time),
+                createMessage("작성자 없음", channel, null, time.plusSeconds(1))
+        ));
+
+        em.flush();
+        em.clear();
+
+        // when
+        Slice<MessageRow> result = messageRepository.findPageByChannelId(channel.getId(),
+                time.plusSeconds(10), FIRST_ID, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent())
+                .extracting(MessageRow::content)
+                .containsExactly("작성자 없음", "작성자 있음");
+        assertThat(result.getContent().get(0).authorId()).isNull();
+        assertThat(result.getContent().get(1).authorUsername()).isEqualTo("테스트유저");
+        assertThat(result.getContent().get(1).authorLastActiveAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 메시지의 첨부파일을 한 번에 조회한다.")
+    void shouldReturnAttachmentsOfMessages_whenGivenMessageIds() {
+
+        // given
+        BinaryContent attachment1 = new BinaryContent("a.png", 10L, "image/png");
+        BinaryContent attachment2 = new BinaryContent("b.png", 20L, "image/png");
+        ReflectionTestUtils.setField(attachment1, "createdAt", Instant.now());
+        ReflectionTestUtils.setField(attachment2, "createdAt", Instant.now());
+
+        Message withAttachments = createMessage("첨부 메시지", channel, user, Instant.now());
+        withAttachments.getAttachments().addAll(List.of(attachment1, attachment2));
+        messageRepository.save(withAttachments);
+
+        em.flush();
+        em.clear();
+
+        // when
+        List<MessageAttachmentRow> result = messageRepository.findAttachmentsByMessageIdIn(
+                List.of(withAttachments.getId(), message.getId()));
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result)
+                .extracting(MessageAttachmentRow::messageId)
+                .containsOnly(withAttachments.getId());
+        assertThat(result)
+                .extracting(MessageAttachmentRow::fileName)
+                .containsExactlyInAnyOrder("a.png", "b.png");
+    }
+
+    @Test
+    @DisplayName("작성자와 프로필, 첨부파일이 모두 있어도 메시지 페이지는 페이지 크기와 관계없이 쿼리 2회로 조회한다.")
+    void shouldUseConstantQueryCount_whenQueryingMessagePageWithAttachments() {
+
+        // given
+        int authorCount = 10;
+        int messageCount = 200;
+        int pageSize = 50;
+        Instant time = Instant.parse("2025-01-01T01:00:00Z");
+
+        List<User> authors = new ArrayList<>();
+        for (int i = 0; i < authorCount; i++) {
+            BinaryContent profile = new BinaryContent("profile" + i + ".png", 1024L, "image/png");
+            ReflectionTestUtils.setField(profile, "createdAt", time);
+            User author = new User("user" + i, "user" + i + "@codeit.com", "test1234", profile,
+                    null);
+            ReflectionTestUtils.setField(author, "createdAt", time);
+            UserStatus status = new UserStatus(author, time);
+            ReflectionTestUtils.setField(status, "createdAt", time);
+            author.setStatus(status);
+            em.persist(author);
+            authors.add(author);
+        }
+
+        for (int i = 0; i < messageCount; i++) {
+            Message channelMessage = createMessage("메시지" + i, channel,
+                    authors.get(i % authorCount), time.plusSeconds(i));
+            BinaryContent attachment = new BinaryContent("file" + i + ".png", 1024L, "image/png");
+            ReflectionTestUtils.setField(attachment, "createdAt", time);
+            channelMessage.getAttachments().add(attachment);
+            em.persist(channelMessage);
+        }
+
+        em.flush();
+        em.clear();
+        SqlCapture.STATEMENTS.clear();
+
+        // when
+        Slice<MessageRow> result = messageRepository.findPageByChannelId(channel.getId(),
+                time.plusSeconds(messageCount), FIRST_ID, PageRequest.of(0, pageSize));
+        messageRepository.findAttachmentsByMessageIdIn(result.map(MessageRow::id).getContent());
+
+        // then
+        assertThat(result.getContent()).hasSize(pageSize);
+        assertThat(result.getContent())
+                .extracting(MessageRow::content)
+                .startsWith("메시지" + (messageCount - 1), "메시지" + (messageCount - 2));
+        assertThat(SqlCapture.STATEMENTS).hasSize(2);
+    }
+
+    /**
+     * 리포지토리 메서드가 실제로 실행한 SQL을 기록 (실행 계획을 손으로 쓴 SQL 대신 생성된 SQL로 확인하기 위함)
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
 }
@@ -0,0 +1,108 @@
+package com.sprint.mission.discodeit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.config.PostgresContainerConfig;
+import com.sprint.mission.discodeit.config.TestJpaAuditConfig;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.User;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@DataJpaTest(properties = "spring.sql.init.mode=always")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestJpaAuditConfig.class, PostgresContainerConfig.class})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ReadStatusBulkRepository PostgreSQL 테스트")
+public class ReadStatusBulkRepositoryPostgresTest {
+
+    private static final String SELECT_SQL = "SELECT last_read_at, unread_count"
+            + " FROM read_statuses WHERE user_id = ? AND channel_id = ?";
+
+    @Autowired
+    private ReadStatusRepository readStatusRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User reader;
+    private Channel channel;
+    private Instant sentAt;
+
+    @BeforeEach
+    void setUp() {
+        reader = userRepository.save(new User("reader", "reader@codeit.com", "test1234", null, null));
+        User author = userRepository.save(
+                new User("author", "author@codeit.com", "test1234", null, null));
+        channel = channelRepository.save(new Channel(ChannelType.PUBLIC, "채널", "설명"));
+        messageRepository.saveAll(List.of(
+                new Message("첫 메시지", channel, author, List.of()),
+                new Message("둘째 메시지", channel, author, List.of()),
+                new Message("내 메시지", channel, reader, List.of())));
+        messageRepository.flush();
+        sentAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    @Test
+    @DisplayName("없는 ReadStatus는 안 읽은 메시지 수와 함께 생성하고, 더 늦은 시각만 반영한다.")
+    void shouldInsertThenOnlyMoveForward_whenUpserting() {
+
+        // given
+        Instant before = sentAt.minus(1, ChronoUnit.HOURS);
+        Instant after = sentAt.plus(1, ChronoUnit.HOURS);
+
+        // when & then: 생성 (자기 메시지는 세지 않는다)
+        readStatusRepository.upsertLastReadAts(reader.getId(), Map.of(channel.getId(), before),
+                Instant.now());
+        assertThat(lastReadAt()).isEqualTo(before);
+        assertThat(unreadCount()).isEqualTo(2);
+
+        // when & then: 더 늦은 시각으로 갱신
+        readStatusRepository.upsertLastReadAts(reader.getId(), Map.of(channel.getId(), after),
+                Instant.now());
+        assertThat(lastReadAt()).isEqualTo(after);
+        assertThat(unreadCount()).isZero();
+
+        // when & then: 더 이른 시각은 무시
+        readStatusRepository.upsertLastReadAts(reader.getId(), Map.of(channel.getId(), before),
+                Instant.now());
+        assertThat(lastReadAt()).isEqualTo(after);
+        assertThat(unreadCount()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM read_statuses",
+                Integer.class)).isEqualTo(1);
+    }
+
+    private Instant lastReadAt() {
+        return jdbcTemplate.queryForObject(SELECT_SQL,
+                (rs, rowNum) -> rs.getTimestamp("last_read_at"),
+                reader.getId(), channel.getId()).toInstant();
+    }
+
+    private int unreadCount() {
+        return jdbcTemplate.queryForObject(SELECT_SQL,
+                (rs, rowNum) -> rs.getInt("unread_count"),
+                reader.getId(), channel.getId());
+    }
+}
@@ -4,14 +4,21 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.sprint.mission.discodeit.config.TestJpaAuditConfig;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.repository.UserBulkRepository.NewUserRow;
+import com.sprint.mission.discodeit.repository.projection.UserIdentityRow;
+import com.sprint.mission.discodeit.repository.projection.UserRow;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -83,4 +90,96 @@ public class UserRepositoryTest {
         assertThat(userRepository.existsByEmail(existingUseremail)).isTrue();
         assertThat(userRepository.existsByEmail(nonExistingUserEmail)).isFalse();
     }
+
+    @Test
+    @DisplayName("유저명 또는 이메일이 일치하는 유저를 한 번에 조회하며, null 인자는 비교하지 않는다.")
+    void shouldReturnIdentities_whenUsernameOrEmailMatches() {
+
+        // when
+        List<UserIdentityRow> byEmail = userRepository.findIdentitiesByUsernameOrEmail(null,
+                "test@codeit.com");
+        List<UserIdentityRow> none = userRepository.findIdentitiesByUsernameOrEmail("없는 유저",
+                null);
+
+        // then
+        assertThat(byEmail)
+                .extracting(UserIdentityRow::username)
+                .containsExactly("테스트유저");
+        assertThat(none).isEmpty();
+    }
+
+    @Test
+    @DisplayName("JDBC batch로 유저와 UserStatus를 함께 저장한다.")
+    void shouldInsertUsersWithStatus_whenBatchInsert() {
+
+        // given
+        Instant now = Instant.now();
+        List<NewUserRow> rows = List.of(
+                new NewUserRow(UUID.randomUUID(), UUID.randomUUID(), "유저1", "user1@codeit.com",
+                        "pass1234", now),
+                new NewUserRow(UUID.randomUUID(), UUID.randomUUID(), "유저2", "user2@codeit.com",
+                        "pass1234", now)
+        );
+
+        // when
+        userRepository.insertAllWithStatus(rows);
+
+        // then
+        List<UserIdentityRow> saved = userRepository.findIdentitiesByUsernameInOrEmailIn(
+                List.of("유저1", "유저2"), List.of("user1@codeit.com"));
+        assertThat(saved)
+                .extracting(UserIdentityRow::id)
+                .containsExactlyInAnyOrder(rows.get(0).id(), rows.get(1).id());
+        assertThat(userRepository.findById(rows.get(0).id()).orElseThrow().getStatus())
+                .isNotNull();
+    }
+
+    @Test
+    @DisplayName("유저명 키셋 커서 이후의 유저를 접두어로 걸러 유저명 순으로 조회한다.")
+    void shouldReturnUsersAfterCursorWithPrefix_whenFindingPage() {
+
+        // given
+        userRepository.saveAll(List.of(
+                new User("alpha", "alpha@codeit.com", "test1234", null, null),
+                new User("alice", "alice@codeit.com", "test1234", null, null),
+                new User("al_ice", "al_ice@codeit.com", "test1234", null, null),
+                new User("bob", "bob@codeit.com", "test1234", null, null)
+        ));
+
+        // when
+        Slice<UserRow> first = userRepository.findPageByUsernameAfter("", "al%",
+                PageRequest.of(0, 2));
+        Slice<UserRow> second = userRepository.findPageByUsernameAfter(
+                first.getContent().get(1).username(), "al%", PageRequest.of(0, 2));
+
+        // then
+        assertThat(first.getContent())
+                .extracting(UserRow::username)
+                .containsExactly("al_ice", "alice");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent())
+                .extracting(UserRow::username)
+                .containsExactly("alpha");
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("접두어의 LIKE 특수문자는 이스케이프하면 문자 그대로 비교한다.")
+    void shouldMatchLiterally_whenPrefixContainsEscapedWildcard() {
+
+        // given
+        userRepository.saveAll(List.of(
+                new User("alice", "alice@codeit.com", "test1234", null, null),
+                new User("al_ice", "al_ice@codeit.com", "test1234", null, null)
+        ));
+
+        // when
+        Slice<UserRow> result = userRepository.findPageByUsernameAfter("", "al\\_%",
+                PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent())
+                .extracting(UserRow::username)
+                .containsExactly("al_ice");
+    }
 }
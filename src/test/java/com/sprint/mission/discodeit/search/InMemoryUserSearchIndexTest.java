@@ -0,0 +1,91 @@
+package com.sprint.mission.discodeit.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.config.UserSearchProperties;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.event.UserChangedEvent;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("InMemoryUserSearchIndex 슬라이스 테스트")
+public class InMemoryUserSearchIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private InMemoryUserSearchIndex userSearchIndex;
+    private User bo;
+    private User bob;
+    private User bobby;
+    private User alice;
+
+    @BeforeEach
+    void setUp() {
+        UserSearchProperties properties = new UserSearchProperties();
+        properties.setLoadBatchSize(2);
+        userSearchIndex = new InMemoryUserSearchIndex(jdbcTemplate, properties);
+
+        bo = new User("bo", "bo@codeit.com", "test1234", null, null);
+        bob = new User("Bob", "bob@codeit.com", "test1234", null, null);
+        bobby = new User("bobby", "bobby@codeit.com", "test1234", null, null);
+        alice = new User("alice", "alice@codeit.com", "test1234", null, null);
+        List<User> users = List.of(bo, bob, bobby, alice);
+        users.forEach(user -> ReflectionTestUtils.setField(user, "createdAt", Instant.now()));
+        userRepository.saveAll(users);
+
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("여러 번에 나눠 적재한 뒤 대소문자 구분 없이 접두어가 일치하는 유저를 유저명 순으로 조회한다.")
+    void shouldFindByPrefixIgnoringCase_whenLoaded() {
+
+        // when
+        userSearchIndex.load();
+
+        // then
+        assertThat(userSearchIndex.search("BO", 10))
+                .containsExactly(bo.getId(), bob.getId(), bobby.getId());
+        assertThat(userSearchIndex.search("bob", 1)).containsExactly(bob.getId());
+        assertThat(userSearchIndex.search("c", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("유저 생성/유저명 변경/삭제 이벤트를 인덱스에 바로 반영한다.")
+    void shouldApplyChanges_whenUserChanged() {
+
+        // given
+        userSearchIndex.load();
+        UUID createdId = UUID.randomUUID();
+
+        // when
+        userSearchIndex.on(UserChangedEvent.created(createdId, "Boris"));
+        userSearchIndex.on(UserChangedEvent.updated(bobby.getId(), "robert"));
+        userSearchIndex.on(UserChangedEvent.deleted(bo.getId()));
+
+        // then
+        assertThat(userSearchIndex.search("bo", 10))
+                .containsExactly(bob.getId(), createdId);
+        assertThat(userSearchIndex.search("rob", 10)).containsExactly(bobby.getId());
+    }
+}
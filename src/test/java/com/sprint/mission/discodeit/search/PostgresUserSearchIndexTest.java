@@ -0,0 +1,113 @@
+package com.sprint.mission.discodeit.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.config.PostgresContainerConfig;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@DataJpaTest(properties = "spring.sql.init.mode=always")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostgresContainerConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("PostgresUserSearchIndex PostgreSQL 테스트")
+public class PostgresUserSearchIndexTest {
+
+    private static final String INSERT_SQL = "INSERT INTO users"
+            + " (id, created_at, username, email, password) VALUES (?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private PostgresUserSearchIndex userSearchIndex;
+    private UUID alice;
+    private UUID alicia;
+    private UUID malice;
+    private UUID underscored;
+
+    @BeforeEach
+    void setUp() {
+        userSearchIndex = new PostgresUserSearchIndex(jdbcTemplate);
+
+        alice = insert("Alice");
+        alicia = insert("alicia");
+        malice = insert("malice");
+        underscored = insert("al_ice");
+        insert("bob");
+
+        // 인덱스 선택이 통계에 좌우되지 않을 만큼 다른 유저를 채운다.
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> others = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            others.add(new Object[]{UUID.randomUUID(), now, String.format("user%05d", i),
+                    "user" + i + "@codeit.com", "test1234"});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, others);
+        jdbcTemplate.execute("ANALYZE users");
+    }
+
+    private UUID insert(String username) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(INSERT_SQL, id, Timestamp.from(Instant.now()), username,
+                username + "@codeit.com", "test1234");
+        return id;
+    }
+
+    @Test
+    @DisplayName("대소문자와 관계없이 접두어 일치를 먼저 반환하고 비슷한 유저명으로 나머지를 채운다.")
+    void shouldReturnPrefixThenSimilar_whenSearching() {
+
+        // when
+        List<UUID> result = userSearchIndex.search("ALICE", 10);
+
+        // then
+        assertThat(result).first().isEqualTo(alice);
+        assertThat(result).containsExactlyInAnyOrder(alice, alicia, malice, underscored);
+    }
+
+    @Test
+    @DisplayName("검색어의 LIKE 특수문자는 문자 그대로 일치시킨다.")
+    void shouldMatchLiterally_whenQueryHasLikeWildcard() {
+
+        // when
+        List<UUID> result = userSearchIndex.search("al_", 1);
+
+        // then
+        assertThat(result).containsExactly(underscored);
+    }
+
+    @Test
+    @DisplayName("접두어 조회는 idx_users_username_lower 를 정렬 없이, 비슷한 유저명 조회는 idx_users_username_trgm 을 사용한다.")
+    void shouldUseSearchIndexes_whenExplaining() {
+
+        // given: 인덱스를 쓸 수 없는 식이면 순차 탐색으로 돌아가 아래 검사가 실패한다.
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+        // when
+        String prefixPlan = explain(PostgresUserSearchIndex.PREFIX_SQL, "Ali%", 10);
+        String similarPlan = explain(PostgresUserSearchIndex.SIMILAR_SQL, "Alice", "Alice%",
+                "Alice", 10);
+
+        // then
+        assertThat(prefixPlan)
+                .contains("idx_users_username_lower")
+                .doesNotContain("Sort");
+        assertThat(similarPlan).contains("idx_users_username_trgm");
+    }
+
+    private String explain(String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+}
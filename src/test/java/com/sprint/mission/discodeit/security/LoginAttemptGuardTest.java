@@ -0,0 +1,115 @@
+package com.sprint.mission.discodeit.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprint.mission.discodeit.config.LoginProtectionProperties;
+import com.sprint.mission.discodeit.exception.User.LoginRateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LoginAttemptGuard 단위 테스트")
+public class LoginAttemptGuardTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private LoginAttemptGuard loginAttemptGuard;
+
+    @BeforeEach
+    void setUp() {
+        LoginProtectionProperties properties = new LoginProtectionProperties();
+        properties.setUsernameCapacity(3);
+        properties.setUsernameRefillPeriod(Duration.ofSeconds(30));
+        properties.setIpCapacity(5);
+        properties.setIpRefillPeriod(Duration.ofSeconds(50));
+        properties.setUnknownUsernameTtl(Duration.ofSeconds(30));
+
+        meterRegistry = new SimpleMeterRegistry();
+        loginAttemptGuard = new LoginAttemptGuard(properties, meterRegistry, nanos::get);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("discodeit.auth.login.rejected").tag("reason", reason)
+                .counter().count();
+    }
+
+    @Test
+    @DisplayName("유저명 버킷이 실패로 비면 거절하고, 시간이 지나 토큰이 채워지면 다시 허용한다.")
+    void shouldRejectAndRefill_whenUsernameBucketIsEmpty() {
+
+        // given
+        for (int i = 0; i < 3; i++) {
+            loginAttemptGuard.acquire("user", "10.0.0." + i);
+            loginAttemptGuard.recordFailure("user");
+        }
+
+        // when & then
+        assertThatThrownBy(() -> loginAttemptGuard.acquire("user", "10.0.0.9"))
+                .isInstanceOf(LoginRateLimitExceededException.class)
+                .satisfies(e -> assertThat(((LoginRateLimitExceededException) e).getRetryAfter())
+                        .isEqualTo(Duration.ofSeconds(10)));
+        assertThat(rejected("username_rate")).isEqualTo(1);
+
+        advance(Duration.ofSeconds(10));
+        loginAttemptGuard.acquire("user", "10.0.0.9");
+    }
+
+    @Test
+    @DisplayName("성공한 시도는 유저명 버킷을 줄이지 않는다.")
+    void shouldNotConsumeUsernameBucket_whenAttemptsSucceed() {
+
+        // given
+        for (int i = 0; i < 4; i++) {
+            loginAttemptGuard.acquire("user", "10.0.0." + i);
+        }
+        loginAttemptGuard.recordFailure("user");
+
+        // when & then
+        loginAttemptGuard.acquire("user", "10.0.0.9");
+        assertThat(rejected("username_rate")).isZero();
+    }
+
+    @Test
+    @DisplayName("한 IP에서 여러 유저명으로 시도해도 IP 버킷으로 제한한다.")
+    void shouldRejectByClientAddress_whenSprayingUsernames() {
+
+        // given
+        for (int i = 0; i < 5; i++) {
+            loginAttemptGuard.acquire("user" + i, "10.0.0.1");
+        }
+
+        // when & then
+        assertThatThrownBy(() -> loginAttemptGuard.acquire("another", "10.0.0.1"))
+                .isInstanceOf(LoginRateLimitExceededException.class);
+        assertThat(rejected("ip_rate")).isEqualTo(1);
+
+        loginAttemptGuard.acquire("another", "10.0.0.2");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 유저명은 TTL 동안 기억하고, 유저가 생기면 바로 제거한다.")
+    void shouldRememberUnknownUsernameUntilTtlOrForget() {
+
+        // given
+        loginAttemptGuard.rememberUnknown("ghost");
+        loginAttemptGuard.rememberUnknown("phantom");
+
+        // when & then
+        assertThat(loginAttemptGuard.isKnownUnknown("ghost")).isTrue();
+        assertThat(rejected("unknown_username")).isEqualTo(1);
+
+        loginAttemptGuard.forgetUnknown("ghost");
+        assertThat(loginAttemptGuard.isKnownUnknown("ghost")).isFalse();
+
+        advance(Duration.ofSeconds(31));
+        assertThat(loginAttemptGuard.isKnownUnknown("phantom")).isFalse();
+    }
+}
@@ -0,0 +1,123 @@
+package com.sprint.mission.discodeit.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprint.mission.discodeit.config.PasswordHashProperties;
+import com.sprint.mission.discodeit.exception.User.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+
+@DisplayName("PasswordHasher 단위 테스트")
+public class PasswordHasherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHasher passwordHasher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHasher = createHasher(new SyncTaskExecutor(), 4);
+    }
+
+    private PasswordHasher createHasher(Executor executor, int strength) {
+        PasswordHashProperties properties = new PasswordHashProperties();
+        properties.setStrength(strength);
+        properties.setPoolSize(2);
+        return new PasswordHasher(executor, properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("해시한 패스워드는 원래 값과만 일치하고, 계산 시간이 메트릭으로 기록된다.")
+    void shouldMatchOnlyOriginalPassword_whenHashed() {
+
+        // when
+        String hashed = passwordHasher.hash("test1234");
+
+        // then
+        assertThat(hashed).isNotEqualTo("test1234").hasSize(60);
+        assertThat(passwordHasher.matches("test1234", hashed)).isTrue();
+        assertThat(passwordHasher.matches("wrong1234", hashed)).isFalse();
+        assertThat(passwordHasher.needsUpgrade(hashed)).isFalse();
+        assertThat(meterRegistry.get("discodeit.password.hash")
+                .tag("operation", "encode").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("업그레이드 전 평문 값은 평문으로 비교하고 재해시 대상으로 표시한다.")
+    void shouldCompareLegacyPlaintext_andRequireUpgrade() {
+
+        // when & then
+        assertThat(passwordHasher.matches("test1234", "test1234")).isTrue();
+        assertThat(passwordHasher.matches("test12345", "test1234")).isFalse();
+        assertThat(passwordHasher.needsUpgrade("test1234")).isTrue();
+    }
+
+    @Test
+    @DisplayName("현재 설정보다 낮은 cost로 만든 해시는 재해시 대상이다.")
+    void shouldRequireUpgrade_whenHashedWithLowerStrength() {
+
+        // given
+        String weakHash = passwordHasher.hash("test1234");
+        PasswordHasher strongerHasher = createHasher(new SyncTaskExecutor(), 5);
+
+        // when & then
+        assertThat(strongerHasher.matches("test1234", weakHash)).isTrue();
+        assertThat(strongerHasher.needsUpgrade(weakHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 패스워드를 입력 순서대로 해시한다.")
+    void shouldKeepOrder_whenHashingAll() {
+
+        // when
+        List<String> hashes = passwordHasher.hashAll(List.of("pw-1", "pw-2", "pw-3"));
+
+        // then
+        assertThat(hashes).hasSize(3);
+        assertThat(passwordHasher.matches("pw-1", hashes.get(0))).isTrue();
+        assertThat(passwordHasher.matches("pw-2", hashes.get(1))).isTrue();
+        assertThat(passwordHasher.matches("pw-3", hashes.get(2))).isTrue();
+    }
+
+    @Test
+    @DisplayName("해시 executor가 작업을 거절하면 PasswordHashingBusyException이 발생한다.")
+    void shouldThrowBusy_whenExecutorRejects() {
+
+        // given
+        PasswordHasher saturated = createHasher(task -> {
+            throw new RejectedExecutionException("full");
+        }, 4);
+
+        // when & then
+        assertThatThrownBy(() -> saturated.hash("test1234"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+    }
+
+    @Test
+    @DisplayName("대량 해시는 bulkConcurrency 만큼만 동시에 실행하고, 허가를 얻지 못하면 거절한다.")
+    void shouldLimitBulkConcurrency_whenHashingAll() {
+
+        // given
+        List<Runnable> queued = new ArrayList<>();
+        PasswordHashProperties properties = new PasswordHashProperties();
+        properties.setStrength(4);
+        properties.setPoolSize(4);
+        properties.setBulkConcurrency(1);
+        properties.setTimeout(Duration.ofMillis(50));
+        PasswordHasher bulkLimited = new PasswordHasher(queued::add, properties, meterRegistry);
+
+        // when & then
+        assertThatThrownBy(() -> bulkLimited.hashAll(List.of("pw-1", "pw-2")))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(queued).hasSize(1);
+    }
+}
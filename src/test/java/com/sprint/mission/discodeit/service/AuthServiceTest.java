@@ -0,0 +1,150 @@
+package com.sprint.mission.discodeit.service;
+
+import static com.sprint.mission.discodeit.fixture.UserFixture.createUser;
+import static com.sprint.mission.discodeit.fixture.UserFixture.createUserDto;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+import com.sprint.mission.discodeit.dto.User.LoginRequest;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.exception.User.LoginRateLimitExceededException;
+import com.sprint.mission.discodeit.exception.User.UserNotFoundException;
+import com.sprint.mission.discodeit.exception.User.UserPasswordMismatchException;
+import com.sprint.mission.discodeit.mapper.UserMapper;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.security.LoginAttemptGuard;
+import com.sprint.mission.discodeit.security.PasswordHasher;
+import com.sprint.mission.discodeit.service.basic.BasicAuthService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthService 단위 테스트")
+public class AuthServiceTest {
+
+    private static final String CLIENT = "10.0.0.1";
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserMapper userMapper;
+    @Mock
+    private PasswordHasher passwordHasher;
+    @Mock
+    private LoginAttemptGuard loginAttemptGuard;
+
+    @InjectMocks
+    private BasicAuthService authService;
+
+    @Test
+    @DisplayName("시도 제한에 걸리면 DB를 조회하지 않는다.")
+    void shouldNotQueryDatabase_whenRateLimited() {
+
+        // given
+        LoginRequest loginRequest = new LoginRequest("테스터", "tester1234");
+        willThrow(new LoginRateLimitExceededException(Duration.ofSeconds(5)))
+                .given(loginAttemptGuard).acquire("테스터", CLIENT);
+
+        // when & then
+        assertThatThrownBy(() -> authService.login(loginRequest, CLIENT))
+                .isInstanceOf(LoginRateLimitExceededException.class);
+
+        then(userRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("최근에 없던 유저명은 DB 조회 없이 거절하고, 처음 없는 유저명은 기억한다.")
+    void shouldRejectWithoutQuery_whenUsernameKnownUnknown() {
+
+        // given
+        LoginRequest cached = new LoginRequest("ghost", "pw");
+        LoginRequest fresh = new LoginRequest("phantom", "pw");
+        given(loginAttemptGuard.isKnownUnknown("ghost")).willReturn(true);
+        given(userRepository.findByUsername("phantom")).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> authService.login(cached, CLIENT))
+                .isInstanceOf(UserNotFoundException.class);
+        assertThatThrownBy(() -> authService.login(fresh, CLIENT))
+                .isInstanceOf(UserNotFoundException.class);
+
+        then(userRepository).should(never()).findByUsername("ghost");
+        then(loginAttemptGuard).should().rememberUnknown("phantom");
+    }
+
+    @Test
+    @DisplayName("평문으로 저장된 패스워드는 로그인 성공 시 해시로 교체한다.")
+    void shouldUpgradePassword_whenStoredInPlaintext() {
+
+        // given
+        User user = createUser("테스터", "tester@codeit.com", "tester1234");
+        LoginRequest loginRequest = new LoginRequest("테스터", "tester1234");
+        given(userRepository.findByUsername("테스터")).willReturn(Optional.of(user));
+        given(passwordHasher.matches("tester1234", "tester1234")).willReturn(true);
+        given(passwordHasher.needsUpgrade("tester1234")).willReturn(true);
+        given(passwordHasher.hash("tester1234")).willReturn("hashed");
+        given(userMapper.toDto(user)).willReturn(createUserDto(user));
+
+        // when
+        authService.login(loginRequest, CLIENT);
+
+        // then
+        then(userRepository).should().updatePassword(eq(user.getId()), eq("hashed"),
+                any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("이미 현재 설정으로 해시된 패스워드는 다시 저장하지 않는다.")
+    void shouldNotUpgradePassword_whenAlreadyHashed() {
+
+        // given
+        User user = createUser("테스터", "tester@codeit.com", "$2a$10$hash");
+        LoginRequest loginRequest = new LoginRequest("테스터", "tester1234");
+        given(userRepository.findByUsername("테스터")).willReturn(Optional.of(user));
+        given(passwordHasher.matches("tester1234", "$2a$10$hash")).willReturn(true);
+        given(passwordHasher.needsUpgrade("$2a$10$hash")).willReturn(false);
+        given(userMapper.toDto(user)).willReturn(createUserDto(user));
+
+        // when
+        authService.login(loginRequest, CLIENT);
+
+        // then
+        then(userRepository).should(never()).updatePassword(any(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("패스워드가 틀린 경우에만 유저명 시도 횟수를 차감한다.")
+    void shouldRecordFailure_onlyWhenPasswordMismatches() {
+
+        // given
+        User user = createUser("테스터", "tester@codeit.com", "$2a$10$hash");
+        given(userRepository.findByUsername("테스터")).willReturn(Optional.of(user));
+        given(passwordHasher.matches("wrong1234", "$2a$10$hash")).willReturn(false);
+        given(passwordHasher.matches("tester1234", "$2a$10$hash")).willReturn(true);
+        given(userMapper.toDto(user)).willReturn(createUserDto(user));
+
+        // when
+        authService.login(new LoginRequest("테스터", "tester1234"), CLIENT);
+
+        // then
+        then(loginAttemptGuard).should(never()).recordFailure(anyString());
+
+        // when & then
+        assertThatThrownBy(() -> authService.login(new LoginRequest("테스터", "wrong1234"), CLIENT))
+                .isInstanceOf(UserPasswordMismatchException.class);
+        then(loginAttemptGuard).should().recordFailure("테스터");
+    }
+}
@@ -8,21 +8,25 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.never;
 
+import com.sprint.mission.discodeit.deletion.ChannelPurger;
+import com.sprint.mission.discodeit.dto.Channel.ChannelDeletionDto;
 import com.sprint.mission.discodeit.dto.Channel.ChannelDto;
 import com.sprint.mission.discodeit.dto.Channel.PrivateChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.Channel.PublicChannelCreateRequest;
 import com.sprint.mission.discodeit.dto.Channel.PublicChannelUpdateRequest;
 import com.sprint.mission.discodeit.dto.User.UserDto;
 import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ReadStatus;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.event.ChannelDeletedEvent;
 import com.sprint.mission.discodeit.exception.Channel.ChannelNotFoundException;
 import com.sprint.mission.discodeit.exception.Channel.PrivateChannelUpdateException;
 import com.sprint.mission.discodeit.mapper.ChannelMapper;
+import com.sprint.mission.discodeit.presence.PresenceRegistry;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
-import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.service.basic.BasicChannelService;
@@ -34,9 +38,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ChannelService 단위 테스트")
@@ -47,11 +53,15 @@ public class ChannelServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private MessageRepository messageRepository;
-    @Mock
     private ReadStatusRepository readStatusRepository;
     @Mock
     private ChannelMapper channelMapper;
+    @Mock
+    private ChannelPurger channelPurger;
+    @Mock
+    private PresenceRegistry presenceRegistry;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private BasicChannelService channelService;
@@ -91,6 +101,7 @@ public class ChannelServiceTest {
 
     @Test
     @DisplayName("유효한 생성 요청으로 개인 채널을 생성할 수 있다.")
+    @SuppressWarnings("unchecked")
     void shouldCreatePrivateChannel_whenValidRequest() {
 
         // given
@@ -105,6 +116,9 @@ public class ChannelServiceTest {
                 privateCh.getType(), null, List.of(userDto));
 
         given(channelRepository.save(any(Channel.class))).willReturn(privateCh);
+        given(userRepository.findIdsByIdIn(createRequest.participantIds()))
+                .willReturn(List.of(user.getId()));
+        given(userRepository.getReferenceById(user.getId())).willReturn(user);
         given(channelMapper.toDto(any(Channel.class))).willReturn(privateChDto);
 
         // when
@@ -115,6 +129,44 @@ public class ChannelServiceTest {
         assertThat(result.name()).isNull();
         assertThat(result.description()).isNull();
         assertThat(result.participants()).containsExactly(userDto);
+        then(userRepository).should(never()).findAllById(any());
+        ArgumentCaptor<Iterable<ReadStatus>> captor = ArgumentCaptor.forClass(Iterable.class);
+        then(readStatusRepository).should().saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("개인 채널 조회 시 참여자를 한 번 조회해 PresenceRegistry에 등록하고 그대로 DTO로 변환한다.")
+    void shouldLoadParticipantPresence_whenFindingPrivateChannel() {
+
+        // given
+        User user = createUser("테스터", "tester@codeit.com", "tester1234");
+        UserStatus userStatus = UserStatus.builder()
+                .user(user)
+                .lastActiveAt(fixedTime)
+                .build();
+        user.setStatus(userStatus);
+        Channel privateCh = createPrivateChannel();
+        ReadStatus readStatus = ReadStatus.builder()
+                .user(user)
+                .channel(privateCh)
+                .lastReadAt(fixedTime)
+                .build();
+        ChannelDto privateChDto = new ChannelDto(privateCh.getId(), null, null,
+                privateCh.getType(), null, List.of());
+
+        given(channelRepository.findById(privateCh.getId())).willReturn(Optional.of(privateCh));
+        given(readStatusRepository.findAllByChannelIdInWithUser(List.of(privateCh.getId())))
+                .willReturn(List.of(readStatus));
+        given(channelMapper.toDto(privateCh, List.of(user))).willReturn(privateChDto);
+
+        // when
+        ChannelDto result = channelService.find(privateCh.getId());
+
+        // then
+        assertThat(result).isEqualTo(privateChDto);
+        then(presenceRegistry).should().loadIfOnline(user.getId(), userStatus);
+        then(channelMapper).should(never()).toDto(privateCh);
     }
 
     @Test
@@ -167,27 +219,26 @@ public class ChannelServiceTest {
     }
 
     @Test
-    @DisplayName("유효한 삭제 요청으로 채널을 삭제할 수 있다.")
-    void shouldDeleteChannel_whenValidRequest() {
+    @DisplayName("유효한 삭제 요청으로 채널을 삭제 대상으로 표시하고 메시지는 커밋 이후 삭제를 맡긴다.")
+    void shouldMarkChannelDeleted_whenValidRequest() {
 
         // given
         Channel publicCh = createPublicChannel("채널 삭제 테스트", "채널 삭제 테스트입니다.");
         UUID publicChId = publicCh.getId();
 
-        given(channelRepository.existsById(publicChId)).willReturn(true);
-
-        willDoNothing().given(messageRepository).deleteAllByChannelId(publicChId);
-        willDoNothing().given(readStatusRepository).deleteAllByChannelId(publicChId);
-        willDoNothing().given(channelRepository).deleteById(publicChId);
+        given(channelRepository.findById(publicChId)).willReturn(Optional.of(publicCh));
 
         // when
-        channelService.delete(publicChId);
+        ChannelDeletionDto result = channelService.delete(publicChId);
 
         // then
-        then(channelRepository).should().existsById(publicChId);
-        then(messageRepository).should().deleteAllByChannelId(publicChId);
+        assertThat(publicCh.isDeleted()).isTrue();
+        assertThat(result.status()).isEqualTo(ChannelDeletionDto.Status.PENDING);
+        assertThat(result.requestedAt()).isEqualTo(publicCh.getDeletedAt());
         then(readStatusRepository).should().deleteAllByChannelId(publicChId);
-        then(channelRepository).should().deleteById(publicChId);
+        then(eventPublisher).should()
+                .publishEvent(new ChannelDeletedEvent(publicChId, publicCh.getDeletedAt()));
+        then(channelRepository).should(never()).deleteById(any());
     }
 
     @Test
@@ -197,17 +248,30 @@ public class ChannelServiceTest {
         // given
         UUID channelId = UUID.randomUUID();
 
-        given(channelRepository.existsById(channelId)).willReturn(false);
+        given(channelRepository.findById(channelId)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> {
             channelService.delete(channelId);
         }).isInstanceOf(ChannelNotFoundException.class);
 
-        then(channelRepository).should().existsById(channelId);
-        then(messageRepository).shouldHaveNoInteractions();
+        then(channelRepository).should().findById(channelId);
         then(readStatusRepository).shouldHaveNoInteractions();
-        then(channelRepository).should(never()).deleteById(any());
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("삭제 요청이 없는 채널의 삭제 진행 상황을 조회하면 예외가 발생한다.")
+    void shouldThrowException_whenFindingDeletionOfUnknownChannel() {
+
+        // given
+        UUID channelId = UUID.randomUUID();
+
+        given(channelPurger.findProgress(channelId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> channelService.findDeletion(channelId))
+                .isInstanceOf(ChannelNotFoundException.class);
     }
 
     @Test
@@ -229,8 +293,8 @@ public class ChannelServiceTest {
 
         given(channelRepository.findAllPublicOrUserChannels(userId)).willReturn(
                 List.of(publicCh, privateCh));
-        given(channelMapper.toDto(publicCh)).willReturn(publicChannelDto);
-        given(channelMapper.toDto(privateCh)).willReturn(privateChannelDto);
+        given(channelMapper.toDtoList(List.of(publicCh, privateCh))).willReturn(
+                List.of(publicChannelDto, privateChannelDto));
 
         // when
         List<ChannelDto> channels = channelService.findAllByUserId(userId);
@@ -251,7 +315,7 @@ public class ChannelServiceTest {
                 publicCh.getDescription(), publicCh.getType(), fixedTime, List.of());
 
         given(channelRepository.findAllPublicOrUserChannels(userId)).willReturn(List.of(publicCh));
-        given(channelMapper.toDto(publicCh)).willReturn(publicChannelDto);
+        given(channelMapper.toDtoList(List.of(publicCh))).willReturn(List.of(publicChannelDto));
 
         // when
         List<ChannelDto> result = channelService.findAllByUserId(userId);
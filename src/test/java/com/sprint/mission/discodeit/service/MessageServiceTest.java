@@ -6,30 +6,38 @@ import static com.sprint.mission.discodeit.fixture.ChannelFixture.createChannel;
 import static com.sprint.mission.discodeit.fixture.MessageFixture.createMessage;
 import static com.sprint.mission.discodeit.fixture.MessageFixture.createMessageDto;
 import static com.sprint.mission.discodeit.fixture.MessageFixture.createMessageDtoWithAttachments;
+import static com.sprint.mission.discodeit.fixture.MessageFixture.createMessageRow;
 import static com.sprint.mission.discodeit.fixture.UserFixture.createUser;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentCreateRequest;
 import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentDto;
 import com.sprint.mission.discodeit.dto.Message.MessageCreateRequest;
+import com.sprint.mission.discodeit.dto.Message.MessageCursor;
 import com.sprint.mission.discodeit.dto.Message.MessageDto;
 import com.sprint.mission.discodeit.dto.Message.MessageUpdateRequest;
 import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
 import com.sprint.mission.discodeit.entity.Message;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.event.BinaryContentCreatedEvent;
+import com.sprint.mission.discodeit.event.MessageChangedEvent;
 import com.sprint.mission.discodeit.exception.Channel.ChannelNotFoundException;
+import com.sprint.mission.discodeit.exception.Message.InvalidMessageCursorException;
 import com.sprint.mission.discodeit.exception.Message.MessageNotFoundException;
 import com.sprint.mission.discodeit.exception.User.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.MessageMapper;
@@ -38,8 +46,9 @@ import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
 import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.repository.projection.MessageAttachmentRow;
+import com.sprint.mission.discodeit.repository.projection.MessageRow;
 import com.sprint.mission.discodeit.service.basic.BasicMessageService;
-import com.sprint.mission.discodeit.storage.BinaryContentStorage;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -50,9 +59,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -71,7 +83,7 @@ public class MessageServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private BinaryContentStorage binaryContentStorage;
+    private ApplicationEventPublisher eventPublisher;
     @Mock
     private MessageMapper messageMapper;
     @Mock
@@ -98,7 +110,8 @@ public class MessageServiceTest {
         BinaryContentDto attachmentDto = createBinaryContentDto(attachment);
         MessageCreateRequest createRequest = new MessageCreateRequest(content, userId, channelId);
         BinaryContentCreateRequest binaryRequest = new BinaryContentCreateRequest(
-                attachment.getFileName(), attachment.getContentType(), testBytes);
+                attachment.getFileName(), attachment.getContentType(), testBytes.length,
+                new ByteArrayResource(testBytes));
         Message message = createMessage(content, channel, user);
         MessageDto expectedDto = createMessageDtoWithAttachments(message, channel, user,
                 List.of(attachmentDto));
@@ -106,7 +119,6 @@ public class MessageServiceTest {
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(channelRepository.findById(channelId)).willReturn(Optional.of(channel));
         given(binaryContentRepository.saveAll(anyList())).willReturn(List.of(attachment));
-        given(binaryContentStorage.put(any(), any())).willReturn(attachmentId);
         given(messageRepository.save(any(Message.class))).willReturn(message);
         given(messageMapper.toDto(any(Message.class))).willReturn(expectedDto);
 
@@ -119,6 +131,10 @@ public class MessageServiceTest {
         assertThat(result.author().id()).isEqualTo(user.getId());
         assertThat(result.attachments()).hasSize(1);
         assertThat(result.attachments().get(0).id()).isEqualTo(attachmentId);
+
+        then(eventPublisher).should().publishEvent(any(BinaryContentCreatedEvent.class));
+        then(eventPublisher).should().publishEvent(MessageChangedEvent.created(expectedDto));
+        then(channelRepository).should().updateLastMessageAt(eq(channelId), any());
     }
 
     @Test
@@ -141,7 +157,7 @@ public class MessageServiceTest {
 
         then(userRepository).should().findById(userId);
         then(channelRepository).shouldHaveNoInteractions();
-        then(binaryContentStorage).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
         then(binaryContentRepository).shouldHaveNoInteractions();
         then(messageRepository).shouldHaveNoInteractions();
     }
@@ -167,7 +183,7 @@ public class MessageServiceTest {
 
         then(userRepository).should().findById(userId);
         then(channelRepository).should().findById(channelId);
-        then(binaryContentStorage).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
         then(binaryContentRepository).shouldHaveNoInteractions();
         then(messageRepository).shouldHaveNoInteractions();
     }
@@ -194,6 +210,8 @@ public class MessageServiceTest {
 
         // then
         assertThat(result.content()).isEqualTo(newContent);
+        then(eventPublisher).should()
+                .publishEvent(MessageChangedEvent.updated(messageDto));
     }
 
     @Test
@@ -225,15 +243,38 @@ public class MessageServiceTest {
         Message message = createMessage("테스트 메시지", channel, user);
         UUID messageId = message.getId();
 
-        given(messageRepository.existsById(messageId)).willReturn(true);
-        willDoNothing().given(messageRepository).deleteById(messageId);
+        given(messageRepository.findById(messageId)).willReturn(Optional.of(message));
+        willDoNothing().given(messageRepository).delete(message);
+
+        // when
+        messageService.delete(messageId);
+
+        // then
+        then(messageRepository).should().findById(messageId);
+        then(messageRepository).should().delete(message);
+        then(eventPublisher).should()
+                .publishEvent(MessageChangedEvent.deleted(channel.getId(), messageId));
+    }
+
+    @Test
+    @DisplayName("메시지를 삭제하면 채널의 마지막 메시지 시각 재계산을 조건부 UPDATE 에 맡긴다.")
+    void shouldResetChannelLastMessageAt_whenDeletingMessage() {
+
+        // given
+        Channel channel = createChannel(ChannelType.PUBLIC, "테스트 채널", "테스트 채널입니다.");
+        User user = createUser("테스터", "tester@codeit.com", "tester1234");
+        Message latest = createMessage("마지막 메시지", channel, user, fixedNow);
+        UUID messageId = UUID.randomUUID();
+
+        given(messageRepository.findById(messageId)).willReturn(Optional.of(latest));
 
         // when
         messageService.delete(messageId);
 
         // then
-        then(messageRepository).should().existsById(messageId);
-        then(messageRepository).should().deleteById(messageId);
+        InOrder inOrder = inOrder(messageRepository, channelRepository);
+        inOrder.verify(messageRepository).delete(latest);
+        inOrder.verify(channelRepository).resetLastMessageAt(channel.getId(), fixedNow);
     }
 
     @Test
@@ -243,19 +284,19 @@ public class MessageServiceTest {
         // given
         UUID messageId = UUID.randomUUID();
 
-        given(messageRepository.existsById(messageId)).willReturn(false);
+        given(messageRepository.findById(messageId)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> {
             messageService.delete(messageId);
         }).isInstanceOf(MessageNotFoundException.class);
 
-        then(messageRepository).should().existsById(messageId);
-        then(messageRepository).should(never()).deleteById(messageId);
+        then(messageRepository).should().findById(messageId);
+        then(messageRepository).should(never()).delete(any(Message.class));
     }
 
     @Test
-    @DisplayName("커서가 있는 경우, 해당 시각 이전의 메시지들만 조회된다.")
+    @DisplayName("커서가 있는 경우, 해당 위치 이전의 메시지들만 조회된다.")
     void shouldReturnMessagesBeforeCursor_whenCursorIsProvided() {
 
         // given
@@ -264,48 +305,48 @@ public class MessageServiceTest {
         UUID channelId = channel.getId();
         Pageable pageable = PageRequest.of(0, 10);
         Message msg1 = createMessage("메시지1", channel, user);
-        Message msg2 = createMessage("메시지2", channel, user);
         Instant msg1Time = fixedNow.minusSeconds(30);
-        Instant msg2Time = fixedNow.minusSeconds(10);
         Instant targetTime = fixedNow.minusSeconds(20);
-        List<Message> messages = List.of(msg1);
-        List<MessageDto> messageDtos = List.of(
-                createMessageDto(msg1, channel, user, msg1Time)
-        );
-        Slice<Message> messageSlice = new SliceImpl<>(messages, pageable, true);
+        UUID targetId = UUID.randomUUID();
+        String cursor = new MessageCursor(targetTime, targetId).encode();
+        MessageRow row = createMessageRow(msg1, channel, user, msg1Time);
+        MessageDto messageDto = createMessageDto(msg1, channel, user, msg1Time);
+        Slice<MessageRow> rowSlice = new SliceImpl<>(List.of(row), pageable, true);
+        String nextCursor = MessageCursor.from(messageDto).encode();
 
         given(channelRepository.existsById(channelId)).willReturn(true);
-        given(messageRepository.findAllByChannelIdWithAuthor(eq(channelId), any(),
-                eq(pageable))).willReturn(messageSlice);
-        given(messageMapper.toDto(eq(msg1))).willReturn(messageDtos.get(0));
+        given(messageRepository.findPageByChannelId(eq(channelId), eq(targetTime),
+                eq(targetId), eq(pageable))).willReturn(rowSlice);
+        given(messageRepository.findAttachmentsByMessageIdIn(List.of(msg1.getId())))
+                .willReturn(List.of());
+        given(messageMapper.toDto(eq(row), anyList())).willReturn(messageDto);
         given(pageResponseMapper.fromSlice(
                 ArgumentMatchers.<Slice<MessageDto>>any(),
-                any()
+                eq(nextCursor)
         )).willReturn(new PageResponse<>(
-                messageDtos,
-                messageDtos.get(0).createdAt(),
-                messageDtos.size(),
+                List.of(messageDto),
+                nextCursor,
+                1,
                 true,
                 null
         ));
 
         // when
-        PageResponse<MessageDto> result = messageService.findAllByChannelId(channelId, targetTime,
+        PageResponse<MessageDto> result = messageService.findAllByChannelId(channelId, cursor,
                 pageable);
 
         // then
         assertThat(result.content()).hasSize(1);
         assertThat(result.content().get(0).content()).isEqualTo("메시지1");
-        assertThat(result.nextCursor()).isEqualTo(messageDtos.get(0).createdAt());
+        assertThat(result.nextCursor()).isEqualTo(nextCursor);
 
-        then(messageRepository).should().findAllByChannelIdWithAuthor(eq(channelId), eq(targetTime),
-                eq(pageable));
-        then(messageMapper).should().toDto(any());
-        then(pageResponseMapper).should().fromSlice(any(), any());
+        then(messageRepository).should().findPageByChannelId(eq(channelId), eq(targetTime),
+                eq(targetId), eq(pageable));
+        then(pageResponseMapper).should().fromSlice(any(), eq(nextCursor));
     }
 
     @Test
-    @DisplayName("커서가 없는 경우, 현재 시각 기준으로 메시지들을 조회한다.")
+    @DisplayName("커서가 없는 경우, 현재 시각 기준으로 메시지와 첨부파일을 한 번에 조회한다.")
     void shouldReturnMessagesBeforeCurrentTime_whenCursorNotProvided() {
 
         // given
@@ -314,29 +355,38 @@ public class MessageServiceTest {
         UUID channelId = channel.getId();
         Pageable pageable = PageRequest.of(0, 10);
         Message msg1 = createMessage("메시지1", channel, user);
-        Message msg2 = createMessage("메시지2", channel, user);
+        Message msg2 = createMessage("메시지2", channel, null);
         Instant msg1Time = fixedNow.minusSeconds(30);
         Instant msg2Time = fixedNow.minusSeconds(10);
-        List<Message> messages = List.of(msg1, msg2);
-        List<MessageDto> messageDtos = List.of(
-                createMessageDto(msg1, channel, user, msg1Time),
-                createMessageDto(msg2, channel, user, msg2Time)
-        );
-        Slice<Message> messageSlice = new SliceImpl<>(messages, pageable, true);
+        MessageRow row1 = createMessageRow(msg1, channel, user, msg1Time);
+        MessageRow row2 = createMessageRow(msg2, channel, null, msg2Time);
+        MessageAttachmentRow attachmentRow = new MessageAttachmentRow(msg1.getId(),
+                UUID.randomUUID(), "test.png", 1024L, "image/png", BinaryContentStatus.READY);
+        BinaryContentDto attachmentDto = new BinaryContentDto(attachmentRow.id(),
+                attachmentRow.fileName(), attachmentRow.size(), attachmentRow.contentType(),
+                attachmentRow.status());
+        MessageDto dto1 = createMessageDtoWithAttachments(msg1, channel, user,
+                List.of(attachmentDto));
+        MessageDto dto2 = new MessageDto(msg2.getId(), msg2Time, msg2Time, msg2.getContent(),
+                channelId, null, List.of());
+        Slice<MessageRow> rowSlice = new SliceImpl<>(List.of(row1, row2), pageable, false);
 
         given(channelRepository.existsById(channelId)).willReturn(true);
-        given(messageRepository.findAllByChannelIdWithAuthor(eq(channelId), any(),
-                eq(pageable))).willReturn(messageSlice);
-        given(messageMapper.toDto(eq(msg1))).willReturn(messageDtos.get(0));
-        given(messageMapper.toDto(eq(msg2))).willReturn(messageDtos.get(1));
+        given(messageRepository.findPageByChannelId(eq(channelId), any(), any(),
+                eq(pageable))).willReturn(rowSlice);
+        given(messageRepository.findAttachmentsByMessageIdIn(
+                List.of(msg1.getId(), msg2.getId()))).willReturn(List.of(attachmentRow));
+        given(messageMapper.toDto(attachmentRow)).willReturn(attachmentDto);
+        given(messageMapper.toDto(row1, List.of(attachmentDto))).willReturn(dto1);
+        given(messageMapper.toDto(row2, List.of())).willReturn(dto2);
         given(pageResponseMapper.fromSlice(
                 ArgumentMatchers.<Slice<MessageDto>>any(),
                 any()
         )).willReturn(new PageResponse<>(
-                messageDtos,
-                messageDtos.get(1).createdAt(),
-                messageDtos.size(),
-                true,
+                List.of(dto1, dto2),
+                null,
+                2,
+                false,
                 null
         ));
 
@@ -346,13 +396,14 @@ public class MessageServiceTest {
 
         // then
         assertThat(result.content()).hasSize(2);
-        assertThat(result.content().get(0).content()).isEqualTo("메시지1");
-        assertThat(result.nextCursor()).isEqualTo(messageDtos.get(1).createdAt());
+        assertThat(result.content().get(0).attachments()).containsExactly(attachmentDto);
+        assertThat(result.content().get(1).author()).isNull();
+        assertThat(result.nextCursor()).isNull();
 
         then(messageRepository).should()
-                .findAllByChannelIdWithAuthor(eq(channelId), any(), eq(pageable));
-        then(messageMapper).should(times(2)).toDto(any());
-        then(pageResponseMapper).should().fromSlice(any(), any());
+                .findPageByChannelId(eq(channelId), any(), any(), eq(pageable));
+        then(messageRepository).should(times(1)).findAttachmentsByMessageIdIn(anyList());
+        then(pageResponseMapper).should().fromSlice(any(), isNull());
     }
 
     @Test
@@ -372,4 +423,21 @@ public class MessageServiceTest {
         then(channelRepository).should().existsById(channelId);
         then(messageRepository).shouldHaveNoInteractions();
     }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 커서로 조회 요청시 예외가 발생한다.")
+    void shouldThrowException_whenCursorIsMalformed() {
+
+        // given
+        UUID channelId = UUID.randomUUID();
+
+        given(channelRepository.existsById(channelId)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> {
+            messageService.findAllByChannelId(channelId, "not-a-cursor", PageRequest.of(0, 10));
+        }).isInstanceOf(InvalidMessageCursorException.class);
+
+        then(messageRepository).shouldHaveNoInteractions();
+    }
 }
\ No newline at end of file
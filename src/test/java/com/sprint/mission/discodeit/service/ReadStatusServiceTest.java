@@ -0,0 +1,226 @@
+package com.sprint.mission.discodeit.service;
+
+import static com.sprint.mission.discodeit.fixture.ChannelFixture.createPublicChannel;
+import static com.sprint.mission.discodeit.fixture.UserFixture.createUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusBulkUpdateRequest;
+import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusCreateRequest;
+import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusDto;
+import com.sprint.mission.discodeit.dto.ReadStatus.ReadStatusUpdateRequest;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.exception.Channel.ChannelNotFoundException;
+import com.sprint.mission.discodeit.exception.ReadStatus.ReadStatusAlreadyExistsException;
+import com.sprint.mission.discodeit.mapper.ReadStatusMapper;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.repository.ReadStatusRepository;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.service.basic.BasicReadStatusService;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadStatusService 단위 테스트")
+public class ReadStatusServiceTest {
+
+    @Mock
+    private ReadStatusRepository readStatusRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private ChannelRepository channelRepository;
+    @Mock
+    private MessageRepository messageRepository;
+    @Mock
+    private ReadStatusMapper readStatusMapper;
+
+    @InjectMocks
+    private BasicReadStatusService readStatusService;
+
+    private final Instant lastReadAt = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    @DisplayName("여러 채널의 읽음 시각을 한 번의 upsert로 반영한다.")
+    void shouldUpsertAllChannels_whenBulkUpdating() {
+
+        // given
+        User user = createUser("테스터", "tester@codeit.com", "test1234");
+        Channel channel1 = createPublicChannel("채널1", "설명1");
+        Channel channel2 = createPublicChannel("채널2", "설명2");
+        UUID userId = user.getId();
+        Map<UUID, Instant> lastReadAts = Map.of(
+                channel1.getId(), lastReadAt,
+                channel2.getId(), lastReadAt.plusSeconds(10));
+        ReadStatusBulkUpdateRequest request = new ReadStatusBulkUpdateRequest(userId, lastReadAts);
+        ReadStatus readStatus1 = new ReadStatus(user, channel1, lastReadAt);
+        ReadStatus readStatus2 = new ReadStatus(user, channel2, lastReadAt.plusSeconds(10));
+
+        given(userRepository.existsById(userId)).willReturn(true);
+        given(channelRepository.findIdsByIdIn(lastReadAts.keySet()))
+                .willReturn(List.of(channel1.getId(), channel2.getId()));
+        given(readStatusRepository.findAllByUserIdAndChannelIdIn(userId, lastReadAts.keySet()))
+                .willReturn(List.of(readStatus1, readStatus2));
+        given(readStatusMapper.toDto(any(ReadStatus.class))).willAnswer(invocation -> {
+            ReadStatus readStatus = invocation.getArgument(0);
+            return new ReadStatusDto(readStatus.getId(), userId, readStatus.getChannel().getId(),
+                    readStatus.getLastReadAt(), 0);
+        });
+
+        // when
+        List<ReadStatusDto> result = readStatusService.updateAll(request);
+
+        // then
+        then(readStatusRepository).should()
+                .upsertLastReadAts(any(UUID.class), any(), any(Instant.class));
+        then(readStatusRepository).should(never()).findById(any());
+        assertThat(result)
+                .extracting(ReadStatusDto::channelId)
+                .containsExactlyInAnyOrder(channel1.getId(), channel2.getId());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 채널이 포함되면 아무것도 반영하지 않고 예외가 발생한다.")
+    void shouldThrowException_whenBulkUpdatingNonExistentChannel() {
+
+        // given
+        UUID userId = UUID.randomUUID();
+        UUID existingChannelId = UUID.randomUUID();
+        UUID missingChannelId = UUID.randomUUID();
+        ReadStatusBulkUpdateRequest request = new ReadStatusBulkUpdateRequest(userId,
+                Map.of(existingChannelId, lastReadAt, missingChannelId, lastReadAt));
+
+        given(userRepository.existsById(userId)).willReturn(true);
+        given(channelRepository.findIdsByIdIn(anyCollection()))
+                .willReturn(List.of(existingChannelId));
+
+        // when & then
+        assertThatThrownBy(() -> readStatusService.updateAll(request))
+                .isInstanceOf(ChannelNotFoundException.class);
+        then(readStatusRepository).should(never())
+                .upsertLastReadAts(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("이미 존재하는 ReadStatus 생성 시 유니크 제약 위반을 중복 예외로 변환한다.")
+    void shouldThrowAlreadyExists_whenUniqueConstraintViolated() {
+
+        // given
+        User user = createUser("테스터", "tester@codeit.com", "test1234");
+        Channel channel = createPublicChannel("채널", "설명");
+        ReadStatusCreateRequest request = new ReadStatusCreateRequest(user.getId(),
+                channel.getId(), lastReadAt);
+
+        given(userRepository.existsById(user.getId())).willReturn(true);
+        given(channelRepository.existsById(channel.getId())).willReturn(true);
+        given(userRepository.getReferenceById(user.getId())).willReturn(user);
+        given(channelRepository.getReferenceById(channel.getId())).willReturn(channel);
+        given(readStatusRepository.saveAndFlush(any(ReadStatus.class)))
+                .willThrow(constraintViolation("PUBLIC.UK_READ_STATUSES_USER_ID_CHANNEL_ID_INDEX_8"));
+
+        // when & then
+        assertThatThrownBy(() -> readStatusService.create(request))
+                .isInstanceOf(ReadStatusAlreadyExistsException.class);
+    }
+
+    @Test
+    @DisplayName("ReadStatus 생성 시 유니크 제약이 아닌 제약 위반은 그대로 던진다.")
+    void shouldRethrow_whenOtherConstraintViolated() {
+
+        // given
+        User user = createUser("테스터", "tester@codeit.com", "test1234");
+        Channel channel = createPublicChannel("채널", "설명");
+        ReadStatusCreateRequest request = new ReadStatusCreateRequest(user.getId(),
+                channel.getId(), lastReadAt);
+
+        given(userRepository.existsById(user.getId())).willReturn(true);
+        given(channelRepository.existsById(channel.getId())).willReturn(true);
+        given(userRepository.getReferenceById(user.getId())).willReturn(user);
+        given(channelRepository.getReferenceById(channel.getId())).willReturn(channel);
+        given(readStatusRepository.saveAndFlush(any(ReadStatus.class)))
+                .willThrow(constraintViolation("fk_channel_id_read_statuses"));
+
+        // when & then
+        assertThatThrownBy(() -> readStatusService.create(request))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("ReadStatus 생성 시 lastReadAt 이후 메시지 수로 안 읽은 메시지 수를 채운다.")
+    void shouldCountUnreadMessages_whenCreating() {
+
+        // given
+        User user = createUser("테스터", "tester@codeit.com", "test1234");
+        Channel channel = createPublicChannel("채널", "설명");
+        ReadStatusCreateRequest request = new ReadStatusCreateRequest(user.getId(),
+                channel.getId(), lastReadAt);
+
+        given(userRepository.existsById(user.getId())).willReturn(true);
+        given(channelRepository.existsById(channel.getId())).willReturn(true);
+        given(userRepository.getReferenceById(user.getId())).willReturn(user);
+        given(channelRepository.getReferenceById(channel.getId())).willReturn(channel);
+        given(messageRepository.countUnread(channel.getId(), user.getId(), lastReadAt))
+                .willReturn(3L);
+
+        // when
+        readStatusService.create(request);
+
+        // then
+        ArgumentCaptor<ReadStatus> captor = ArgumentCaptor.forClass(ReadStatus.class);
+        then(readStatusRepository).should().saveAndFlush(captor.capture());
+        assertThat(captor.getValue().getUnreadCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("ReadStatus 수정 시 새 lastReadAt 기준으로 안 읽은 메시지 수를 다시 계산한다.")
+    void shouldRecountUnreadMessages_whenUpdating() {
+
+        // given
+        User user = createUser("테스터", "tester@codeit.com", "test1234");
+        Channel channel = createPublicChannel("채널", "설명");
+        ReadStatus readStatus = new ReadStatus(user, channel, lastReadAt);
+        ReflectionTestUtils.setField(readStatus, "id", UUID.randomUUID());
+        readStatus.updateUnreadCount(5);
+        Instant newLastReadAt = lastReadAt.plusSeconds(60);
+
+        given(readStatusRepository.findById(readStatus.getId()))
+                .willReturn(Optional.of(readStatus));
+        given(messageRepository.countUnread(channel.getId(), user.getId(), newLastReadAt))
+                .willReturn(0L);
+
+        // when
+        readStatusService.update(readStatus.getId(), new ReadStatusUpdateRequest(newLastReadAt));
+
+        // then
+        assertThat(readStatus.getLastReadAt()).isEqualTo(newLastReadAt);
+        assertThat(readStatus.getUnreadCount()).isZero();
+    }
+
+    private DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("constraint violation",
+                new ConstraintViolationException("constraint violation", new SQLException(),
+                        constraintName));
+    }
+}
@@ -6,34 +6,72 @@ import static com.sprint.mission.discodeit.fixture.UserFixture.createUserDto;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 
+import com.sprint.mission.discodeit.config.UserSearchProperties;
 import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.dto.User.UserBulkCreateRequest;
 import com.sprint.mission.discodeit.dto.User.UserCreateRequest;
+import com.sprint.mission.discodeit.dto.User.UserCursor;
 import com.sprint.mission.discodeit.dto.User.UserDto;
 import com.sprint.mission.discodeit.dto.User.UserUpdateRequest;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.event.BinaryContentCreatedEvent;
+import com.sprint.mission.discodeit.event.UserChangedEvent;
+import com.sprint.mission.discodeit.exception.User.InvalidUserCursorException;
 import com.sprint.mission.discodeit.exception.User.UserAlreadyExistsException;
 import com.sprint.mission.discodeit.exception.User.UserNotFoundException;
+import com.sprint.mission.discodeit.mapper.PageResponseMapper;
 import com.sprint.mission.discodeit.mapper.UserMapper;
+import com.sprint.mission.discodeit.presence.PresenceRegistry;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import com.sprint.mission.discodeit.repository.UserBulkRepository.NewUserRow;
 import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.repository.projection.UserIdentityRow;
+import com.sprint.mission.discodeit.repository.projection.UserRow;
+import com.sprint.mission.discodeit.search.UserSearchIndex;
+import com.sprint.mission.discodeit.security.LoginAttemptGuard;
+import com.sprint.mission.discodeit.security.PasswordHasher;
 import com.sprint.mission.discodeit.service.basic.BasicUserService;
-import com.sprint.mission.discodeit.storage.BinaryContentStorage;
 import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("UserService 단위 테스트")
@@ -44,9 +82,24 @@ public class UserServiceTest {
     @Mock
     private BinaryContentRepository binaryContentRepository;
     @Mock
-    private BinaryContentStorage binaryContentStorage;
+    private ApplicationEventPublisher eventPublisher;
     @Mock
     private UserMapper userMapper;
+    @Mock
+    private PresenceRegistry presenceRegistry;
+    @Mock
+    private PasswordHasher passwordHasher;
+    @Mock
+    private LoginAttemptGuard loginAttemptGuard;
+    @Mock
+    private PageResponseMapper pageResponseMapper;
+    @Mock
+    private UserSearchIndex userSearchIndex;
+    @Spy
+    private UserSearchProperties userSearchProperties = new UserSearchProperties();
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(
+            mock(PlatformTransactionManager.class));
 
     @InjectMocks
     private BasicUserService userService;
@@ -64,15 +117,14 @@ public class UserServiceTest {
         UserCreateRequest userCreateRequest = new UserCreateRequest(name, email, password);
         BinaryContent profile = createBinaryContent("테스트 프로필", 1024L, "image/png");
         BinaryContentCreateRequest profileCreateRequest = new BinaryContentCreateRequest(
-                profile.getFileName(), profile.getContentType(), testBytes);
+                profile.getFileName(), profile.getContentType(), testBytes.length,
+                new ByteArrayResource(testBytes));
         User user = createUser(name, email, password);
         UserDto expectedDto = createUserDto(user, profile);
         UUID profileId = profile.getId();
 
-        given(userRepository.existsByUsername(name)).willReturn(false);
-        given(userRepository.existsByEmail(email)).willReturn(false);
+        given(userRepository.findIdentitiesByUsernameOrEmail(name, email)).willReturn(List.of());
         given(binaryContentRepository.save(any(BinaryContent.class))).willReturn(profile);
-        given(binaryContentStorage.put(any(), any())).willReturn(profileId);
         given(userMapper.toDto(any(User.class))).willReturn(expectedDto);
 
         // when
@@ -84,7 +136,7 @@ public class UserServiceTest {
         assertThat(result.profile().id()).isEqualTo(profileId);
 
         then(binaryContentRepository).should().save(any(BinaryContent.class));
-        then(binaryContentStorage).should().put(any(), eq(testBytes));
+        then(eventPublisher).should().publishEvent(any(BinaryContentCreatedEvent.class));
     }
 
     @Test
@@ -99,8 +151,8 @@ public class UserServiceTest {
         User user = createUser(name, email, password);
         UserDto userDto = createUserDto(user);
 
-        given(userRepository.existsByUsername(name)).willReturn(false);
-        given(userRepository.existsByEmail(email)).willReturn(false);
+        given(userRepository.findIdentitiesByUsernameOrEmail(name, email)).willReturn(List.of());
+        given(passwordHasher.hash(password)).willReturn("hashed-password");
         given(userMapper.toDto(any(User.class))).willReturn(userDto);
 
         // when
@@ -111,8 +163,14 @@ public class UserServiceTest {
         assertThat(result.email()).isEqualTo(email);
         assertThat(result.profile()).isNull();
 
+        then(userRepository).should().saveAndFlush(argThat(saved ->
+                saved.getPassword().equals("hashed-password")));
         then(binaryContentRepository).shouldHaveNoInteractions();
-        then(binaryContentStorage).shouldHaveNoInteractions();
+        then(eventPublisher).should(never()).publishEvent(any(BinaryContentCreatedEvent.class));
+        then(eventPublisher).should().publishEvent(argThat((Object event) ->
+                event instanceof UserChangedEvent changed
+                        && changed.type() == UserChangedEvent.Type.CREATED
+                        && changed.username().equals(name)));
     }
 
     @Test
@@ -125,17 +183,18 @@ public class UserServiceTest {
         String password = "test1234";
         UserCreateRequest userCreateRequest = new UserCreateRequest(name, email, password);
 
-        given(userRepository.existsByUsername(name)).willReturn(true);
+        given(userRepository.findIdentitiesByUsernameOrEmail(name, email)).willReturn(
+                List.of(new UserIdentityRow(UUID.randomUUID(), name, "other@codeit.com")));
 
         // when & then
         assertThatThrownBy(() -> {
             userService.create(userCreateRequest, null);
         }).isInstanceOf(UserAlreadyExistsException.class);
 
-        then(userRepository).should().existsByUsername(name);
+        then(userRepository).should().findIdentitiesByUsernameOrEmail(name, email);
         then(binaryContentRepository).shouldHaveNoInteractions();
-        then(binaryContentStorage).shouldHaveNoInteractions();
-        then(userRepository).should(never()).save(any(User.class));
+        then(eventPublisher).shouldHaveNoInteractions();
+        then(userRepository).should(never()).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -148,17 +207,18 @@ public class UserServiceTest {
         String password = "test1234";
         UserCreateRequest userCreateRequest = new UserCreateRequest(name, email, password);
 
-        given(userRepository.existsByEmail(email)).willReturn(true);
+        given(userRepository.findIdentitiesByUsernameOrEmail(name, email)).willReturn(
+                List.of(new UserIdentityRow(UUID.randomUUID(), "다른유저", email)));
 
         // when & then
         assertThatThrownBy(() -> {
             userService.create(userCreateRequest, null);
         }).isInstanceOf(UserAlreadyExistsException.class);
 
-        then(userRepository).should().existsByEmail(email);
+        then(userRepository).should().findIdentitiesByUsernameOrEmail(name, email);
         then(binaryContentRepository).shouldHaveNoInteractions();
-        then(binaryContentStorage).shouldHaveNoInteractions();
-        then(userRepository).should(never()).save(any(User.class));
+        then(eventPublisher).shouldHaveNoInteractions();
+        then(userRepository).should(never()).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -175,16 +235,15 @@ public class UserServiceTest {
         byte[] newProfileImage = "테스트 이미지".getBytes();
         UserUpdateRequest updateRequest = new UserUpdateRequest(newName, newEmail, newPassword);
         BinaryContentCreateRequest profileCreateRequest = new BinaryContentCreateRequest(
-                profile.getFileName(), profile.getContentType(), newProfileImage);
+                profile.getFileName(), profile.getContentType(), newProfileImage.length,
+                new ByteArrayResource(newProfileImage));
         User newUser = createUser(newName, newEmail, newPassword);
         UserDto expectedDto = createUserDto(newUser, profile);
 
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(userRepository.existsByUsername(newName)).willReturn(false);
-        given(userRepository.existsByEmail(newEmail)).willReturn(false);
+        given(userRepository.findIdentitiesByUsernameOrEmail(newName, newEmail)).willReturn(
+                List.of());
         given(binaryContentRepository.save(any(BinaryContent.class))).willReturn(profile);
-        given(binaryContentStorage.put(any(), eq(newProfileImage))).willReturn(
-                profile.getId());
         given(userMapper.toDto(any(User.class))).willReturn(expectedDto);
 
         // when
@@ -196,10 +255,9 @@ public class UserServiceTest {
         assertThat(result.profile()).isNotNull();
 
         then(userRepository).should().findById(userId);
-        then(userRepository).should().existsByUsername(newName);
-        then(userRepository).should().existsByEmail(newEmail);
+        then(userRepository).should().findIdentitiesByUsernameOrEmail(newName, newEmail);
         then(binaryContentRepository).should().save(any(BinaryContent.class));
-        then(binaryContentStorage).should().put(any(), eq(newProfileImage));
+        then(eventPublisher).should().publishEvent(any(BinaryContentCreatedEvent.class));
     }
 
     @Test
@@ -215,18 +273,18 @@ public class UserServiceTest {
         UserUpdateRequest updateRequest = new UserUpdateRequest(newName, newEmail, newPassword);
 
         given(userRepository.findById(userId)).willReturn(Optional.of(originalUser));
-        given(userRepository.existsByUsername(newName)).willReturn(true);
+        given(userRepository.findIdentitiesByUsernameOrEmail(newName, newEmail)).willReturn(
+                List.of(new UserIdentityRow(UUID.randomUUID(), newName, "other@codeit.com")));
 
         // when & then
         assertThatThrownBy(() -> {
             userService.update(userId, updateRequest, null);
         }).isInstanceOf(UserAlreadyExistsException.class);
 
-        then(userRepository).should().existsByUsername(newName);
-        then(userRepository).should(never()).existsByEmail(newEmail);
+        then(userRepository).should().findIdentitiesByUsernameOrEmail(newName, newEmail);
         then(binaryContentRepository).shouldHaveNoInteractions();
-        then(binaryContentStorage).shouldHaveNoInteractions();
-        then(userRepository).should(never()).save(any(User.class));
+        then(eventPublisher).shouldHaveNoInteractions();
+        then(userRepository).should(never()).saveAndFlush(any(User.class));
     }
 
     @Test
@@ -242,18 +300,275 @@ public class UserServiceTest {
         UserUpdateRequest updateRequest = new UserUpdateRequest(newName, newEmail, newPassword);
 
         given(userRepository.findById(userId)).willReturn(Optional.of(originalUser));
-        given(userRepository.existsByUsername(newName)).willReturn(false);
-        given(userRepository.existsByEmail(newEmail)).willReturn(true);
+        given(userRepository.findIdentitiesByUsernameOrEmail(newName, newEmail)).willReturn(
+                List.of(new UserIdentityRow(UUID.randomUUID(), "다른유저", newEmail)));
 
         // when & then
         assertThatThrownBy(() -> {
             userService.update(userId, updateRequest, null);
         }).isInstanceOf(UserAlreadyExistsException.class);
 
-        then(userRepository).should().existsByEmail(newEmail);
+        then(userRepository).should().findIdentitiesByUsernameOrEmail(newName, newEmail);
         then(binaryContentRepository).shouldHaveNoInteractions();
-        then(binaryContentStorage).shouldHaveNoInteractions();
-        then(userRepository).should(never()).save(any(User.class));
+        then(eventPublisher).shouldHaveNoInteractions();
+        then(userRepository).should(never()).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    @DisplayName("유저명/이메일을 바꾸지 않는 수정 요청은 중복 검사를 하지 않는다.")
+    void shouldSkipUniquenessCheck_whenUsernameAndEmailUnchanged() {
+
+        // given
+        User user = createUser("테스터", "tester@codeit.com", "tester1234");
+        UUID userId = user.getId();
+        UserUpdateRequest updateRequest = new UserUpdateRequest("테스터", "tester@codeit.com",
+                "newpass1234");
+
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(userMapper.toDto(any(User.class))).willReturn(createUserDto(user));
+
+        // when
+        userService.update(userId, updateRequest, null);
+
+        // then
+        then(userRepository).should(never())
+                .findIdentitiesByUsernameOrEmail(nullable(String.class), nullable(String.class));
+        then(userRepository).should().saveAndFlush(user);
+    }
+
+    @Test
+    @DisplayName("바뀌는 필드만 중복 검사하며, 조회 결과가 자기 자신이면 충돌로 보지 않는다.")
+    void shouldCheckOnlyChangedField_whenUpdatingEmailOnly() {
+
+        // given
+        User user = createUser("테스터", "tester@codeit.com", "tester1234");
+        UUID userId = user.getId();
+        String newEmail = "new@codeit.com";
+        UserUpdateRequest updateRequest = new UserUpdateRequest("테스터", newEmail, null);
+
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(userRepository.findIdentitiesByUsernameOrEmail(null, newEmail)).willReturn(
+                List.of(new UserIdentityRow(userId, "테스터", newEmail)));
+        given(userMapper.toDto(any(User.class))).willReturn(createUserDto(user));
+
+        // when
+        userService.update(userId, updateRequest, null);
+
+        // then
+        then(userRepository).should().findIdentitiesByUsernameOrEmail(null, newEmail);
+        then(userRepository).should().saveAndFlush(user);
+    }
+
+    @Test
+    @DisplayName("사전 검사 이후 유니크 제약 위반이 발생하면 UserAlreadyExistsException으로 변환한다.")
+    void shouldTranslateConstraintViolation_whenConcurrentCreate() {
+
+        // given
+        String name = "테스트유저";
+        String email = "test@codeit.com";
+        UserCreateRequest userCreateRequest = new UserCreateRequest(name, email, "test1234");
+
+        given(userRepository.findIdentitiesByUsernameOrEmail(name, email)).willReturn(List.of());
+        given(userRepository.saveAndFlush(any(User.class)))
+                .willThrow(constraintViolation("PUBLIC.UK_USERS_USERNAME_INDEX_4"));
+
+        // when & then
+        assertThatThrownBy(() -> userService.create(userCreateRequest, null))
+                .isInstanceOfSatisfying(UserAlreadyExistsException.class, e -> {
+                    assertThat(e.getUserName()).isEqualTo(name);
+                    assertThat(e.getEmail()).isNull();
+                });
+    }
+
+    @Test
+    @DisplayName("사전 검사 이후 이메일 유니크 제약 위반이 발생하면 충돌한 이메일로 알린다.")
+    void shouldReportConflictingEmail_whenConcurrentUpdateViolatesEmailConstraint() {
+
+        // given
+        User user = createUser("테스터", "tester@codeit.com", "tester1234");
+        UUID userId = user.getId();
+        String newEmail = "new@codeit.com";
+        UserUpdateRequest updateRequest = new UserUpdateRequest("테스터", newEmail, null);
+
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(userRepository.findIdentitiesByUsernameOrEmail(null, newEmail)).willReturn(List.of());
+        given(userRepository.saveAndFlush(user)).willThrow(constraintViolation("uk_users_email"));
+
+        // when & then
+        assertThatThrownBy(() -> userService.update(userId, updateRequest, null))
+                .isInstanceOfSatisfying(UserAlreadyExistsException.class, e -> {
+                    assertThat(e.getEmail()).isEqualTo(newEmail);
+                    assertThat(e.getUserName()).isNull();
+                });
+    }
+
+    @Test
+    @DisplayName("유저명/이메일 외의 제약 위반은 중복으로 바꾸지 않고 그대로 전달한다.")
+    void shouldRethrow_whenOtherConstraintViolated() {
+
+        // given
+        String name = "테스트유저";
+        String email = "test@codeit.com";
+        UserCreateRequest userCreateRequest = new UserCreateRequest(name, email, "test1234");
+
+        given(userRepository.findIdentitiesByUsernameOrEmail(name, email)).willReturn(List.of());
+        given(userRepository.saveAndFlush(any(User.class)))
+                .willThrow(constraintViolation("fk_profile_id_users"));
+
+        // when & then
+        assertThatThrownBy(() -> userService.create(userCreateRequest, null))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("유저 생성 시 패스워드는 트랜잭션을 시작하기 전에 해시한다.")
+    void shouldHashPasswordBeforeTransaction_whenCreatingUser() {
+
+        // given
+        UserCreateRequest userCreateRequest = new UserCreateRequest("테스트유저",
+                "test@codeit.com", "test1234");
+
+        given(userRepository.findIdentitiesByUsernameOrEmail("테스트유저", "test@codeit.com"))
+                .willReturn(List.of());
+        given(passwordHasher.hash("test1234")).willReturn("hashed");
+
+        // when
+        userService.create(userCreateRequest, null);
+
+        // then
+        InOrder inOrder = inOrder(userRepository, passwordHasher, transactionTemplate);
+        inOrder.verify(userRepository).findIdentitiesByUsernameOrEmail("테스트유저",
+                "test@codeit.com");
+        inOrder.verify(passwordHasher).hash("test1234");
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(userRepository).saveAndFlush(argThat(user ->
+                "hashed".equals(user.getPassword())));
+    }
+
+    @Test
+    @DisplayName("대량 등록은 한 번의 중복 조회 후 JDBC batch로 저장한다.")
+    void shouldInsertAllInBatch_whenBulkRequestHasNoConflict() {
+
+        // given
+        UserBulkCreateRequest bulkRequest = new UserBulkCreateRequest(List.of(
+                new UserCreateRequest("유저1", "user1@codeit.com", "pass1234"),
+                new UserCreateRequest("유저2", "user2@codeit.com", "pass1234")
+        ));
+
+        given(userRepository.findIdentitiesByUsernameInOrEmailIn(anyCollection(),
+                anyCollection())).willReturn(List.of());
+        given(passwordHasher.hashAll(List.of("pass1234", "pass1234")))
+                .willReturn(List.of("hashed-1", "hashed-2"));
+        given(userMapper.toDto(any(NewUserRow.class))).willAnswer(invocation -> {
+            NewUserRow row = invocation.getArgument(0);
+            return new UserDto(row.id(), row.username(), row.email(), null, false);
+        });
+
+        // when
+        List<UserDto> result = userService.createAll(bulkRequest);
+
+        // then
+        assertThat(result)
+                .extracting(UserDto::username)
+                .containsExactly("유저1", "유저2");
+        then(userRepository).should().findIdentitiesByUsernameInOrEmailIn(anyCollection(),
+                anyCollection());
+        then(userRepository).should().insertAllWithStatus(anyList());
+        then(loginAttemptGuard).should().forgetUnknown("유저1");
+        then(loginAttemptGuard).should().forgetUnknown("유저2");
+
+        InOrder inOrder = inOrder(passwordHasher, transactionTemplate, userRepository);
+        inOrder.verify(passwordHasher).hashAll(anyList());
+        inOrder.verify(transactionTemplate).executeWithoutResult(any());
+        inOrder.verify(userRepository).insertAllWithStatus(anyList());
+    }
+
+    @Test
+    @DisplayName("대량 등록 요청 안에 같은 유저명이 있으면 DB 조회 없이 예외가 발생한다.")
+    void shouldThrowException_whenBulkRequestHasDuplicateUsername() {
+
+        // given
+        UserBulkCreateRequest bulkRequest = new UserBulkCreateRequest(List.of(
+                new UserCreateRequest("유저1", "user1@codeit.com", "pass1234"),
+                new UserCreateRequest("유저1", "user2@codeit.com", "pass1234")
+        ));
+
+        // when & then
+        assertThatThrownBy(() -> userService.createAll(bulkRequest))
+                .isInstanceOf(UserAlreadyExistsException.class);
+
+        then(userRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("대량 등록 요청 중 기존 유저와 충돌하면 아무것도 저장하지 않는다.")
+    void shouldInsertNothing_whenBulkRequestConflictsWithExistingUser() {
+
+        // given
+        UserBulkCreateRequest bulkRequest = new UserBulkCreateRequest(List.of(
+                new UserCreateRequest("유저1", "user1@codeit.com", "pass1234"),
+                new UserCreateRequest("유저2", "user2@codeit.com", "pass1234")
+        ));
+
+        given(userRepository.findIdentitiesByUsernameInOrEmailIn(anyCollection(),
+                anyCollection())).willReturn(
+                List.of(new UserIdentityRow(UUID.randomUUID(), "기존유저", "user2@codeit.com")));
+
+        // when & then
+        assertThatThrownBy(() -> userService.createAll(bulkRequest))
+                .isInstanceOf(UserAlreadyExistsException.class);
+
+        then(userRepository).should(never()).insertAllWithStatus(anyList());
+    }
+
+    @Test
+    @DisplayName("대량 등록 중 동시 요청과 유니크 제약이 충돌하면 다시 조회해 충돌한 유저명을 알린다.")
+    void shouldReportConflictingUsername_whenBulkInsertViolatesUniqueConstraint() {
+
+        // given
+        UserBulkCreateRequest bulkRequest = new UserBulkCreateRequest(List.of(
+                new UserCreateRequest("유저1", "user1@codeit.com", "pass1234"),
+                new UserCreateRequest("유저2", "user2@codeit.com", "pass1234")
+        ));
+
+        given(userRepository.findIdentitiesByUsernameInOrEmailIn(anyCollection(),
+                anyCollection())).willReturn(
+                List.of(),
+                List.of(new UserIdentityRow(UUID.randomUUID(), "유저2", "other@codeit.com")));
+        given(passwordHasher.hashAll(anyList())).willReturn(List.of("hashed-1", "hashed-2"));
+        willThrow(new DataIntegrityViolationException("uk_users_username"))
+                .given(userRepository).insertAllWithStatus(anyList());
+
+        // when & then
+        assertThatThrownBy(() -> userService.createAll(bulkRequest))
+                .isInstanceOfSatisfying(UserAlreadyExistsException.class, e -> {
+                    assertThat(e.getUserName()).isEqualTo("유저2");
+                    assertThat(e.getEmail()).isNull();
+                });
+        then(loginAttemptGuard).should(never()).forgetUnknown(any());
+    }
+
+    @Test
+    @DisplayName("유저 조회 시 캐시된 DTO의 online을 다시 계산할 수 있도록 유저 상태를 PresenceRegistry에 등록한다.")
+    void shouldLoadPresence_whenFindingUser() {
+
+        // given
+        User user = createUser("테스터", "tester@codeit.com", "tester1234");
+        UUID userId = user.getId();
+        UserStatus userStatus = UserStatus.builder()
+                .user(user)
+                .lastActiveAt(Instant.now())
+                .build();
+        user.setStatus(userStatus);
+
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(userMapper.toDto(user)).willReturn(createUserDto(user));
+
+        // when
+        userService.find(userId);
+
+        // then
+        then(presenceRegistry).should().loadIfOnline(userId, userStatus);
     }
 
     @Test
@@ -273,6 +588,8 @@ public class UserServiceTest {
         // then
         then(userRepository).should().existsById(userId);
         then(userRepository).should().deleteById(userId);
+        then(presenceRegistry).should().evict(userId);
+        then(eventPublisher).should().publishEvent(UserChangedEvent.deleted(userId));
     }
 
     @Test
@@ -292,4 +609,95 @@ public class UserServiceTest {
         then(userRepository).should().existsById(userId);
         then(userRepository).should(never()).deleteById(userId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("커서 이후의 유저를 이스케이프된 접두어로 조회하고 마지막 유저명으로 다음 커서를 만든다.")
+    void shouldFindPageAfterCursorWithEscapedPrefix_whenFindingAll() {
+
+        // given
+        Pageable pageable = PageRequest.of(0, 1);
+        String cursor = new UserCursor("al").encode();
+        UserRow row = new UserRow(UUID.randomUUID(), "al_ice", "al_ice@codeit.com", null,
+                null, null, null, null, null);
+        UserDto userDto = new UserDto(row.id(), row.username(), row.email(), null, false);
+        String nextCursor = new UserCursor("al_ice").encode();
+
+        given(userRepository.findPageByUsernameAfter("al", "al\\_%", pageable))
+                .willReturn(new SliceImpl<>(List.of(row), pageable, true));
+        given(userMapper.toDto(row)).willReturn(userDto);
+        given(pageResponseMapper.fromSlice(ArgumentMatchers.<Slice<UserDto>>any(),
+                eq(nextCursor)))
+                .willReturn(new PageResponse<>(List.of(userDto), nextCursor, 1, true, null));
+
+        // when
+        PageResponse<UserDto> result = userService.findAll(cursor, "al_", pageable);
+
+        // then
+        assertThat(result.content()).containsExactly(userDto);
+        assertThat(result.nextCursor()).isEqualTo(nextCursor);
+        then(userRepository).should(never()).findAll();
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 커서로 유저 목록을 조회하면 예외가 발생한다.")
+    void shouldThrowException_whenUserCursorIsInvalid() {
+
+        // when & then
+        assertThatThrownBy(() -> userService.findAll("not base64!", null, PageRequest.of(0, 10)))
+                .isInstanceOf(InvalidUserCursorException.class);
+        then(userRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("검색 인덱스가 반환한 순서대로 유저를 조회하고 이미 삭제된 유저는 제외한다.")
+    void shouldReturnUsersInIndexOrder_whenSearching() {
+
+        // given
+        UserRow bob = new UserRow(UUID.randomUUID(), "bob", "bob@codeit.com", null,
+                null, null, null, null, null);
+        UserRow bobby = new UserRow(UUID.randomUUID(), "Bobby", "bobby@codeit.com", null,
+                null, null, null, null, null);
+        UUID deletedId = UUID.randomUUID();
+        List<UUID> ids = List.of(bob.id(), deletedId, bobby.id());
+
+        given(userSearchIndex.search("bo", 3)).willReturn(ids);
+        given(userRepository.findRowsByIdIn(ids)).willReturn(List.of(bobby, bob));
+        given(userMapper.toDto(any(UserRow.class))).willAnswer(invocation -> {
+            UserRow row = invocation.getArgument(0);
+            return new UserDto(row.id(), row.username(), row.email(), null, false);
+        });
+
+        // when
+        List<UserDto> result = userService.search("  bo ", 3);
+
+        // then
+        assertThat(result)
+                .extracting(UserDto::username)
+                .containsExactly("bob", "Bobby");
+    }
+
+    @Test
+    @DisplayName("검색 결과 수는 최대값으로 제한하고 빈 검색어는 인덱스를 조회하지 않는다.")
+    void shouldClampLimitAndSkipBlankQuery_whenSearching() {
+
+        // given
+        given(userSearchIndex.search("a", userSearchProperties.getMaxLimit()))
+                .willReturn(List.of());
+
+        // when
+        List<UserDto> clamped = userService.search("a", 10_000);
+        List<UserDto> blank = userService.search("   ", null);
+
+        // then
+        assertThat(clamped).isEmpty();
+        assertThat(blank).isEmpty();
+        then(userSearchIndex).should().search("a", userSearchProperties.getMaxLimit());
+        then(userRepository).shouldHaveNoInteractions();
+    }
+
+    private DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("constraint violation",
+                new ConstraintViolationException("constraint violation", new SQLException(),
+                        constraintName));
+    }
+}
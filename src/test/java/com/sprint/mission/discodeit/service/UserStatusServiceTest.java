@@ -0,0 +1,97 @@
+package com.sprint.mission.discodeit.service;
+
+import static com.sprint.mission.discodeit.fixture.UserFixture.createUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.sprint.mission.discodeit.dto.UserStatus.UserStatusCreateRequest;
+import com.sprint.mission.discodeit.dto.UserStatus.UserStatusDto;
+import com.sprint.mission.discodeit.dto.UserStatus.UserStatusUpdateRequest;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.entity.UserStatus;
+import com.sprint.mission.discodeit.mapper.UserStatusMapper;
+import com.sprint.mission.discodeit.presence.PresenceRegistry;
+import com.sprint.mission.discodeit.presence.PresenceRegistry.Presence;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.repository.UserStatusRepository;
+import com.sprint.mission.discodeit.service.basic.BasicUserStatusService;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserStatusService 단위 테스트")
+public class UserStatusServiceTest {
+
+    @Mock
+    private UserStatusRepository userStatusRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserStatusMapper userStatusMapper;
+    @Mock
+    private PresenceRegistry presenceRegistry;
+
+    @InjectMocks
+    private BasicUserStatusService userStatusService;
+
+    @Test
+    @DisplayName("UserStatus를 생성하면 캐시된 DTO가 온라인으로 보이도록 PresenceRegistry에도 등록한다.")
+    void shouldLoadPresence_whenCreatingUserStatus() {
+
+        // given
+        User user = createUser("테스터", "tester@codeit.com", "tester1234");
+        UUID userId = user.getId();
+        Instant now = Instant.now();
+
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+
+        // when
+        userStatusService.create(new UserStatusCreateRequest(userId, now));
+
+        // then
+        ArgumentCaptor<UserStatus> captor = ArgumentCaptor.forClass(UserStatus.class);
+        then(userStatusRepository).should().save(captor.capture());
+        then(presenceRegistry).should().loadIfOnline(userId, captor.getValue());
+        assertThat(captor.getValue().getLastActiveAt()).isEqualTo(now);
+    }
+
+    @Test
+    @DisplayName("UserStatus 수정은 엔티티를 바꾸지 않고 PresenceRegistry에 하트비트로 기록한다.")
+    void shouldTouchPresence_whenUpdatingUserStatus() {
+
+        // given
+        User user = createUser("테스터", "tester@codeit.com", "tester1234");
+        UUID userId = user.getId();
+        UUID statusId = UUID.randomUUID();
+        Instant persisted = Instant.now().minusSeconds(600);
+        Instant now = Instant.now();
+        UserStatus userStatus = UserStatus.builder()
+                .user(user)
+                .lastActiveAt(persisted)
+                .build();
+
+        given(userStatusRepository.findById(statusId)).willReturn(Optional.of(userStatus));
+        given(presenceRegistry.touch(userId, statusId, now))
+                .willReturn(new Presence(statusId, now));
+
+        // when
+        UserStatusDto result = userStatusService.update(statusId,
+                new UserStatusUpdateRequest(now));
+
+        // then
+        assertThat(result).isEqualTo(new UserStatusDto(statusId, userId, now));
+        assertThat(userStatus.getLastActiveAt()).isEqualTo(persisted);
+        then(userStatusMapper).should(never()).toDto(any(UserStatus.class));
+    }
+}
@@ -0,0 +1,233 @@
+package com.sprint.mission.discodeit.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.config.ChannelEventProperties;
+import com.sprint.mission.discodeit.dto.Message.MessageDto;
+import com.sprint.mission.discodeit.event.MessageChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@DisplayName("ChannelEventHub 단위 테스트")
+public class ChannelEventHubTest {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private SimpleMeterRegistry meterRegistry;
+    private ChannelEventHub channelEventHub;
+
+    @BeforeEach
+    void setUp() {
+        ChannelEventProperties properties = new ChannelEventProperties();
+        properties.setQueueCapacity(2);
+
+        meterRegistry = new SimpleMeterRegistry();
+        channelEventHub = new ChannelEventHub(new ObjectMapper().findAndRegisterModules(),
+                tasks::add, properties, meterRegistry);
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static MessageDto messageDto(UUID channelId, String content) {
+        return new MessageDto(UUID.randomUUID(), Instant.now(), null, content, channelId, null,
+                List.of());
+    }
+
+    @Test
+    @DisplayName("커밋된 메시지 이벤트를 같은 채널의 구독자에게만 전달한다.")
+    void shouldFanOutToChannelSubscribers_whenMessageCreated() {
+
+        // given
+        UUID channelId = UUID.randomUUID();
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        RecordingEmitter otherChannel = new RecordingEmitter();
+        channelEventHub.register(channelId, first);
+        channelEventHub.register(channelId, second);
+        channelEventHub.register(UUID.randomUUID(), otherChannel);
+
+        // when
+        channelEventHub.on(MessageChangedEvent.created(messageDto(channelId, "안녕하세요")));
+        runTasks();
+
+        // then
+        assertThat(first.sent).hasSize(1);
+        assertThat(first.sent.get(0))
+                .contains("event:message.created")
+                .contains("\"content\":\"안녕하세요\"");
+        assertThat(second.sent).containsExactlyElementsOf(first.sent);
+        assertThat(otherChannel.sent).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제 이벤트는 메시지 ID와 채널 ID만 전달한다.")
+    void shouldSendIdsOnly_whenMessageDeleted() {
+
+        // given
+        UUID channelId = UUID.randomUUID();
+        UUID messageId = UUID.randomUUID();
+        RecordingEmitter emitter = new RecordingEmitter();
+        channelEventHub.register(channelId, emitter);
+
+        // when
+        channelEventHub.on(MessageChangedEvent.deleted(channelId, messageId));
+        runTasks();
+
+        // then
+        assertThat(emitter.sent).hasSize(1);
+        assertThat(emitter.sent.get(0))
+                .contains("event:message.deleted")
+                .contains("id:" + messageId)
+                .contains("\"channelId\":\"" + channelId + "\"");
+    }
+
+    @Test
+    @DisplayName("큐가 가득 찬 느린 구독자는 연결을 끊고 다른 구독자에게는 계속 전달한다.")
+    void shouldDropSlowSubscriber_whenQueueOverflows() {
+
+        // given
+        UUID channelId = UUID.randomUUID();
+        RecordingEmitter slow = new RecordingEmitter();
+        channelEventHub.register(channelId, slow);
+
+        // when: 전송 작업이 실행되지 않는 동안 큐 용량(2)보다 많은 이벤트 발생
+        for (int i = 0; i < 3; i++) {
+            channelEventHub.on(MessageChangedEvent.created(messageDto(channelId, "메시지" + i)));
+        }
+
+        // then
+        assertThat(channelEventHub.subscriberCount()).isZero();
+        assertThat(meterRegistry.get("discodeit.sse.dropped").counter().count()).isEqualTo(1);
+
+        runTasks();
+        assertThat(slow.completed).isTrue();
+        assertThat(slow.sent).isEmpty();
+
+        RecordingEmitter fresh = new RecordingEmitter();
+        channelEventHub.register(channelId, fresh);
+        channelEventHub.on(MessageChangedEvent.created(messageDto(channelId, "새 메시지")));
+        runTasks();
+        assertThat(fresh.sent).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 구독자는 목록에서 제거한다.")
+    void shouldRemoveSubscriber_whenSendFails() {
+
+        // given
+        UUID channelId = UUID.randomUUID();
+        RecordingEmitter broken = new RecordingEmitter();
+        broken.failOnSend = true;
+        channelEventHub.register(channelId, broken);
+
+        // when
+        channelEventHub.on(MessageChangedEvent.created(messageDto(channelId, "안녕하세요")));
+        runTasks();
+
+        // then
+        assertThat(channelEventHub.subscriberCount()).isZero();
+        assertThat(meterRegistry.get("discodeit.sse.subscribers").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송 중 sendTimeout 을 넘겨 멈춘 구독자는 heartbeat 에서 해제하고, 전송이 끝나면 완료 처리한다.")
+    void shouldDropStalledSubscriber_whenSendTimesOut() throws Exception {
+
+        // given
+        ChannelEventProperties properties = new ChannelEventProperties();
+        properties.setSendTimeout(Duration.ofMillis(1));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ChannelEventHub hub = new ChannelEventHub(new ObjectMapper().findAndRegisterModules(),
+                task -> new Thread(task).start(), properties, registry);
+
+        UUID channelId = UUID.randomUUID();
+        BlockingEmitter stalled = new BlockingEmitter();
+        hub.register(channelId, stalled);
+        hub.on(MessageChangedEvent.created(messageDto(channelId, "안녕하세요")));
+        assertThat(stalled.sending.await(1, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(5);
+
+        // when
+        hub.heartbeat();
+
+        // then
+        assertThat(hub.subscriberCount()).isZero();
+        assertThat(registry.get("discodeit.sse.dropped").counter().count()).isEqualTo(1);
+        assertThat(stalled.completed.getCount()).isEqualTo(1);
+
+        stalled.release.countDown();
+        assertThat(stalled.completed.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    /**
+     * 첫 전송에서 release 될 때까지 멈추는 emitter
+     */
+    private static class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+
+    /**
+     * 전송된 이벤트를 문자열로 기록하는 emitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> sent = new ArrayList<>();
+        private boolean failOnSend;
+        private boolean completed;
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            if (failOnSend) {
+                throw new IOException("연결 끊김");
+            }
+            sent.add(items.stream()
+                    .map(item -> String.valueOf(item.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
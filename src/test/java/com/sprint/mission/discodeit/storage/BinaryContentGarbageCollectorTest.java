@@ -0,0 +1,122 @@
+package com.sprint.mission.discodeit.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.sprint.mission.discodeit.config.StorageGcProperties;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BinaryContentGarbageCollector 단위 테스트")
+public class BinaryContentGarbageCollectorTest {
+
+    @Mock
+    private BinaryContentStorage binaryContentStorage;
+
+    @Mock
+    private BinaryContentRepository binaryContentRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BinaryContentGarbageCollector garbageCollector;
+
+    private final Instant now = Instant.parse("2025-01-02T00:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        StorageGcProperties gcProperties = new StorageGcProperties();
+        gcProperties.setGracePeriod(Duration.ofHours(24));
+        gcProperties.setBatchSize(2);
+        gcProperties.setDeletesPerSecond(1000);
+
+        meterRegistry = new SimpleMeterRegistry();
+        garbageCollector = new BinaryContentGarbageCollector(binaryContentStorage,
+                binaryContentRepository, gcProperties, new SyncTaskExecutor(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("유예 기간이 지난 참조 없는 파일만 삭제하고 회수한 크기를 기록한다.")
+    void shouldDeleteOnlyOldOrphans_whenCollecting() {
+
+        // given
+        Instant old = now.minus(Duration.ofDays(2));
+        StoredObject referenced = new StoredObject(UUID.randomUUID(), 10L, old);
+        StoredObject orphan1 = new StoredObject(UUID.randomUUID(), 20L, old);
+        StoredObject orphan2 = new StoredObject(UUID.randomUUID(), 30L, old);
+        StoredObject recent = new StoredObject(UUID.randomUUID(), 40L, now.minusSeconds(60));
+
+        given(binaryContentStorage.list())
+                .willReturn(Stream.of(referenced, orphan1, recent, orphan2));
+        given(binaryContentRepository.findExistingIds(anyCollection()))
+                .willReturn(List.of(referenced.id()))
+                .willReturn(List.of());
+
+        // when
+        long deleted = garbageCollector.collect(now);
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        then(binaryContentStorage).should().delete(orphan1.id());
+        then(binaryContentStorage).should().delete(orphan2.id());
+        then(binaryContentStorage).should(never()).delete(referenced.id());
+        then(binaryContentStorage).should(never()).delete(recent.id());
+        then(binaryContentRepository).should(times(2))
+                .findExistingIds(anyCollection());
+
+        assertThat(meterRegistry.counter("discodeit.storage.gc.scanned").count()).isEqualTo(4);
+        assertThat(meterRegistry.counter("discodeit.storage.gc.deleted").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("discodeit.storage.gc.reclaimed").count()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("유예 기간 이내의 파일만 있으면 DB를 조회하지 않는다.")
+    void shouldNotQueryRepository_whenAllObjectsAreWithinGracePeriod() {
+
+        // given
+        given(binaryContentStorage.list()).willReturn(Stream.of(
+                new StoredObject(UUID.randomUUID(), 10L, now.minusSeconds(10))));
+
+        // when
+        long deleted = garbageCollector.collect(now);
+
+        // then
+        assertThat(deleted).isZero();
+        then(binaryContentRepository).should(never()).findExistingIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("이전 GC 가 아직 실행 중이라 제출이 거절되면 이번 주기는 건너뛴다.")
+    void shouldSkipRun_whenExecutorIsBusy() {
+
+        // given
+        StorageGcProperties gcProperties = new StorageGcProperties();
+        BinaryContentGarbageCollector busyCollector = new BinaryContentGarbageCollector(
+                binaryContentStorage, binaryContentRepository, gcProperties, task -> {
+            throw new TaskRejectedException("busy");
+        }, meterRegistry);
+
+        // when
+        busyCollector.run();
+
+        // then
+        then(binaryContentStorage).should(never()).list();
+    }
+}
@@ -0,0 +1,203 @@
+package com.sprint.mission.discodeit.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.sprint.mission.discodeit.config.UploadProperties;
+import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentCreateRequest;
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.event.BinaryContentCreatedEvent;
+import com.sprint.mission.discodeit.repository.BinaryContentRepository;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.web.MockMultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BinaryContentUploader 단위 테스트")
+public class BinaryContentUploaderTest {
+
+    @Mock
+    private BinaryContentStorage binaryContentStorage;
+
+    @Mock
+    private BinaryContentRepository binaryContentRepository;
+
+    @TempDir
+    Path stagingRoot;
+
+    private BinaryContentUploader binaryContentUploader;
+
+    private boolean rejecting;
+
+    @BeforeEach
+    void setUp() {
+        UploadProperties uploadProperties = new UploadProperties();
+        uploadProperties.setStagingPath(stagingRoot.toString());
+
+        binaryContentUploader = new BinaryContentUploader(binaryContentStorage,
+                binaryContentRepository, task -> {
+                    if (rejecting) {
+                        throw new TaskRejectedException("업로드 큐가 가득 찼습니다.");
+                    }
+                    task.run();
+                }, uploadProperties);
+        binaryContentUploader.init();
+    }
+
+    @Test
+    @DisplayName("커밋 이후 파일을 스토리지에 저장하고 READY로 변경한다.")
+    void shouldUploadAndMarkReady_whenTransactionCommitted() throws Exception {
+
+        // given
+        UUID id = UUID.randomUUID();
+        byte[] bytes = "테스트 이미지".getBytes(StandardCharsets.UTF_8);
+        BinaryContentCreateRequest request = new BinaryContentCreateRequest("test.png",
+                "image/png", bytes.length, new ByteArrayResource(bytes));
+
+        given(binaryContentStorage.put(eq(id), any(InputStream.class), eq((long) bytes.length)))
+                .willReturn(id);
+
+        // when
+        binaryContentUploader.handle(new BinaryContentCreatedEvent(id, request));
+
+        // then
+        then(binaryContentStorage).should()
+                .put(eq(id), any(InputStream.class), eq((long) bytes.length));
+        then(binaryContentRepository).should().updateStatus(id, BinaryContentStatus.READY);
+        assertThat(Files.exists(stagingRoot.resolve(id.toString()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("multipart 파일은 스트림으로 복사하지 않고 transferTo 로 임시 경로에 옮긴다.")
+    void shouldTransferMultipartFile_insteadOfCopyingStream() throws Exception {
+
+        // given
+        UUID id = UUID.randomUUID();
+        byte[] bytes = "테스트 이미지".getBytes(StandardCharsets.UTF_8);
+        MockMultipartFile file = new MockMultipartFile("file", "test.png", "image/png", bytes) {
+            @Override
+            public InputStream getInputStream() {
+                throw new AssertionError("multipart 파일을 스트림으로 복사했습니다.");
+            }
+        };
+        BinaryContentCreateRequest request = new BinaryContentCreateRequest("test.png",
+                "image/png", bytes.length, file);
+
+        given(binaryContentStorage.put(eq(id), any(InputStream.class), eq((long) bytes.length)))
+                .willReturn(id);
+
+        // when
+        binaryContentUploader.handle(new BinaryContentCreatedEvent(id, request));
+
+        // then
+        then(binaryContentRepository).should().updateStatus(id, BinaryContentStatus.READY);
+        assertThat(Files.exists(stagingRoot.resolve(id + ".tmp"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("스토리지 저장에 실패하면 FAILED로 변경하고 임시 파일을 삭제한다.")
+    void shouldMarkFailed_whenStoragePutFails() {
+
+        // given
+        UUID id = UUID.randomUUID();
+        byte[] bytes = "테스트 이미지".getBytes(StandardCharsets.UTF_8);
+        BinaryContentCreateRequest request = new BinaryContentCreateRequest("test.png",
+                "image/png", bytes.length, new ByteArrayResource(bytes));
+
+        given(binaryContentStorage.put(eq(id), any(InputStream.class), anyLong()))
+                .willThrow(new RuntimeException("S3 오류"));
+
+        // when
+        binaryContentUploader.handle(new BinaryContentCreatedEvent(id, request));
+
+        // then
+        then(binaryContentRepository).should().updateStatus(id, BinaryContentStatus.FAILED);
+        then(binaryContentRepository).should(never())
+                .updateStatus(id, BinaryContentStatus.READY);
+        assertThat(Files.exists(stagingRoot.resolve(id.toString()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("임시 저장에 실패하면 요청 스레드가 아닌 executor 에서 FAILED로 변경한다.")
+    void shouldMarkFailedOnExecutor_whenStagingFails() {
+
+        // given
+        UUID id = UUID.randomUUID();
+        BinaryContentCreateRequest request = new BinaryContentCreateRequest("test.png",
+                "image/png", 3, new ByteArrayResource(new byte[3]) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                throw new IOException("multipart 임시 파일이 삭제되었습니다.");
+            }
+        });
+        rejecting = true;
+
+        // when
+        binaryContentUploader.handle(new BinaryContentCreatedEvent(id, request));
+
+        // then
+        verifyNoInteractions(binaryContentRepository);
+
+        // when
+        rejecting = false;
+        binaryContentUploader.handle(new BinaryContentCreatedEvent(id, request));
+
+        // then
+        then(binaryContentRepository).should().updateStatus(id, BinaryContentStatus.FAILED);
+        assertThat(stagingRoot.toFile().list()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("executor 가 업로드를 거절하면 임시 파일을 남기고, 복구 주기에 다시 업로드한다.")
+    void shouldKeepStagedFileAndRetry_whenUploadRejected() {
+
+        // given
+        UUID id = UUID.randomUUID();
+        byte[] bytes = "테스트 이미지".getBytes(StandardCharsets.UTF_8);
+        BinaryContentCreateRequest request = new BinaryContentCreateRequest("test.png",
+                "image/png", bytes.length, new ByteArrayResource(bytes));
+        rejecting = true;
+
+        // when
+        binaryContentUploader.handle(new BinaryContentCreatedEvent(id, request));
+
+        // then
+        verifyNoInteractions(binaryContentStorage, binaryContentRepository);
+        assertThat(Files.exists(stagingRoot.resolve(id.toString()))).isTrue();
+
+        // given
+        rejecting = false;
+        given(binaryContentRepository.findById(id)).willReturn(
+                Optional.of(new BinaryContent("test.png", (long) bytes.length, "image/png")));
+
+        // when
+        binaryContentUploader.recover();
+
+        // then
+        then(binaryContentStorage).should()
+                .put(eq(id), any(InputStream.class), eq((long) bytes.length));
+        then(binaryContentRepository).should().updateStatus(id, BinaryContentStatus.READY);
+        assertThat(Files.exists(stagingRoot.resolve(id.toString()))).isFalse();
+    }
+}
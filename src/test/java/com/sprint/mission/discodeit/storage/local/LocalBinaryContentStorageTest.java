@@ -0,0 +1,167 @@
+package com.sprint.mission.discodeit.storage.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentDto;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.storage.StoredObject;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@DisplayName("LocalBinaryContentStorage 테스트")
+public class LocalBinaryContentStorageTest {
+
+    @TempDir
+    Path root;
+
+    private LocalBinaryContentStorage localBinaryContentStorage;
+
+    @BeforeEach
+    void setUp() {
+        localBinaryContentStorage = new LocalBinaryContentStorage(root.toString(), 2,
+                FsyncPolicy.FILE);
+        localBinaryContentStorage.init();
+    }
+
+    @Test
+    @DisplayName("유효한 저장 요청으로 스트림 데이터를 파일로 저장할 수 있다.")
+    void shouldPutBinaryContent_whenValidRequest() throws IOException {
+
+        // given
+        UUID id = UUID.randomUUID();
+        byte[] content = "테스트 파일".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        UUID result = localBinaryContentStorage.put(id, new ByteArrayInputStream(content),
+                content.length);
+
+        // then
+        assertThat(result).isEqualTo(id);
+        assertThat(Files.readAllBytes(localBinaryContentStorage.resolvePath(id)))
+                .isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("이미 존재하는 파일 ID로 저장 요청시 예외가 발생한다.")
+    void shouldThrowException_whenPuttingExistingFile() {
+
+        // given
+        UUID id = UUID.randomUUID();
+        byte[] content = "테스트 파일".getBytes(StandardCharsets.UTF_8);
+        localBinaryContentStorage.put(id, new ByteArrayInputStream(content), content.length);
+
+        // when & then
+        assertThatThrownBy(() -> localBinaryContentStorage.put(id,
+                new ByteArrayInputStream(content), content.length))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("다운로드 응답은 파일 리소스와 ETag, Last-Modified, Range 지원 헤더를 포함한다.")
+    void shouldReturnFileResourceWithCacheHeaders_whenDownloading() {
+
+        // given
+        UUID id = UUID.randomUUID();
+        byte[] content = "테스트 파일".getBytes(StandardCharsets.UTF_8);
+        localBinaryContentStorage.put(id, new ByteArrayInputStream(content), content.length);
+        BinaryContentDto metaData = new BinaryContentDto(id, "test.txt", (long) content.length,
+                "text/plain", BinaryContentStatus.READY);
+
+        // when
+        ResponseEntity<Resource> result = localBinaryContentStorage.download(metaData);
+
+        // then
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getBody()).isInstanceOf(FileSystemResource.class);
+        assertThat(result.getHeaders().getETag()).isEqualTo(
+                "\"" + id + "-" + content.length + "\"");
+        assertThat(result.getHeaders().getLastModified()).isPositive();
+        assertThat(result.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+    }
+
+    @Test
+    @DisplayName("저장된 파일 목록을 조회하고 삭제할 수 있으며 ID 형식이 아닌 파일은 제외한다.")
+    void shouldListAndDeleteStoredFiles_whenGivenRoot() throws IOException {
+
+        // given
+        UUID id = UUID.randomUUID();
+        byte[] content = "테스트 파일".getBytes(StandardCharsets.UTF_8);
+        localBinaryContentStorage.put(id, new ByteArrayInputStream(content), content.length);
+        Files.writeString(root.resolve("not-a-uuid.tmp"), "임시");
+
+        // when
+        List<StoredObject> listed;
+        try (Stream<StoredObject> objects = localBinaryContentStorage.list()) {
+            listed = objects.toList();
+        }
+        localBinaryContentStorage.delete(id);
+
+        // then
+        assertThat(listed).hasSize(1);
+        assertThat(listed.get(0).id()).isEqualTo(id);
+        assertThat(listed.get(0).size()).isEqualTo(content.length);
+        assertThat(Files.exists(localBinaryContentStorage.resolvePath(id))).isFalse();
+    }
+
+    @Test
+    @DisplayName("파일은 UUID 앞 글자로 나눈 샤드 경로에 저장되고 임시 파일은 남지 않는다.")
+    void shouldStoreUnderShardDirectory_whenPuttingFile() throws IOException {
+
+        // given
+        UUID id = UUID.randomUUID();
+        String name = id.toString();
+        byte[] content = "테스트 파일".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        localBinaryContentStorage.put(id, new ByteArrayInputStream(content), content.length);
+
+        // then
+        Path expected = root.resolve(name.substring(0, 2)).resolve(name.substring(2, 4))
+                .resolve(name);
+        assertThat(localBinaryContentStorage.resolvePath(id)).isEqualTo(expected);
+        assertThat(Files.readAllBytes(expected)).isEqualTo(content);
+        try (Stream<Path> temps = Files.list(root.resolve(".tmp"))) {
+            assertThat(temps).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("평면 구조의 기존 파일은 이동 전에도 조회되고, 이동 후에는 샤드 경로에 위치한다.")
+    void shouldServeAndMigrateFlatFiles_whenLayoutChanged() throws IOException {
+
+        // given
+        UUID id = UUID.randomUUID();
+        byte[] content = "기존 파일".getBytes(StandardCharsets.UTF_8);
+        Files.write(root.resolve(id.toString()), content);
+
+        // when
+        byte[] beforeMigration;
+        try (InputStream inputStream = localBinaryContentStorage.get(id)) {
+            beforeMigration = inputStream.readAllBytes();
+        }
+        int moved = localBinaryContentStorage.migrateFlatLayout();
+
+        // then
+        assertThat(beforeMigration).isEqualTo(content);
+        assertThat(moved).isEqualTo(1);
+        assertThat(Files.exists(root.resolve(id.toString()))).isFalse();
+        assertThat(Files.readAllBytes(localBinaryContentStorage.resolvePath(id))).isEqualTo(content);
+    }
+}
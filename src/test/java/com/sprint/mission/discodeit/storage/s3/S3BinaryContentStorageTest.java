@@ -11,6 +11,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.sprint.mission.discodeit.dto.BinaryContent.BinaryContentDto;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
@@ -80,7 +82,8 @@ public class S3BinaryContentStorageTest {
                 PutObjectResponse.builder().build());
 
         // when
-        UUID result = s3BinaryContentStorage.put(id, content);
+        UUID result = s3BinaryContentStorage.put(id, new ByteArrayInputStream(content),
+                content.length);
 
         // then
         assertThat(result).isEqualTo(id);
@@ -120,7 +123,8 @@ public class S3BinaryContentStorageTest {
 
         // given
         UUID id = UUID.randomUUID();
-        BinaryContentDto metadata = new BinaryContentDto(id, "test.png", 1024L, "img/png");
+        BinaryContentDto metadata = new BinaryContentDto(id, "test.png", 1024L, "img/png",
+                BinaryContentStatus.READY);
 
         URI expectedUri = URI.create("http://testBucket/test.png");
 
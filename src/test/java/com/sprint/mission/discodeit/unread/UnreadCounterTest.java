@@ -0,0 +1,133 @@
+package com.sprint.mission.discodeit.unread;
+
+import static com.sprint.mission.discodeit.fixture.MessageFixture.createMessage;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.config.UnreadCountProperties;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.repository.ChannelRepository;
+import com.sprint.mission.discodeit.repository.MessageRepository;
+import com.sprint.mission.discodeit.repository.ReadStatusRepository;
+import com.sprint.mission.discodeit.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("UnreadCounter 슬라이스 테스트")
+public class UnreadCounterTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private ReadStatusRepository readStatusRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private final Instant lastReadAt = Instant.parse("2025-01-01T01:00:00Z");
+
+    private UnreadCounter unreadCounter;
+    private User reader;
+    private User writer;
+    private Channel channel;
+    private ReadStatus readStatus;
+
+    @BeforeEach
+    void setUp() {
+        unreadCounter = new UnreadCounter(jdbcTemplate, transactionManager,
+                new UnreadCountProperties(), new SimpleMeterRegistry());
+
+        reader = new User("reader", "reader@codeit.com", "test1234", null, null);
+        writer = new User("writer", "writer@codeit.com", "test1234", null, null);
+        channel = new Channel(ChannelType.PUBLIC, "테스트 채널", "테스트 채널입니다.");
+        ReflectionTestUtils.setField(reader, "createdAt", Instant.now());
+        ReflectionTestUtils.setField(writer, "createdAt", Instant.now());
+        ReflectionTestUtils.setField(channel, "createdAt", Instant.now());
+        userRepository.saveAll(List.of(reader, writer));
+        channelRepository.save(channel);
+
+        readStatus = new ReadStatus(reader, channel, lastReadAt);
+        ReflectionTestUtils.setField(readStatus, "createdAt", Instant.now());
+        readStatusRepository.save(readStatus);
+
+        em.flush();
+    }
+
+    private int unreadCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT unread_count FROM read_statuses WHERE id = ?", Integer.class,
+                readStatus.getId());
+    }
+
+    @Test
+    @DisplayName("마지막으로 읽은 이후 다른 유저가 작성한 메시지만 안 읽은 메시지 수에 반영한다.")
+    void shouldIncrementOnlyForOthersMessagesAfterLastRead_whenFlushing() {
+
+        // given
+        unreadCounter.record(channel.getId(), writer.getId(), lastReadAt.plusSeconds(1));
+        unreadCounter.record(channel.getId(), writer.getId(), lastReadAt.plusSeconds(2));
+        unreadCounter.record(channel.getId(), reader.getId(), lastReadAt.plusSeconds(3));
+        unreadCounter.record(channel.getId(), writer.getId(), lastReadAt.minusSeconds(1));
+
+        // when
+        int flushed = unreadCounter.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(4);
+        assertThat(unreadCount()).isEqualTo(2);
+        assertThat(unreadCounter.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("보정 시 messages 테이블 기준으로 안 읽은 메시지 수를 다시 계산한다.")
+    void shouldRecountFromMessages_whenReconciling() {
+
+        // given
+        Message before = createMessage("읽은 메시지", channel, writer, lastReadAt.minusSeconds(1));
+        Message after = createMessage("안 읽은 메시지", channel, writer, lastReadAt.plusSeconds(1));
+        Message own = createMessage("내 메시지", channel, reader, lastReadAt.plusSeconds(2));
+        Message orphan = createMessage("작성자 없음", channel, null, lastReadAt.plusSeconds(3));
+        messageRepository.saveAll(List.of(before, after, own, orphan));
+        em.flush();
+
+        jdbcTemplate.update("UPDATE read_statuses SET unread_count = 7 WHERE id = ?",
+                readStatus.getId());
+
+        // when
+        int corrected = unreadCounter.reconcile();
+
+        // then
+        assertThat(corrected).isEqualTo(1);
+        assertThat(unreadCount()).isEqualTo(2);
+        assertThat(unreadCounter.reconcile()).isZero();
+    }
+}